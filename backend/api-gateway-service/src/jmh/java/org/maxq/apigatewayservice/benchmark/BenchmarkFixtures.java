@@ -0,0 +1,86 @@
+package org.maxq.apigatewayservice.benchmark;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.WebSessionManager;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.List;
+
+final class BenchmarkFixtures {
+
+  static final String USER_EMAIL = "test@test.com";
+  static final List<String> USER_ROLES = List.of("ROLE_OPERATOR", "ROLE_DESIGNER");
+
+  // Shared like in a running server, building codecs per exchange would dominate every benchmark
+  private static final ServerCodecConfigurer CODEC_CONFIGURER = ServerCodecConfigurer.create();
+  private static final WebSessionManager SESSION_MANAGER = new DefaultWebSessionManager();
+  private static final LocaleContextResolver LOCALE_CONTEXT_RESOLVER =
+      new AcceptHeaderLocaleContextResolver();
+
+  private BenchmarkFixtures() {
+  }
+
+  static KeyPair generateKeyPair() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+      generator.initialize(2048);
+      return generator.generateKeyPair();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("RSA is not supported", e);
+    }
+  }
+
+  static Jwt signUserToken(KeyPair keyPair) {
+    RSAKey rsaKey = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+        .privateKey((RSAPrivateKey) keyPair.getPrivate())
+        .keyID("authorization-service")
+        .build();
+    NimbusJwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(rsaKey)));
+
+    JwtClaimsSet claimsSet = JwtClaimsSet.builder()
+        .issuer("authorization-service")
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plusSeconds(3600))
+        .subject(USER_EMAIL)
+        .claim("type", "access_token")
+        .claim("roles", USER_ROLES)
+        .build();
+    JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256).build();
+
+    return encoder.encode(JwtEncoderParameters.from(header, claimsSet));
+  }
+
+  static ServerWebExchange jsonExchange(String path) {
+    return exchange(MockServerHttpRequest.get(path)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .build());
+  }
+
+  static ServerWebExchange exchange(MockServerHttpRequest request) {
+    return new DefaultServerWebExchange(request, new MockServerHttpResponse(),
+        SESSION_MANAGER, CODEC_CONFIGURER, LOCALE_CONTEXT_RESOLVER);
+  }
+}
@@ -0,0 +1,43 @@
+package org.maxq.apigatewayservice.benchmark;
+
+import org.maxq.apigatewayservice.controller.config.CustomAccessDeniedHandler;
+import org.maxq.apigatewayservice.controller.config.CustomAuthenticationFailureHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ErrorHandlerBenchmark {
+
+  private CustomAuthenticationFailureHandler authenticationFailureHandler;
+  private CustomAccessDeniedHandler accessDeniedHandler;
+  private BadCredentialsException authenticationException;
+  private AccessDeniedException accessDeniedException;
+
+  @Setup
+  public void setUp() {
+    authenticationFailureHandler = new CustomAuthenticationFailureHandler();
+    accessDeniedHandler = new CustomAccessDeniedHandler();
+    authenticationException = new BadCredentialsException("Invalid token");
+    accessDeniedException = new AccessDeniedException("Access denied");
+  }
+
+  @Benchmark
+  public ServerWebExchange authenticationFailure() {
+    ServerWebExchange exchange = BenchmarkFixtures.jsonExchange("/api/auth/login/me");
+    authenticationFailureHandler.commence(exchange, authenticationException).block();
+    return exchange;
+  }
+
+  @Benchmark
+  public ServerWebExchange accessDenied() {
+    ServerWebExchange exchange = BenchmarkFixtures.jsonExchange("/api/auth/users");
+    accessDeniedHandler.handle(exchange, accessDeniedException).block();
+    return exchange;
+  }
+}
@@ -0,0 +1,144 @@
+package org.maxq.apigatewayservice.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.maxq.apigatewayservice.controller.filter.BasicTokenGatewayFilterFactory;
+import org.maxq.apigatewayservice.controller.filter.RobotJwtFilter;
+import org.maxq.apigatewayservice.controller.filter.UserJwtFilter;
+import org.maxq.apigatewayservice.service.GatewayMetrics;
+import org.maxq.apigatewayservice.service.HmacInternalTokenIssuer;
+import org.maxq.apigatewayservice.service.RobotTokenProvider;
+import org.maxq.apigatewayservice.service.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GatewayFilterBenchmark {
+
+  private static final String BASIC_TOKEN =
+      "Basic " + Base64.getEncoder().encodeToString("test@test.com:password".getBytes());
+
+  private GatewayFilter basicTokenFilter;
+  private UserJwtFilter userJwtFilter;
+  private RobotJwtFilter robotJwtFilter;
+  private RobotJwtFilter hmacRobotJwtFilter;
+  private HmacInternalTokenIssuer hmacInternalTokenIssuer;
+  private TokenService tokenService;
+  private RobotTokenProvider robotTokenProvider;
+  private JwtAuthenticationToken principal;
+
+  @Setup
+  public void setUp() {
+    KeyPair robotKeys = BenchmarkFixtures.generateKeyPair();
+    tokenService = new TokenService("api-gateway-service",
+        (RSAPublicKey) robotKeys.getPublic(), (RSAPrivateKey) robotKeys.getPrivate());
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    GatewayMetrics gatewayMetrics = new GatewayMetrics(meterRegistry);
+    robotTokenProvider = new RobotTokenProvider(tokenService, meterRegistry, 4,
+        Duration.ofSeconds(20), Duration.ofSeconds(10), Duration.ofSeconds(5));
+    robotTokenProvider.start();
+
+    basicTokenFilter = new BasicTokenGatewayFilterFactory().apply(
+        new BasicTokenGatewayFilterFactory.Config("X-Basic-Authorization"));
+    userJwtFilter = new UserJwtFilter(gatewayMetrics);
+    robotJwtFilter = new RobotJwtFilter(robotTokenProvider, gatewayMetrics);
+    hmacInternalTokenIssuer = new HmacInternalTokenIssuer("api-gateway-service",
+        new SecretKeySpec(new byte[32], "HmacSHA256"));
+    hmacRobotJwtFilter = new RobotJwtFilter(hmacInternalTokenIssuer, gatewayMetrics);
+
+    Jwt jwt = BenchmarkFixtures.signUserToken(BenchmarkFixtures.generateKeyPair());
+    principal = new JwtAuthenticationToken(jwt, BenchmarkFixtures.USER_ROLES.stream()
+        .map(SimpleGrantedAuthority::new)
+        .toList());
+  }
+
+  @TearDown
+  public void tearDown() {
+    robotTokenProvider.stop();
+  }
+
+  @Benchmark
+  public ServerWebExchange exchangeBaseline() {
+    return BenchmarkFixtures.jsonExchange("/api/auth/roles");
+  }
+
+  @Benchmark
+  public void basicTokenGatewayFilter(Blackhole blackhole) {
+    ServerWebExchange exchange = BenchmarkFixtures.exchange(
+        MockServerHttpRequest.post("/api/auth/login")
+            .header(HttpHeaders.AUTHORIZATION, BASIC_TOKEN)
+            .build());
+    basicTokenFilter.filter(exchange, capturingChain(blackhole)).block();
+  }
+
+  @Benchmark
+  public void userJwtGlobalFilter(Blackhole blackhole) {
+    ServerWebExchange exchange = BenchmarkFixtures.jsonExchange("/api/auth/login/me")
+        .mutate()
+        .principal(Mono.just(principal))
+        .build();
+    userJwtFilter.filter(exchange, capturingChain(blackhole)).block();
+  }
+
+  @Benchmark
+  public void robotJwtGlobalFilter(Blackhole blackhole) {
+    robotJwtFilter.filter(BenchmarkFixtures.jsonExchange("/api/auth/roles"),
+        capturingChain(blackhole)).block();
+  }
+
+  @Benchmark
+  public String robotTokenSignedPerRequest() {
+    return tokenService.generateToken();
+  }
+
+  @Benchmark
+  public void hmacRobotJwtGlobalFilter(Blackhole blackhole) {
+    hmacRobotJwtFilter.filter(BenchmarkFixtures.jsonExchange("/api/auth/roles"),
+        capturingChain(blackhole)).block();
+  }
+
+  @Benchmark
+  public String hmacTokenSignedPerRequest() {
+    return hmacInternalTokenIssuer.issueToken("test@test.com", "ROLE_USER");
+  }
+
+  @Benchmark
+  public void fullFilterChain(Blackhole blackhole) {
+    ServerWebExchange exchange = BenchmarkFixtures.exchange(
+            MockServerHttpRequest.post("/api/auth/login")
+                .header(HttpHeaders.AUTHORIZATION, BASIC_TOKEN)
+                .build())
+        .mutate()
+        .principal(Mono.just(principal))
+        .build();
+
+    GatewayFilterChain robotChain = next -> robotJwtFilter.filter(next, capturingChain(blackhole));
+    GatewayFilterChain userChain = next -> userJwtFilter.filter(next, robotChain);
+    basicTokenFilter.filter(exchange, userChain).block();
+  }
+
+  private static GatewayFilterChain capturingChain(Blackhole blackhole) {
+    return exchange -> {
+      blackhole.consume(exchange.getRequest().getHeaders());
+      return Mono.empty();
+    };
+  }
+}
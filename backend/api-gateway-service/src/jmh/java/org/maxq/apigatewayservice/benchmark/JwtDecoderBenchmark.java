@@ -0,0 +1,45 @@
+package org.maxq.apigatewayservice.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.maxq.apigatewayservice.security.decoder.CachingReactiveJwtDecoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtDecoderBenchmark {
+
+  private String token;
+  private ReactiveJwtDecoder nimbusDecoder;
+  private ReactiveJwtDecoder cachingDecoder;
+
+  @Setup
+  public void setUp() {
+    KeyPair userKeys = BenchmarkFixtures.generateKeyPair();
+    token = BenchmarkFixtures.signUserToken(userKeys).getTokenValue();
+
+    nimbusDecoder = NimbusReactiveJwtDecoder
+        .withPublicKey((RSAPublicKey) userKeys.getPublic())
+        .build();
+    cachingDecoder = new CachingReactiveJwtDecoder(nimbusDecoder, new SimpleMeterRegistry(),
+        10_000, Duration.ofMinutes(15), Duration.ofSeconds(30));
+  }
+
+  @Benchmark
+  public Jwt nimbusDecode() {
+    return nimbusDecoder.decode(token).block();
+  }
+
+  @Benchmark
+  public Jwt cachingDecode() {
+    return cachingDecoder.decode(token).block();
+  }
+}
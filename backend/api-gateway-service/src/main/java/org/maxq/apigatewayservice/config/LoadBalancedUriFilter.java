@@ -0,0 +1,35 @@
+package org.maxq.apigatewayservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Resolves {@code lb://service} URIs, as used by routes, through the load balancer and sends
+ * any other URI as is.
+ */
+@RequiredArgsConstructor
+class LoadBalancedUriFilter implements ExchangeFilterFunction {
+
+  private static final String LB_SCHEME = "lb";
+
+  private final LoadBalancedExchangeFilterFunction loadBalancerFilter;
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+    URI uri = request.url();
+    if (!LB_SCHEME.equals(uri.getScheme())) {
+      return next.exchange(request);
+    }
+
+    URI httpUri = UriComponentsBuilder.fromUri(uri).scheme("http").build(true).toUri();
+    return loadBalancerFilter.filter(ClientRequest.from(request).url(httpUri).build(), next);
+  }
+}
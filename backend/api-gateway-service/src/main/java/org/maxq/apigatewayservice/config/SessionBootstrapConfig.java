@@ -0,0 +1,44 @@
+package org.maxq.apigatewayservice.config;
+
+import org.maxq.apigatewayservice.domain.SessionBootstrapSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+
+@Configuration
+public class SessionBootstrapConfig {
+
+  @Bean
+  public SessionBootstrapSettings sessionBootstrapSettings(
+      @Value("${gateway.session-bootstrap.authorization-url:lb://authorization-service}")
+      String authorizationUrl,
+      @Value("${gateway.session-bootstrap.profile-url:lb://profile-service}") String profileUrl,
+      @Value("${gateway.session-bootstrap.me-timeout:2s}") Duration meTimeout,
+      @Value("${gateway.session-bootstrap.profile-timeout:2s}") Duration profileTimeout,
+      @Value("${gateway.session-bootstrap.image-timeout:3s}") Duration imageTimeout,
+      @Value("${gateway.session-bootstrap.image-url:/api/profile/profiles/me/image}") String imageUrl
+  ) {
+    return new SessionBootstrapSettings(
+        authorizationUrl, profileUrl, meTimeout, profileTimeout, imageTimeout, imageUrl);
+  }
+
+  /**
+   * Shares the connection pool of the gateway routes.
+   */
+  @Bean
+  public WebClient sessionBootstrapWebClient(
+      HttpClient httpClient,
+      LoadBalancedExchangeFilterFunction loadBalancerFilter
+  ) {
+    return WebClient.builder()
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .filter(new LoadBalancedUriFilter(loadBalancerFilter))
+        .build();
+  }
+}
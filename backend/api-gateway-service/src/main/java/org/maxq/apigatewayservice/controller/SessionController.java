@@ -0,0 +1,29 @@
+package org.maxq.apigatewayservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.maxq.apigatewayservice.domain.SessionBootstrap;
+import org.maxq.apigatewayservice.service.SessionBootstrapService;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/session")
+@RequiredArgsConstructor
+public class SessionController {
+
+  private final SessionBootstrapService sessionBootstrapService;
+
+  @GetMapping("/bootstrap")
+  public Mono<SessionBootstrap> bootstrap(JwtAuthenticationToken authentication) {
+    Jwt jwt = authentication.getToken();
+    List<String> roles = jwt.getClaimAsStringList("roles");
+    return sessionBootstrapService.bootstrap(
+        jwt.getSubject(), roles == null ? "" : String.join(",", roles));
+  }
+}
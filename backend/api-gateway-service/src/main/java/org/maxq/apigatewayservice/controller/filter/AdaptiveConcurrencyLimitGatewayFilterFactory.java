@@ -0,0 +1,139 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import com.google.gson.Gson;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.apigatewayservice.domain.GradientConcurrencyLimit;
+import org.maxq.apigatewayservice.domain.HttpErrorMessage;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimitGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<AdaptiveConcurrencyLimitGatewayFilterFactory.Config> {
+
+  private static final int ORDER = 5;
+  private static final String ROUTE_TAG = "route";
+  private static final String RETRY_AFTER_SECONDS = "1";
+  private static final Gson GSON = new Gson();
+  private static final byte[] OVERLOADED_BODY = GSON.toJson(
+      new HttpErrorMessage("Service is overloaded, please try again later")
+  ).getBytes(StandardCharsets.UTF_8);
+  private static final Set<HttpStatusCode> OVERLOAD_STATUSES = Set.of(
+      HttpStatus.TOO_MANY_REQUESTS, HttpStatus.BAD_GATEWAY,
+      HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.GATEWAY_TIMEOUT);
+
+  private final ConcurrentMap<String, GradientConcurrencyLimit> limits = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+
+  public AdaptiveConcurrencyLimitGatewayFilterFactory(MeterRegistry meterRegistry) {
+    super(Config.class);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of("initialLimit", "minLimit", "maxLimit");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    String routeId = config.getRouteId() == null ? "" : config.getRouteId();
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(config.getInitialLimit(),
+        config.getMinLimit(), config.getMaxLimit(), config.getRttTolerance(), config.getSmoothing());
+    limits.put(routeId, limit);
+    registerGauges(routeId);
+
+    Counter rejected = Counter.builder("gateway.concurrency.rejected")
+        .description("Requests shed because the route reached its concurrency limit")
+        .tag(ROUTE_TAG, routeId)
+        .register(meterRegistry);
+
+    return new OrderedGatewayFilter((exchange, chain) -> {
+      if (!limit.tryAcquire()) {
+        rejected.increment();
+        log.warn("Concurrency limit {} reached on route '{}'", limit.getLimit(), routeId);
+        return reject(exchange);
+      }
+
+      long start = System.nanoTime();
+      AtomicBoolean sampled = new AtomicBoolean();
+      ServerHttpResponse response = exchange.getResponse();
+
+      response.beforeCommit(() -> {
+        if (sampled.compareAndSet(false, true)) {
+          limit.onSample(System.nanoTime() - start,
+              OVERLOAD_STATUSES.contains(response.getStatusCode()));
+        }
+        return Mono.empty();
+      });
+
+      return chain.filter(exchange)
+          .doOnError(error -> {
+            if (sampled.compareAndSet(false, true)) {
+              limit.onSample(System.nanoTime() - start, true);
+            }
+          })
+          .doFinally(signal -> limit.release());
+    }, ORDER);
+  }
+
+  private void registerGauges(String routeId) {
+    Gauge.builder("gateway.concurrency.limit", limits, current -> current.get(routeId).getLimit())
+        .description("Current adaptive concurrency limit of the route")
+        .tag(ROUTE_TAG, routeId)
+        .register(meterRegistry);
+    Gauge.builder("gateway.concurrency.in.flight", limits,
+            current -> current.get(routeId).getInFlight())
+        .description("Requests currently holding a concurrency slot of the route")
+        .tag(ROUTE_TAG, routeId)
+        .register(meterRegistry);
+  }
+
+  private Mono<Void> reject(ServerWebExchange exchange) {
+    ServerHttpResponse response = exchange.getResponse();
+
+    response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+    response.getHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(OVERLOADED_BODY)));
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Setter
+  @Getter
+  public static class Config implements HasRouteId {
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+    private double rttTolerance = 1.5;
+    private double smoothing = 0.2;
+    private String routeId;
+  }
+}
@@ -0,0 +1,99 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import org.maxq.apigatewayservice.domain.CachedResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+class CachingResponseCapture extends ServerHttpResponseDecorator {
+
+  private final List<String> ifNoneMatch;
+  private final ResponseCacheGatewayFilterFactory.Config config;
+  private final Consumer<CachedResponse> store;
+  private final Runnable onNotModified;
+
+  CachingResponseCapture(ServerHttpResponse delegate, List<String> ifNoneMatch,
+                         ResponseCacheGatewayFilterFactory.Config config,
+                         Consumer<CachedResponse> store, Runnable onNotModified) {
+    super(delegate);
+    this.ifNoneMatch = ifNoneMatch;
+    this.config = config;
+    this.store = store;
+    this.onNotModified = onNotModified;
+  }
+
+  @Override
+  public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+    if (!HttpStatus.OK.equals(getStatusCode())) {
+      return super.writeWith(body);
+    }
+
+    long maxBodyBytes = config.getMaxBodySize().toBytes();
+    AtomicLong size = new AtomicLong();
+
+    return Flux.from(body)
+        .map(DataBuffer.class::cast)
+        .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxBodyBytes)
+        .switchOnFirst((first, chunks) -> size.get() > maxBodyBytes
+            ? getDelegate().writeWith(chunks.flatMapIterable(Function.identity()))
+            : chunks.collectList().flatMap(parts -> writeComplete(join(parts))))
+        .then();
+  }
+
+  private Mono<Void> writeComplete(byte[] body) {
+    String etag = getHeaders().getETag();
+    if (etag == null) {
+      etag = ResponseCachePolicy.etagFor(body);
+      getHeaders().setETag(etag);
+    }
+
+    Duration ttl = ResponseCachePolicy.storableFor(this, config);
+    if (ttl.isPositive()) {
+      store.accept(new CachedResponse(HttpStatus.OK, copy(getHeaders()), body, etag, ttl));
+    }
+
+    if (ResponseCachePolicy.matches(ifNoneMatch, etag)) {
+      onNotModified.run();
+      return ResponseCacheGatewayFilterFactory.writeNotModified(getDelegate(), etag);
+    }
+    return getDelegate().writeWith(Mono.just(bufferFactory().wrap(body)));
+  }
+
+  private static byte[] join(List<List<DataBuffer>> parts) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    parts.forEach(buffers -> buffers.forEach(buffer -> {
+      try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+        while (iterator.hasNext()) {
+          ByteBuffer byteBuffer = iterator.next();
+          byte[] bytes = new byte[byteBuffer.remaining()];
+          byteBuffer.get(bytes);
+          body.writeBytes(bytes);
+        }
+      } finally {
+        DataBufferUtils.release(buffer);
+      }
+    }));
+    return body.toByteArray();
+  }
+
+  private static Map<String, List<String>> copy(Map<String, List<String>> headers) {
+    Map<String, List<String>> copy = new LinkedHashMap<>();
+    headers.forEach((name, values) -> copy.put(name, List.copyOf(values)));
+    return copy;
+  }
+}
@@ -0,0 +1,126 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.gson.Gson;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.apigatewayservice.domain.HttpErrorMessage;
+import org.maxq.apigatewayservice.domain.TokenBucket;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+public class ClientRateLimiterGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<ClientRateLimiterGatewayFilterFactory.Config> {
+
+  private static final Gson GSON = new Gson();
+  private static final byte[] TOO_MANY_REQUESTS_BODY = GSON.toJson(
+      new HttpErrorMessage("Too many requests, please try again later")
+  ).getBytes(StandardCharsets.UTF_8);
+  private static final String UNKNOWN_CLIENT = "unknown";
+
+  public ClientRateLimiterGatewayFilterFactory() {
+    super(Config.class);
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of("capacity", "refillTokens", "refillPeriod");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    validate(config);
+    Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+        .maximumSize(config.getMaxClients())
+        .expireAfterAccess(timeToFill(config))
+        .build();
+
+    return new OrderedGatewayFilter((exchange, chain) -> resolveClientKey(exchange)
+        .flatMap(clientKey -> {
+          TokenBucket bucket = buckets.get(clientKey, key -> new TokenBucket(
+              config.getCapacity(), config.getRefillTokens(), config.getRefillPeriod(),
+              System.nanoTime()));
+          Duration retryAfter = bucket.tryConsume(System.nanoTime());
+
+          if (retryAfter.isZero()) {
+            return chain.filter(exchange);
+          }
+
+          log.debug("Rate limit exceeded for client '{}' on {}", clientKey,
+              exchange.getRequest().getPath());
+          return reject(exchange, retryAfter);
+        }), 0);
+  }
+
+  private Mono<String> resolveClientKey(ServerWebExchange exchange) {
+    return exchange.getPrincipal()
+        .map(Principal::getName)
+        .map(name -> "user:" + name)
+        .switchIfEmpty(Mono.fromSupplier(() -> "ip:" + resolveClientIp(exchange)));
+  }
+
+  private String resolveClientIp(ServerWebExchange exchange) {
+    InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+    if (remoteAddress == null || remoteAddress.getAddress() == null) {
+      return UNKNOWN_CLIENT;
+    }
+    return remoteAddress.getAddress().getHostAddress();
+  }
+
+  private Mono<Void> reject(ServerWebExchange exchange, Duration retryAfter) {
+    ServerHttpResponse response = exchange.getResponse();
+    long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+
+    response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+    response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(TOO_MANY_REQUESTS_BODY)));
+  }
+
+  private static void validate(Config config) {
+    if (config.getCapacity() <= 0 || config.getRefillTokens() <= 0) {
+      throw new IllegalArgumentException("Rate limiter capacity and refill tokens must be positive");
+    }
+    if (config.getRefillPeriod() == null || config.getRefillPeriod().toNanos() <= 0) {
+      throw new IllegalArgumentException("Rate limiter refill period must be positive");
+    }
+  }
+
+  private Duration timeToFill(Config config) {
+    return config.getRefillPeriod()
+        .multipliedBy(config.getCapacity())
+        .dividedBy(config.getRefillTokens());
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Setter
+  @Getter
+  public static class Config {
+    private long capacity = 10;
+    private long refillTokens = 10;
+    private Duration refillPeriod = Duration.ofSeconds(1);
+    private long maxClients = 100_000;
+  }
+}
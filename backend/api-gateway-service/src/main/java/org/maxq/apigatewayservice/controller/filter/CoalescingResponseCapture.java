@@ -0,0 +1,82 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import org.maxq.apigatewayservice.domain.CoalescedResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+
+class CoalescingResponseCapture extends ServerHttpResponseDecorator {
+
+  private final Sinks.One<CoalescedResponse> sink;
+  private final long maxBodyBytes;
+  private boolean overflowed;
+
+  CoalescingResponseCapture(ServerHttpResponse delegate, Sinks.One<CoalescedResponse> sink,
+                            long maxBodyBytes) {
+    super(delegate);
+    this.sink = sink;
+    this.maxBodyBytes = maxBodyBytes;
+  }
+
+  @Override
+  public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+    ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+    Flux<DataBuffer> copyingBody = Flux.from(body)
+        .map(DataBuffer.class::cast)
+        .doOnNext(buffer -> capture(buffer, captured))
+        .doOnComplete(() -> share(captured));
+
+    return super.writeWith(copyingBody);
+  }
+
+  @Override
+  public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+    sink.tryEmitEmpty();
+    return super.writeAndFlushWith(body);
+  }
+
+  @Override
+  public Mono<Void> setComplete() {
+    share(new ByteArrayOutputStream());
+    return super.setComplete();
+  }
+
+  private void capture(DataBuffer buffer, ByteArrayOutputStream captured) {
+    if (overflowed) {
+      return;
+    }
+    if (captured.size() + (long) buffer.readableByteCount() > maxBodyBytes) {
+      overflowed = true;
+      sink.tryEmitEmpty();
+      return;
+    }
+    try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+      while (iterator.hasNext()) {
+        ByteBuffer byteBuffer = iterator.next();
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        captured.writeBytes(bytes);
+      }
+    }
+  }
+
+  private void share(ByteArrayOutputStream captured) {
+    HttpStatusCode status = getStatusCode();
+    if (overflowed || status == null) {
+      sink.tryEmitEmpty();
+      return;
+    }
+    sink.tryEmitValue(new CoalescedResponse(status, new LinkedHashMap<>(getHeaders()),
+        captured.toByteArray()));
+  }
+}
@@ -0,0 +1,152 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import com.google.gson.Gson;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.apigatewayservice.domain.HttpErrorMessage;
+import org.maxq.apigatewayservice.domain.HttpValidationStatus;
+import org.maxq.apigatewayservice.domain.ImageUploadRules;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Validates the image part of a multipart upload from its headers and first bytes before the
+ * request is forwarded, so invalid files never reach the profile-service. The image size is
+ * counted while the body streams and the upload is aborted once it exceeds the limit.
+ */
+@Slf4j
+@Component
+public class ImageUploadValidationGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<ImageUploadValidationGatewayFilterFactory.Config> {
+
+  private static final Gson GSON = new Gson();
+  private static final String BOUNDARY_PARAMETER = "boundary";
+  private static final byte[] UNREADABLE_UPLOAD_BODY = GSON.toJson(
+      new HttpErrorMessage("Upload must start with the file part")
+  ).getBytes(StandardCharsets.UTF_8);
+
+  public ImageUploadValidationGatewayFilterFactory() {
+    super(Config.class);
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of("fieldName", "maxFileSize");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    return (exchange, chain) -> {
+      String boundary = findBoundary(exchange.getRequest());
+      if (boundary == null) {
+        return chain.filter(exchange);
+      }
+
+      MultipartImageInspector inspector = new MultipartImageInspector(boundary,
+          config.getFieldName(), config.getMaxHeadSize().toBytes(),
+          config.getMaxFileSize().toBytes());
+
+      return exchange.getRequest().getBody()
+          .bufferUntil(inspector::appendHead)
+          .switchOnFirst((first, chunks) -> {
+            List<DataBuffer> head = first.hasValue() ? first.get() : List.of();
+            return inspect(exchange, chain, inspector, head, chunks);
+          })
+          .then();
+    };
+  }
+
+  private Mono<Void> inspect(ServerWebExchange exchange, GatewayFilterChain chain,
+                             MultipartImageInspector inspector, List<DataBuffer> head,
+                             Flux<List<DataBuffer>> chunks) {
+    MultipartImageInspector.State state = inspector.finishHead();
+    if (state == MultipartImageInspector.State.HEAD_TOO_LARGE) {
+      head.forEach(DataBufferUtils::release);
+      return reject(exchange, UNREADABLE_UPLOAD_BODY);
+    }
+
+    Set<String> errors = inspector.validate();
+    if (!errors.isEmpty()) {
+      head.forEach(DataBufferUtils::release);
+      log.warn("Rejected upload to {}: {}", exchange.getRequest().getPath(), errors);
+      return reject(exchange, GSON.toJson(new HttpValidationStatus(
+          ImageUploadRules.VALIDATION_FAILED, errors)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    Flux<DataBuffer> body = Flux.concat(
+        Flux.fromIterable(head),
+        chunks.skip(1)
+            .flatMapIterable(Function.identity())
+            .handle((buffer, sink) -> {
+              if (inspector.countFileBytes(buffer)) {
+                sink.next(buffer);
+                return;
+              }
+              DataBufferUtils.release(buffer);
+              sink.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                  ImageUploadRules.FILE_SIZE_ERROR));
+            })
+    );
+
+    ServerHttpRequest request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+      @Override
+      public Flux<DataBuffer> getBody() {
+        return body;
+      }
+    };
+    return chain.filter(exchange.mutate().request(request).build());
+  }
+
+  private static String findBoundary(ServerHttpRequest request) {
+    try {
+      MediaType contentType = request.getHeaders().getContentType();
+      return contentType == null || !MediaType.MULTIPART_FORM_DATA.includes(contentType)
+          ? null
+          : contentType.getParameter(BOUNDARY_PARAMETER);
+    } catch (InvalidMediaTypeException e) {
+      return null;
+    }
+  }
+
+  private static Mono<Void> reject(ServerWebExchange exchange, byte[] body) {
+    ServerHttpResponse response = exchange.getResponse();
+
+    response.setStatusCode(HttpStatus.BAD_REQUEST);
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Setter
+  @Getter
+  public static class Config {
+    private String fieldName = "file";
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+    private DataSize maxHeadSize = DataSize.ofKilobytes(64);
+  }
+}
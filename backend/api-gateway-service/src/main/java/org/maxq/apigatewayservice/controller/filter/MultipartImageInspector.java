@@ -0,0 +1,248 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import org.maxq.apigatewayservice.domain.ImageUploadRules;
+import org.maxq.apigatewayservice.domain.MultipartFilePart;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads a multipart body up to the first bytes of the image part, without waiting for the rest
+ * of the upload, and then keeps counting the image size while the body streams through.
+ */
+class MultipartImageInspector {
+
+  private static final byte[] HEADERS_END = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+  private static final String HEADER_SEPARATOR = "\r\n";
+  private static final String CONTENT_DISPOSITION = "content-disposition:";
+  private static final String CONTENT_TYPE = "content-type:";
+  private static final Pattern NAME = Pattern.compile("(?i);\\s*name=\"([^\"]*)\"");
+  private static final Pattern FILENAME = Pattern.compile("(?i);\\s*filename=\"([^\"]*)\"");
+  private static final int LINE_BREAK_LENGTH = 2;
+
+  private final byte[] delimiter;
+  private final byte[] partDelimiter;
+  private final String fieldName;
+  private final long maxHeadBytes;
+  private final long maxFileBytes;
+  private final ByteArrayOutputStream head = new ByteArrayOutputStream();
+
+  private State state = State.NEED_MORE;
+  private MultipartFilePart filePart;
+  private long fileBytes;
+  private byte[] tail = new byte[0];
+  private boolean fileEnded;
+
+  enum State { NEED_MORE, FILE_PART, NO_FILE_PART, HEAD_TOO_LARGE }
+
+  MultipartImageInspector(String boundary, String fieldName, long maxHeadBytes, long maxFileBytes) {
+    this.delimiter = ("--" + boundary).getBytes(StandardCharsets.US_ASCII);
+    this.partDelimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+    this.fieldName = fieldName;
+    this.maxHeadBytes = maxHeadBytes;
+    this.maxFileBytes = maxFileBytes;
+  }
+
+  /**
+   * @return {@code true} once enough of the body was read to validate it
+   */
+  boolean appendHead(DataBuffer buffer) {
+    if (state != State.NEED_MORE) {
+      return true;
+    }
+
+    head.writeBytes(copy(buffer));
+    state = parse(head.toByteArray(), false);
+    if (state == State.NEED_MORE && head.size() >= maxHeadBytes) {
+      state = State.HEAD_TOO_LARGE;
+    }
+    return state != State.NEED_MORE;
+  }
+
+  /**
+   * Called when the head is handed over, which may be because the body ended early.
+   */
+  State finishHead() {
+    if (state == State.NEED_MORE) {
+      State parsed = parse(head.toByteArray(), true);
+      state = parsed == State.NEED_MORE ? State.NO_FILE_PART : parsed;
+    }
+    if (state == State.FILE_PART) {
+      startCounting();
+    }
+    return state;
+  }
+
+  Set<String> validate() {
+    Set<String> errors = new LinkedHashSet<>();
+    if (state != State.FILE_PART) {
+      return errors;
+    }
+
+    String filename = filePart.getFilename();
+    String contentType = filePart.getContentType();
+    if (filename == null || !ImageUploadRules.FILE_NAME_REGEX.matcher(filename).matches()) {
+      errors.add(ImageUploadRules.FILE_NAME_ERROR);
+    }
+    if (filename == null || !ImageUploadRules.EXTENSION_REGEX.matcher(filename).matches()) {
+      errors.add(ImageUploadRules.FILE_EXTENSION_ERROR);
+    }
+    if (!isOneOf(contentType, ImageUploadRules.CONTENT_TYPE_ALLOWLIST)) {
+      errors.add(ImageUploadRules.FILE_CONTENT_TYPE_ERROR);
+    }
+    if (fileBytes > maxFileBytes) {
+      errors.add(ImageUploadRules.FILE_SIZE_ERROR);
+    }
+    if (errors.isEmpty()) {
+      validateSignature(filePart.getLeadingBytes(), contentType, errors);
+    }
+    return errors;
+  }
+
+  /**
+   * @return {@code false} when the image grew over the size limit
+   */
+  boolean countFileBytes(DataBuffer buffer) {
+    if (fileEnded) {
+      return true;
+    }
+
+    byte[] chunk = copy(buffer);
+    byte[] window = new byte[tail.length + chunk.length];
+    System.arraycopy(tail, 0, window, 0, tail.length);
+    System.arraycopy(chunk, 0, window, tail.length, chunk.length);
+
+    int end = indexOf(window, partDelimiter, 0);
+    if (end >= 0) {
+      fileBytes += end - tail.length;
+      fileEnded = true;
+    } else {
+      fileBytes += chunk.length;
+      tail = Arrays.copyOfRange(window,
+          Math.max(0, window.length - partDelimiter.length + 1), window.length);
+    }
+    return fileBytes <= maxFileBytes;
+  }
+
+  private void startCounting() {
+    if (filePart.getSize() == MultipartFilePart.UNKNOWN_SIZE) {
+      byte[] data = head.toByteArray();
+      fileBytes = data.length - filePart.getContentOffset();
+      tail = Arrays.copyOfRange(data,
+          Math.max(filePart.getContentOffset(), data.length - partDelimiter.length + 1),
+          data.length);
+    } else {
+      fileBytes = filePart.getSize();
+      fileEnded = true;
+    }
+  }
+
+  private State parse(byte[] data, boolean complete) {
+    int position = indexOf(data, delimiter, 0);
+    while (position >= 0) {
+      int headersStart = position + delimiter.length + LINE_BREAK_LENGTH;
+      if (data.length < headersStart) {
+        return State.NEED_MORE;
+      }
+      if (data[headersStart - 2] == '-' && data[headersStart - 1] == '-') {
+        return State.NO_FILE_PART;
+      }
+      int headersEnd = indexOf(data, HEADERS_END, headersStart);
+      if (headersEnd < 0) {
+        return State.NEED_MORE;
+      }
+
+      String headers = new String(data, headersStart, headersEnd - headersStart,
+          StandardCharsets.UTF_8);
+      int contentStart = headersEnd + HEADERS_END.length;
+      int contentEnd = indexOf(data, partDelimiter, contentStart);
+      if (fieldName.equals(parameter(headers, NAME))) {
+        return readFilePart(data, headers, contentStart, contentEnd, complete);
+      }
+      position = contentEnd < 0 ? -1 : contentEnd + LINE_BREAK_LENGTH;
+    }
+    return State.NEED_MORE;
+  }
+
+  private State readFilePart(byte[] data, String headers, int contentStart, int contentEnd,
+                             boolean complete) {
+    int available = (contentEnd < 0 ? data.length : contentEnd) - contentStart;
+    if (contentEnd < 0 && available < ImageUploadRules.SIGNATURE_LENGTH && !complete) {
+      return State.NEED_MORE;
+    }
+
+    filePart = new MultipartFilePart(
+        parameter(headers, FILENAME),
+        contentType(headers),
+        Arrays.copyOfRange(data, contentStart,
+            contentStart + Math.min(available, ImageUploadRules.SIGNATURE_LENGTH)),
+        contentStart,
+        contentEnd < 0 ? MultipartFilePart.UNKNOWN_SIZE : available
+    );
+    return State.FILE_PART;
+  }
+
+  private static void validateSignature(byte[] content, String contentType, Set<String> errors) {
+    if (ImageUploadRules.isJpeg(content)) {
+      if (!isOneOf(contentType, ImageUploadRules.JPEG_CONTENT_TYPES)) {
+        errors.add(ImageUploadRules.FILE_CONTENT_MISMATCH_ERROR);
+      }
+    } else if (ImageUploadRules.isPng(content)) {
+      if (!isOneOf(contentType, ImageUploadRules.PNG_CONTENT_TYPES)) {
+        errors.add(ImageUploadRules.FILE_CONTENT_MISMATCH_ERROR);
+      }
+    } else {
+      errors.add(ImageUploadRules.FILE_REAL_FORMAT_ERROR);
+    }
+  }
+
+  // List.of(...).contains(null) throws, a part may come without a Content-Type header
+  private static boolean isOneOf(String contentType, List<String> contentTypes) {
+    return contentType != null && contentTypes.contains(contentType);
+  }
+
+  private static String parameter(String headers, Pattern pattern) {
+    for (String line : headers.split(HEADER_SEPARATOR)) {
+      if (line.toLowerCase(Locale.ROOT).startsWith(CONTENT_DISPOSITION)) {
+        Matcher matcher = pattern.matcher(line);
+        return matcher.find() ? matcher.group(1) : null;
+      }
+    }
+    return null;
+  }
+
+  private static String contentType(String headers) {
+    for (String line : headers.split(HEADER_SEPARATOR)) {
+      if (line.toLowerCase(Locale.ROOT).startsWith(CONTENT_TYPE)) {
+        return line.substring(CONTENT_TYPE.length()).trim();
+      }
+    }
+    return null;
+  }
+
+  private static byte[] copy(DataBuffer buffer) {
+    int length = buffer.readableByteCount();
+    ByteBuffer bytes = ByteBuffer.allocate(length);
+    buffer.toByteBuffer(buffer.readPosition(), bytes, 0, length);
+    return bytes.array();
+  }
+
+  private static int indexOf(byte[] data, byte[] pattern, int from) {
+    for (int i = Math.max(from, 0); i <= data.length - pattern.length; i++) {
+      if (data[i] == pattern[0]
+          && Arrays.equals(data, i, i + pattern.length, pattern, 0, pattern.length)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,37 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Copies request body chunks as they are forwarded, giving up once the body exceeds the limit.
+ */
+class RequestBodyCapture {
+
+  private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+  private final long maxBytes;
+  private boolean truncated;
+
+  RequestBodyCapture(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  void append(DataBuffer buffer) {
+    int length = buffer.readableByteCount();
+    if (truncated || body.size() + length > maxBytes) {
+      truncated = true;
+      body.reset();
+      return;
+    }
+
+    ByteBuffer chunk = ByteBuffer.allocate(length);
+    buffer.toByteBuffer(buffer.readPosition(), chunk, 0, length);
+    body.write(chunk.array(), 0, length);
+  }
+
+  byte[] toBytes() {
+    return truncated ? null : body.toByteArray();
+  }
+}
@@ -0,0 +1,143 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.maxq.apigatewayservice.domain.CoalescedResponse;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class RequestCoalescingGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+  // Must wrap the response before NettyWriteResponseFilter reads it from the exchange
+  private static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+  private static final String KEY_SEPARATOR = "\n";
+
+  private final ConcurrentMap<String, Sinks.One<CoalescedResponse>> inFlight = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Counter> savedCallCounters = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+
+  public RequestCoalescingGatewayFilterFactory(MeterRegistry meterRegistry) {
+    super(Config.class);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of("maxBodySize");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    long maxBodyBytes = config.getMaxBodySize().toBytes();
+
+    return new OrderedGatewayFilter((exchange, chain) -> {
+      if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+        return chain.filter(exchange);
+      }
+
+      String routeId = resolveRouteId(exchange);
+      return resolveKey(exchange, routeId).flatMap(key -> {
+        Sinks.One<CoalescedResponse> sink = Sinks.one();
+        Sinks.One<CoalescedResponse> leader = inFlight.putIfAbsent(key, sink);
+
+        if (leader != null) {
+          return follow(exchange, chain, leader, routeId);
+        }
+        return lead(exchange, chain, key, sink, maxBodyBytes);
+      });
+    }, ORDER);
+  }
+
+  private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                          Sinks.One<CoalescedResponse> sink, long maxBodyBytes) {
+    ServerHttpResponse capturingResponse =
+        new CoalescingResponseCapture(exchange.getResponse(), sink, maxBodyBytes);
+
+    return chain.filter(exchange.mutate().response(capturingResponse).build())
+        .doFinally(signal -> {
+          inFlight.remove(key, sink);
+          sink.tryEmitEmpty();
+        });
+  }
+
+  private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain,
+                            Sinks.One<CoalescedResponse> leader, String routeId) {
+    return leader.asMono()
+        .map(Optional::of)
+        .defaultIfEmpty(Optional.empty())
+        .flatMap(response -> {
+          if (response.isEmpty()) {
+            return chain.filter(exchange);
+          }
+          savedCalls(routeId).increment();
+          return write(exchange.getResponse(), response.get());
+        });
+  }
+
+  private Mono<Void> write(ServerHttpResponse response, CoalescedResponse coalesced) {
+    response.setStatusCode(coalesced.getStatus());
+    response.getHeaders().putAll(coalesced.getHeaders());
+
+    return response.writeWith(Mono.fromSupplier(() ->
+        response.bufferFactory().wrap(coalesced.getBody())));
+  }
+
+  private Mono<String> resolveKey(ServerWebExchange exchange, String routeId) {
+    ServerHttpRequest request = exchange.getRequest();
+    String query = request.getURI().getRawQuery();
+    String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+
+    return exchange.getPrincipal()
+        .map(Principal::getName)
+        .defaultIfEmpty("")
+        .map(user -> String.join(KEY_SEPARATOR, routeId, request.getPath().value(),
+            query == null ? "" : query, user, accept == null ? "" : accept));
+  }
+
+  private String resolveRouteId(ServerWebExchange exchange) {
+    Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+    return route == null ? "" : route.getId();
+  }
+
+  private Counter savedCalls(String routeId) {
+    return savedCallCounters.computeIfAbsent(routeId, route ->
+        Counter.builder("gateway.requests.coalesced")
+            .description("Upstream calls saved by sharing an in-flight identical request")
+            .tag("route", route)
+            .register(meterRegistry));
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Setter
+  @Getter
+  public static class Config {
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+  }
+}
@@ -0,0 +1,142 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.maxq.apigatewayservice.domain.CachedResponse;
+import org.maxq.apigatewayservice.domain.ResponseCacheKey;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ResponseCacheGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+  // Must wrap the response before NettyWriteResponseFilter reads it from the exchange
+  private static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+  private final ResponseCacheStore cache;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Counter> notModifiedCounters = new ConcurrentHashMap<>();
+
+  ResponseCacheGatewayFilterFactory(ResponseCacheStore cache, MeterRegistry meterRegistry) {
+    super(Config.class);
+    this.cache = cache;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of("ttl", "userScoped");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    // Writes are handled by ResponseCacheInvalidationFilter on every route
+    return new OrderedGatewayFilter((exchange, chain) -> resolveUser(exchange, config)
+        .flatMap(user -> {
+          ServerHttpRequest request = exchange.getRequest();
+          // Anonymous callers would share one entry on a user scoped route
+          if (!HttpMethod.GET.equals(request.getMethod()) || config.isUserScoped() && user.isEmpty()) {
+            return chain.filter(exchange);
+          }
+
+          String routeId = resolveRouteId(exchange);
+          ResponseCacheKey key = new ResponseCacheKey(user, routeId, request.getPath().value(),
+              String.valueOf(request.getURI().getRawQuery()),
+              String.valueOf(request.getHeaders().getFirst(HttpHeaders.ACCEPT)));
+          List<String> ifNoneMatch = request.getHeaders().getOrEmpty(HttpHeaders.IF_NONE_MATCH);
+
+          if (!ResponseCachePolicy.bypassesLookup(request)) {
+            CachedResponse cached = cache.getIfPresent(key);
+            if (cached != null) {
+              return serve(exchange.getResponse(), cached, ifNoneMatch, routeId);
+            }
+          }
+
+          ServerHttpResponse capture = new CachingResponseCapture(exchange.getResponse(),
+              ifNoneMatch, config, response -> cache.put(key, response),
+              () -> notModified(routeId).increment());
+          return chain.filter(exchange.mutate().response(capture).build());
+        }), ORDER);
+  }
+
+  static Mono<Void> writeNotModified(ServerHttpResponse response, String etag) {
+    response.setStatusCode(HttpStatus.NOT_MODIFIED);
+    response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+    response.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+    response.getHeaders().setETag(etag);
+    return response.setComplete();
+  }
+
+  private Mono<Void> serve(ServerHttpResponse response, CachedResponse cached,
+                           List<String> ifNoneMatch, String routeId) {
+    if (ResponseCachePolicy.matches(ifNoneMatch, cached.getEtag())) {
+      notModified(routeId).increment();
+      List<String> cacheControl = cached.getHeaders().get(HttpHeaders.CACHE_CONTROL);
+      if (cacheControl != null) {
+        response.getHeaders().put(HttpHeaders.CACHE_CONTROL, cacheControl);
+      }
+      return writeNotModified(response, cached.getEtag());
+    }
+
+    response.setStatusCode(cached.getStatus());
+    response.getHeaders().putAll(cached.getHeaders());
+    return response.writeWith(Mono.fromSupplier(() ->
+        response.bufferFactory().wrap(cached.getBody())));
+  }
+
+  private Mono<String> resolveUser(ServerWebExchange exchange, Config config) {
+    if (!config.isUserScoped()) {
+      return Mono.just("");
+    }
+    return exchange.getPrincipal()
+        .map(Principal::getName)
+        .defaultIfEmpty("");
+  }
+
+  private String resolveRouteId(ServerWebExchange exchange) {
+    Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+    return route == null ? "" : route.getId();
+  }
+
+  private Counter notModified(String routeId) {
+    return notModifiedCounters.computeIfAbsent(routeId, route ->
+        Counter.builder("gateway.response.cache.not.modified")
+            .description("Responses answered with 304 Not Modified")
+            .tag("route", route)
+            .register(meterRegistry));
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Setter
+  @Getter
+  public static class Config {
+    private Duration ttl = Duration.ofSeconds(30);
+    private boolean userScoped = true;
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+  }
+}
@@ -0,0 +1,75 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Evicts cached responses on every route, including those that do not cache. Writes evict the
+ * entries of the caller, and users listed by a service in {@value #CHANGED_USERS_HEADER} are
+ * evicted as well. The header is always removed before the response reaches the client.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheInvalidationFilter implements GlobalFilter, Ordered {
+
+  static final String CHANGED_USERS_HEADER = "X-Changed-Users";
+  static final String ALL_USERS = "*";
+  private static final Set<HttpMethod> UNSAFE_METHODS =
+      Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+  private final ResponseCacheStore cache;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    ServerHttpResponse response = exchange.getResponse();
+    response.beforeCommit(() -> {
+      invalidateChangedUsers(response.getHeaders().remove(CHANGED_USERS_HEADER));
+      return Mono.empty();
+    });
+
+    if (!UNSAFE_METHODS.contains(exchange.getRequest().getMethod())) {
+      return chain.filter(exchange);
+    }
+    return exchange.getPrincipal()
+        .map(Principal::getName)
+        .defaultIfEmpty("")
+        .flatMap(user -> {
+          if (user.isEmpty()) {
+            return chain.filter(exchange);
+          }
+          // Evicted again once done, in case a read cached the old state meanwhile
+          cache.invalidateUser(user);
+          return chain.filter(exchange).doFinally(signal -> cache.invalidateUser(user));
+        });
+  }
+
+  @Override
+  public int getOrder() {
+    return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+  }
+
+  private void invalidateChangedUsers(List<String> changedUsers) {
+    if (changedUsers == null) {
+      return;
+    }
+    if (changedUsers.contains(ALL_USERS)) {
+      cache.invalidateAll();
+      return;
+    }
+    changedUsers.stream()
+        .filter(changedUser -> !changedUser.isEmpty())
+        .forEach(cache::invalidateUser);
+  }
+}
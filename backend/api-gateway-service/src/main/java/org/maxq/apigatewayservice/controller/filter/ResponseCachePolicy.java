@@ -0,0 +1,103 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+final class ResponseCachePolicy {
+
+  private static final String NO_STORE = "no-store";
+  private static final String NO_CACHE = "no-cache";
+  private static final String PRIVATE = "private";
+  private static final String MAX_AGE = "max-age=";
+  private static final String SHARED_MAX_AGE = "s-maxage=";
+  private static final String ANY_ETAG = "*";
+  private static final String WEAK_PREFIX = "W/";
+  private static final String VARY_ANY = "*";
+
+  private ResponseCachePolicy() {
+  }
+
+  static boolean bypassesLookup(ServerHttpRequest request) {
+    List<String> directives = directives(request.getHeaders().getCacheControl());
+    return directives.contains(NO_STORE) || directives.contains(NO_CACHE)
+        || directives.contains(MAX_AGE + "0");
+  }
+
+  static Duration storableFor(ServerHttpResponse response,
+                              ResponseCacheGatewayFilterFactory.Config config) {
+    if (response.getHeaders().containsKey(HttpHeaders.SET_COOKIE)
+        || response.getHeaders().getVary().contains(VARY_ANY)) {
+      return Duration.ZERO;
+    }
+
+    return ttlFor(directives(response.getHeaders().getCacheControl()), config);
+  }
+
+  static boolean matches(List<String> ifNoneMatch, String etag) {
+    String opaqueTag = stripWeak(etag);
+    return ifNoneMatch.stream()
+        .flatMap(value -> Arrays.stream(value.split(",")))
+        .map(String::trim)
+        .anyMatch(candidate -> ANY_ETAG.equals(candidate) || opaqueTag.equals(stripWeak(candidate)));
+  }
+
+  static String etagFor(byte[] body) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+      return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  private static Duration ttlFor(List<String> directives,
+                                 ResponseCacheGatewayFilterFactory.Config config) {
+    if (directives.contains(NO_STORE) || directives.contains(NO_CACHE)
+        || directives.contains(PRIVATE) && !config.isUserScoped()) {
+      return Duration.ZERO;
+    }
+
+    Duration sharedMaxAge = seconds(directives, SHARED_MAX_AGE);
+    if (sharedMaxAge != null) {
+      return sharedMaxAge;
+    }
+    Duration maxAge = seconds(directives, MAX_AGE);
+    return maxAge != null ? maxAge : config.getTtl();
+  }
+
+  private static List<String> directives(String cacheControl) {
+    if (cacheControl == null) {
+      return List.of();
+    }
+    return Arrays.stream(cacheControl.toLowerCase(Locale.ROOT).split(","))
+        .map(String::trim)
+        .toList();
+  }
+
+  private static Duration seconds(List<String> directives, String prefix) {
+    return directives.stream()
+        .filter(directive -> directive.startsWith(prefix))
+        .findFirst()
+        .map(directive -> {
+          try {
+            return Duration.ofSeconds(Long.parseLong(directive.substring(prefix.length())));
+          } catch (NumberFormatException e) {
+            return Duration.ZERO;
+          }
+        })
+        .orElse(null);
+  }
+
+  private static String stripWeak(String etag) {
+    return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+  }
+}
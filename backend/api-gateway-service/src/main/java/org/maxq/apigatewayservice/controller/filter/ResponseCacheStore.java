@@ -0,0 +1,90 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.maxq.apigatewayservice.domain.CachedResponse;
+import org.maxq.apigatewayservice.domain.ResponseCacheKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached responses indexed by user, so the entries of one user are evicted without a scan.
+ */
+@Component
+class ResponseCacheStore {
+
+  private static final int ENTRY_OVERHEAD = 1024;
+
+  private final Cache<ResponseCacheKey, CachedResponse> cache;
+  private final Map<String, Set<ResponseCacheKey>> keysByUser = new ConcurrentHashMap<>();
+
+  ResponseCacheStore(@Value("${gateway.response-cache.max-size:64MB}") DataSize maxSize,
+                     MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxSize.toBytes())
+        .<ResponseCacheKey, CachedResponse>weigher((key, response) ->
+            response.getBody().length + ENTRY_OVERHEAD)
+        .expireAfter(new CachedResponseExpiry())
+        .evictionListener((key, response, cause) -> unindex(key))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response.cache");
+  }
+
+  CachedResponse getIfPresent(ResponseCacheKey key) {
+    return cache.getIfPresent(key);
+  }
+
+  void put(ResponseCacheKey key, CachedResponse response) {
+    cache.put(key, response);
+    keysByUser.computeIfAbsent(key.getUser(), user -> ConcurrentHashMap.newKeySet()).add(key);
+  }
+
+  void invalidateUser(String user) {
+    Set<ResponseCacheKey> keys = keysByUser.remove(user);
+    if (keys != null) {
+      cache.invalidateAll(keys);
+    }
+  }
+
+  void invalidateAll() {
+    keysByUser.clear();
+    cache.invalidateAll();
+  }
+
+  private void unindex(ResponseCacheKey key) {
+    keysByUser.computeIfPresent(key.getUser(), (user, keys) -> {
+      keys.remove(key);
+      return keys.isEmpty() ? null : keys;
+    });
+  }
+
+  private static final class CachedResponseExpiry implements Expiry<ResponseCacheKey, CachedResponse> {
+
+    @Override
+    public long expireAfterCreate(ResponseCacheKey key, CachedResponse response, long currentTime) {
+      return response.getTtl().toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(ResponseCacheKey key, CachedResponse response, long currentTime,
+                                  long currentDuration) {
+      return response.getTtl().toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(ResponseCacheKey key, CachedResponse response, long currentTime,
+                                long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -1,10 +1,12 @@
 package org.maxq.apigatewayservice.controller.filter;
 
 import lombok.RequiredArgsConstructor;
-import org.maxq.apigatewayservice.service.TokenService;
+import org.maxq.apigatewayservice.service.GatewayMetrics;
+import org.maxq.apigatewayservice.service.InternalTokenIssuer;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
@@ -14,14 +16,23 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class RobotJwtFilter implements GlobalFilter {
 
-  private final TokenService tokenService;
+  private final InternalTokenIssuer internalTokenIssuer;
+  private final GatewayMetrics gatewayMetrics;
 
   @Override
   public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-    String robotToken = tokenService.generateToken();
+    long start = System.nanoTime();
+    ServerHttpRequest request = exchange.getRequest();
+    String robotToken = internalTokenIssuer.issueToken(
+        request.getHeaders().getFirst("X-User"), request.getHeaders().getFirst("X-User-Roles"));
 
-    exchange.getRequest().getHeaders().setBearerAuth(robotToken);
+    ServerHttpRequest mutatedRequest = request
+        .mutate()
+        .headers(headers -> headers.setBearerAuth(robotToken))
+        .build();
 
-    return chain.filter(exchange);
+    ServerWebExchange mutatedExchange = exchange.mutate().request(mutatedRequest).build();
+    gatewayMetrics.recordFilterTime("RobotJwtFilter", mutatedExchange, System.nanoTime() - start);
+    return chain.filter(mutatedExchange);
   }
 }
@@ -0,0 +1,107 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import com.google.gson.Gson;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.apigatewayservice.domain.HttpErrorMessage;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class StreamingRequestSizeGatewayFilterFactory
+    extends AbstractGatewayFilterFactory<StreamingRequestSizeGatewayFilterFactory.Config> {
+
+  private static final Gson GSON = new Gson();
+  private static final String PAYLOAD_TOO_LARGE_MESSAGE = "Request size exceeds the permitted limit";
+  private static final byte[] PAYLOAD_TOO_LARGE_BODY = GSON.toJson(
+      new HttpErrorMessage(PAYLOAD_TOO_LARGE_MESSAGE)
+  ).getBytes(StandardCharsets.UTF_8);
+
+  public StreamingRequestSizeGatewayFilterFactory() {
+    super(Config.class);
+  }
+
+  @Override
+  public List<String> shortcutFieldOrder() {
+    return List.of("maxSize");
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    long maxBytes = config.getMaxSize().toBytes();
+
+    return (exchange, chain) -> {
+      ServerHttpRequest request = exchange.getRequest();
+      long contentLength = request.getHeaders().getContentLength();
+
+      if (contentLength > maxBytes) {
+        log.warn("Rejected request to {} declaring {} bytes, limit is {} bytes",
+            request.getPath(), contentLength, maxBytes);
+        return reject(exchange);
+      }
+
+      ServerHttpRequest countingRequest = new ServerHttpRequestDecorator(request) {
+        @Override
+        public Flux<DataBuffer> getBody() {
+          return limit(super.getBody(), maxBytes);
+        }
+      };
+
+      return chain.filter(exchange.mutate().request(countingRequest).build());
+    };
+  }
+
+  private Flux<DataBuffer> limit(Flux<DataBuffer> body, long maxBytes) {
+    return Flux.defer(() -> {
+      AtomicLong received = new AtomicLong();
+
+      return body.handle((buffer, sink) -> {
+        if (received.addAndGet(buffer.readableByteCount()) > maxBytes) {
+          DataBufferUtils.release(buffer);
+          sink.error(new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+              PAYLOAD_TOO_LARGE_MESSAGE));
+          return;
+        }
+        sink.next(buffer);
+      });
+    });
+  }
+
+  private Mono<Void> reject(ServerWebExchange exchange) {
+    ServerHttpResponse response = exchange.getResponse();
+
+    response.setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(PAYLOAD_TOO_LARGE_BODY)));
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Setter
+  @Getter
+  public static class Config {
+    private DataSize maxSize = DataSize.ofMegabytes(5);
+  }
+}
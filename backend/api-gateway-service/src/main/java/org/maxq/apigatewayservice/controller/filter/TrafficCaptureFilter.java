@@ -0,0 +1,141 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import org.maxq.apigatewayservice.domain.CapturedRequest;
+import org.maxq.apigatewayservice.service.TrafficAnonymizer;
+import org.maxq.apigatewayservice.service.TrafficCaptureWriter;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records every request passing the gateway to the traffic capture log, see
+ * {@link CapturedRequest}. Bodies are kept only for JSON requests of routes listed in
+ * {@code gateway.traffic-capture.body-routes}, as they may contain personal data.
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.traffic-capture.enabled", havingValue = "true")
+public class TrafficCaptureFilter implements GlobalFilter, Ordered {
+
+  private static final String UNKNOWN_ROUTE = "unknown";
+
+  private final TrafficCaptureWriter writer;
+  private final TrafficAnonymizer anonymizer;
+  private final List<String> bodyRoutes;
+  private final long maxBodyBytes;
+
+  public TrafficCaptureFilter(
+      TrafficCaptureWriter writer,
+      TrafficAnonymizer anonymizer,
+      @Value("${gateway.traffic-capture.body-routes:}") List<String> bodyRoutes,
+      @Value("${gateway.traffic-capture.max-body-size:64KB}") DataSize maxBodySize
+  ) {
+    this.writer = writer;
+    this.anonymizer = anonymizer;
+    this.bodyRoutes = bodyRoutes;
+    this.maxBodyBytes = maxBodySize.toBytes();
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    long startEpochMillis = System.currentTimeMillis();
+    long start = System.nanoTime();
+    Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+    String routeId = route == null ? UNKNOWN_ROUTE : route.getId();
+    RequestBodyCapture bodyCapture =
+        captureBody(routeId, exchange.getRequest()) ? new RequestBodyCapture(maxBodyBytes) : null;
+    AtomicLong requestBytes = new AtomicLong();
+    AtomicLong responseBytes = new AtomicLong();
+
+    ServerWebExchange capturingExchange = exchange.mutate()
+        .request(new ServerHttpRequestDecorator(exchange.getRequest()) {
+          @Override
+          public Flux<DataBuffer> getBody() {
+            return super.getBody().doOnNext(buffer -> {
+              requestBytes.addAndGet(buffer.readableByteCount());
+              if (bodyCapture != null) {
+                bodyCapture.append(buffer);
+              }
+            });
+          }
+        })
+        .response(new ServerHttpResponseDecorator(exchange.getResponse()) {
+          @Override
+          public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body)
+                .doOnNext(buffer -> responseBytes.addAndGet(buffer.readableByteCount())));
+          }
+        })
+        .build();
+
+    return exchange.getPrincipal()
+        .map(Principal::getName)
+        .defaultIfEmpty("")
+        .flatMap(user -> chain.filter(capturingExchange)
+            .doFinally(signal -> writer.capture(new CapturedRequest(
+                startEpochMillis,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                routeId,
+                exchange.getRequest().getMethod().name(),
+                anonymizer.pathTemplate(exchange.getRequest().getPath().value()),
+                contentType(exchange.getRequest()),
+                status(exchange),
+                requestBytes.get(),
+                responseBytes.get(),
+                anonymizer.userHash(user),
+                bodyCapture == null ? null : bodyCapture.toBytes()
+            ))));
+  }
+
+  @Override
+  public int getOrder() {
+    return HIGHEST_PRECEDENCE;
+  }
+
+  private boolean captureBody(String routeId, ServerHttpRequest request) {
+    return bodyRoutes.contains(routeId)
+        && MediaType.APPLICATION_JSON_VALUE.equals(contentType(request));
+  }
+
+  /**
+   * Content type without parameters, read without parsing so a malformed header cannot fail
+   * the request.
+   */
+  private static String contentType(ServerHttpRequest request) {
+    String contentType = request.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+    if (contentType == null) {
+      return "";
+    }
+    int parameters = contentType.indexOf(';');
+    return (parameters < 0 ? contentType : contentType.substring(0, parameters))
+        .trim()
+        .toLowerCase(Locale.ROOT);
+  }
+
+  private static int status(ServerWebExchange exchange) {
+    HttpStatusCode status = exchange.getResponse().getStatusCode();
+    return status == null ? 0 : status.value();
+  }
+}
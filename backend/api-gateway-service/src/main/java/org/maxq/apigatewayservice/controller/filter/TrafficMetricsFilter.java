@@ -0,0 +1,65 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.maxq.apigatewayservice.service.GatewayMetrics;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+public class TrafficMetricsFilter implements GlobalFilter, Ordered {
+
+  private final GatewayMetrics gatewayMetrics;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    AtomicLong requestBytes = new AtomicLong();
+    AtomicLong responseBytes = new AtomicLong();
+
+    ServerWebExchange countingExchange = exchange.mutate()
+        .request(new ServerHttpRequestDecorator(exchange.getRequest()) {
+          @Override
+          public Flux<DataBuffer> getBody() {
+            return super.getBody()
+                .doOnNext(buffer -> requestBytes.addAndGet(buffer.readableByteCount()));
+          }
+        })
+        .response(new ServerHttpResponseDecorator(exchange.getResponse()) {
+          @Override
+          public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body)
+                .doOnNext(buffer -> responseBytes.addAndGet(buffer.readableByteCount())));
+          }
+
+          @Override
+          public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(part -> Flux.from(part)
+                .doOnNext(buffer -> responseBytes.addAndGet(buffer.readableByteCount()))));
+          }
+        })
+        .build();
+
+    return chain.filter(countingExchange)
+        .doFinally(signal -> {
+          gatewayMetrics.recordRequestSize(countingExchange, requestBytes.get());
+          gatewayMetrics.recordResponseSize(countingExchange, responseBytes.get());
+        });
+  }
+
+  @Override
+  public int getOrder() {
+    return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+  }
+}
@@ -0,0 +1,45 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.maxq.apigatewayservice.service.GatewayMetrics;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+@Component
+@RequiredArgsConstructor
+public class UpstreamLatencyFilter implements GlobalFilter, Ordered {
+
+  private static final String CANCELLED = "CANCELLED";
+  private static final String UNKNOWN = "UNKNOWN";
+
+  private final GatewayMetrics gatewayMetrics;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    long start = System.nanoTime();
+
+    return chain.filter(exchange)
+        .doFinally(signal -> gatewayMetrics.recordUpstreamLatency(exchange,
+            status(exchange, signal), System.nanoTime() - start));
+  }
+
+  @Override
+  public int getOrder() {
+    return NettyRoutingFilter.ORDER - 1;
+  }
+
+  private static String status(ServerWebExchange exchange, SignalType signal) {
+    if (signal == SignalType.CANCEL) {
+      return CANCELLED;
+    }
+    HttpStatusCode status = exchange.getResponse().getStatusCode();
+    return status == null ? UNKNOWN : String.valueOf(status.value());
+  }
+}
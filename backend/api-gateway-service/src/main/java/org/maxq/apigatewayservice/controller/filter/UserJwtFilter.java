@@ -1,5 +1,7 @@
 package org.maxq.apigatewayservice.controller.filter;
 
+import lombok.RequiredArgsConstructor;
+import org.maxq.apigatewayservice.service.GatewayMetrics;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.annotation.Order;
@@ -14,9 +16,15 @@ import java.util.List;
 
 @Component
 @Order(2)
+@RequiredArgsConstructor
 public class UserJwtFilter implements GlobalFilter {
+
+  private final GatewayMetrics gatewayMetrics;
+
   @Override
   public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    long start = System.nanoTime();
+
     return exchange.getPrincipal()
         .map(principal -> {
           JwtAuthenticationToken userToken =
@@ -26,8 +34,10 @@ public class UserJwtFilter implements GlobalFilter {
 
           ServerHttpRequest mutatedRequest = exchange.getRequest()
               .mutate()
-              .header("X-User", userAuthorities.getSubject())
-              .header("X-User-Roles", String.join(",", grantedAuthorities))
+              .headers(headers -> {
+                headers.set("X-User", userAuthorities.getSubject());
+                headers.set("X-User-Roles", String.join(",", grantedAuthorities));
+              })
               .build();
 
           return exchange
@@ -35,7 +45,16 @@ public class UserJwtFilter implements GlobalFilter {
               .request(mutatedRequest)
               .build();
         })
-        .defaultIfEmpty(exchange)
-        .flatMap(chain::filter);
+        .switchIfEmpty(Mono.fromSupplier(() -> exchange
+            .mutate()
+            .request(request -> request.headers(headers -> {
+              headers.remove("X-User");
+              headers.remove("X-User-Roles");
+            }))
+            .build()))
+        .flatMap(mutatedExchange -> {
+          gatewayMetrics.recordFilterTime("UserJwtFilter", mutatedExchange, System.nanoTime() - start);
+          return chain.filter(mutatedExchange);
+        });
   }
 }
@@ -0,0 +1,12 @@
+package org.maxq.apigatewayservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class BootstrapError {
+
+  private int status;
+  private String message;
+}
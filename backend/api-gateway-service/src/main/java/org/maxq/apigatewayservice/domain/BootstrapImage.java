@@ -0,0 +1,16 @@
+package org.maxq.apigatewayservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Location and metadata of the profile image; the client fetches the image itself from {@code url}.
+ */
+@AllArgsConstructor
+@Getter
+public class BootstrapImage {
+
+  private String url;
+  private String contentType;
+  private Long size;
+}
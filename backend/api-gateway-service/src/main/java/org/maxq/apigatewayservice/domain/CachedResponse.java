@@ -0,0 +1,20 @@
+package org.maxq.apigatewayservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+public class CachedResponse {
+
+  private final HttpStatusCode status;
+  private final Map<String, List<String>> headers;
+  private final byte[] body;
+  private final String etag;
+  private final Duration ttl;
+}
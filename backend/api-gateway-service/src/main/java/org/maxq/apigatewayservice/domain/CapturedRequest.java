@@ -0,0 +1,55 @@
+package org.maxq.apigatewayservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Anonymized metadata of a single request passing the gateway, as stored in the traffic capture
+ * log. The record layout has to stay in sync with the reader of the {@code traffic-replay} tool.
+ */
+@AllArgsConstructor
+@Getter
+public class CapturedRequest {
+
+  private static final int NO_BODY = -1;
+
+  private final long startEpochMillis;
+  private final long durationMicros;
+  private final String routeId;
+  private final String method;
+  private final String pathTemplate;
+  private final String contentType;
+  private final int status;
+  private final long requestBytes;
+  private final long responseBytes;
+  private final long userHash;
+  private final byte[] body;
+
+  /**
+   * Writes the record as: start (long), duration in micros (long), route, method, path template
+   * and content type without parameters (modified UTF-8, empty when absent), status (short), request and response size (long), user hash
+   * (long, 0 for anonymous requests) and the body length (int, -1 when not captured) followed
+   * by the body bytes.
+   */
+  public void writeTo(DataOutput output) throws IOException {
+    output.writeLong(startEpochMillis);
+    output.writeLong(durationMicros);
+    output.writeUTF(routeId);
+    output.writeUTF(method);
+    output.writeUTF(pathTemplate);
+    output.writeUTF(contentType);
+    output.writeShort(status);
+    output.writeLong(requestBytes);
+    output.writeLong(responseBytes);
+    output.writeLong(userHash);
+    if (body == null) {
+      output.writeInt(NO_BODY);
+    } else {
+      output.writeInt(body.length);
+      output.write(body);
+    }
+  }
+}
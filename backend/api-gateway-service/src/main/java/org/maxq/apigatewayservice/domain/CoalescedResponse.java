@@ -0,0 +1,17 @@
+package org.maxq.apigatewayservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+public class CoalescedResponse {
+
+  private final HttpStatusCode status;
+  private final Map<String, List<String>> headers;
+  private final byte[] body;
+}
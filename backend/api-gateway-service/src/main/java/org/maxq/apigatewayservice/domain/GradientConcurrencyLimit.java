@@ -0,0 +1,112 @@
+package org.maxq.apigatewayservice.domain;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit adjusted from observed latency, modelled on the gradient algorithm of
+ * Netflix concurrency-limits. While latency stays close to its long-term average the limit grows
+ * by roughly {@code sqrt(limit)}, once latency rises it shrinks proportionally to the slowdown
+ * and an overloaded upstream backs it off multiplicatively.
+ */
+public class GradientConcurrencyLimit {
+
+  private static final double BACKOFF_RATIO = 0.9;
+  private static final double MIN_GRADIENT = 0.5;
+  private static final double MAX_GRADIENT = 1.0;
+  private static final double LONG_RTT_WEIGHT = 0.01;
+  private static final double APP_LIMITED_RATIO = 0.5;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final int minLimit;
+  private final int maxLimit;
+  private final double rttTolerance;
+  private final double smoothing;
+
+  private double limit;
+  private double longRttNanos;
+  private int inFlight;
+
+  public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                  double rttTolerance, double smoothing) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.rttTolerance = rttTolerance;
+    this.smoothing = smoothing;
+    this.limit = initialLimit;
+  }
+
+  /**
+   * Takes a slot for a single request.
+   *
+   * @return {@code false} when the current limit is already reached
+   */
+  public boolean tryAcquire() {
+    lock.lock();
+    try {
+      if (inFlight >= (int) limit) {
+        return false;
+      }
+      inFlight++;
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void release() {
+    lock.lock();
+    try {
+      inFlight = Math.max(0, inFlight - 1);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Adjusts the limit with the latency of a request holding a slot.
+   *
+   * @param overloaded whether upstream rejected or timed out the request
+   */
+  public void onSample(long rttNanos, boolean overloaded) {
+    lock.lock();
+    try {
+      if (overloaded) {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        return;
+      }
+
+      longRttNanos = longRttNanos == 0
+          ? rttNanos
+          : longRttNanos + (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+
+      if (inFlight < limit * APP_LIMITED_RATIO) {
+        return;
+      }
+
+      double gradient = Math.clamp(rttTolerance * longRttNanos / Math.max(1, rttNanos),
+          MIN_GRADIENT, MAX_GRADIENT);
+      double newLimit = limit * gradient + Math.sqrt(limit);
+      limit = Math.clamp(limit * (1 - smoothing) + newLimit * smoothing, minLimit, maxLimit);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
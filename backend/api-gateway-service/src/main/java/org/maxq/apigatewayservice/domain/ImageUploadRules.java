@@ -0,0 +1,57 @@
+package org.maxq.apigatewayservice.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Upload rules of profile images, kept in line with {@code ImageValidationService} and
+ * {@code ImageContentValidationService} of the profile-service so the gateway rejects the same
+ * files, with the same messages, before they are forwarded.
+ */
+public final class ImageUploadRules {
+
+  public static final String VALIDATION_FAILED = "File validation failed!";
+
+  public static final String FILE_NAME_ERROR
+      = "Invalid file name. Only numbers and letters are allowed";
+  public static final String FILE_EXTENSION_ERROR
+      = "Invalid file extension. Only .jpg, .png and .jpeg files are allowed";
+  public static final String FILE_CONTENT_TYPE_ERROR
+      = "Invalid file type. Only .jpg, .png and .jpeg files are allowed";
+  public static final String FILE_SIZE_ERROR
+      = "File size exceeds maximum allowed size of 10MB";
+  public static final String FILE_REAL_FORMAT_ERROR
+      = "Invalid detected file format. Only .jpg, .png and .jpeg files are allowed";
+  public static final String FILE_CONTENT_MISMATCH_ERROR
+      = "Provided file content does not match the detected file format";
+
+  public static final Pattern FILE_NAME_REGEX = Pattern.compile("^[a-zA-Z0-9]+\\.[a-zA-Z0-9]+$");
+  public static final Pattern EXTENSION_REGEX = Pattern.compile("^.+\\.(jpg|jpeg|png)$");
+  public static final List<String> CONTENT_TYPE_ALLOWLIST
+      = List.of("image/jpeg", "image/jpg", "image/png");
+  public static final List<String> JPEG_CONTENT_TYPES = List.of("image/jpeg", "image/jpg");
+  public static final List<String> PNG_CONTENT_TYPES = List.of("image/png");
+
+  private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+  private static final byte[] PNG_SIGNATURE =
+      {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+
+  public static final int SIGNATURE_LENGTH = PNG_SIGNATURE.length;
+
+  private ImageUploadRules() {
+  }
+
+  public static boolean isJpeg(byte[] content) {
+    return startsWith(content, JPEG_SIGNATURE);
+  }
+
+  public static boolean isPng(byte[] content) {
+    return startsWith(content, PNG_SIGNATURE);
+  }
+
+  private static boolean startsWith(byte[] content, byte[] signature) {
+    return content.length >= signature.length
+        && Arrays.equals(content, 0, signature.length, signature, 0, signature.length);
+  }
+}
@@ -0,0 +1,20 @@
+package org.maxq.apigatewayservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Headers and leading bytes of a multipart file part.
+ */
+@AllArgsConstructor
+@Getter
+public class MultipartFilePart {
+
+  public static final long UNKNOWN_SIZE = -1;
+
+  private final String filename;
+  private final String contentType;
+  private final byte[] leadingBytes;
+  private final int contentOffset;
+  private final long size;
+}
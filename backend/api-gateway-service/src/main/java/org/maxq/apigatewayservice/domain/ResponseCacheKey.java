@@ -0,0 +1,17 @@
+package org.maxq.apigatewayservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+public class ResponseCacheKey {
+
+  private final String user;
+  private final String routeId;
+  private final String path;
+  private final String query;
+  private final String accept;
+}
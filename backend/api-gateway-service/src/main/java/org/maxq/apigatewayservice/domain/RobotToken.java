@@ -0,0 +1,19 @@
+package org.maxq.apigatewayservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@AllArgsConstructor
+@Getter
+public class RobotToken {
+
+  private String token;
+  private Instant expiresAt;
+
+  public boolean isValidFor(Duration duration, Instant now) {
+    return expiresAt.isAfter(now.plus(duration));
+  }
+}
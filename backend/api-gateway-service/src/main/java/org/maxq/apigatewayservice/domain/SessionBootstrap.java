@@ -0,0 +1,21 @@
+package org.maxq.apigatewayservice.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Data the frontend needs right after login. Parts whose upstream call failed are {@code null}
+ * and described in {@code errors} under the part name.
+ */
+@AllArgsConstructor
+@Getter
+public class SessionBootstrap {
+
+  private JsonNode me;
+  private JsonNode profile;
+  private BootstrapImage image;
+  private Map<String, BootstrapError> errors;
+}
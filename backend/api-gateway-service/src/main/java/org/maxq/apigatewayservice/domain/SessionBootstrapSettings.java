@@ -0,0 +1,18 @@
+package org.maxq.apigatewayservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@AllArgsConstructor
+@Getter
+public class SessionBootstrapSettings {
+
+  private String authorizationUrl;
+  private String profileUrl;
+  private Duration meTimeout;
+  private Duration profileTimeout;
+  private Duration imageTimeout;
+  private String imageUrl;
+}
@@ -0,0 +1,55 @@
+package org.maxq.apigatewayservice.domain;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class TokenBucket {
+
+  private static final double TOKEN_COST = 1;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final long capacity;
+  private final double tokensPerNano;
+
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(long capacity, long refillTokens, Duration refillPeriod, long nowNanos) {
+    if (capacity <= 0 || refillTokens <= 0 || refillPeriod.toNanos() <= 0) {
+      throw new IllegalArgumentException("Capacity, refill tokens and refill period must be positive");
+    }
+    this.capacity = capacity;
+    this.tokensPerNano = (double) refillTokens / refillPeriod.toNanos();
+    this.tokens = capacity;
+    this.lastRefillNanos = nowNanos;
+  }
+
+  /**
+   * Takes a single token from the bucket.
+   *
+   * @return {@link Duration#ZERO} when a token was taken, otherwise time until next token is available
+   */
+  public Duration tryConsume(long nowNanos) {
+    lock.lock();
+    try {
+      refill(nowNanos);
+
+      if (tokens >= TOKEN_COST) {
+        tokens -= TOKEN_COST;
+        return Duration.ZERO;
+      }
+
+      return Duration.ofNanos((long) Math.ceil((TOKEN_COST - tokens) / tokensPerNano));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void refill(long nowNanos) {
+    long elapsed = nowNanos - lastRefillNanos;
+    if (elapsed > 0) {
+      tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+      lastRefillNanos = nowNanos;
+    }
+  }
+}
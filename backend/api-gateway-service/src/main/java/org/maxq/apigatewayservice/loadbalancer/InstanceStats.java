@@ -0,0 +1,112 @@
+package org.maxq.apigatewayservice.loadbalancer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+class InstanceStats {
+
+  private final Map<RequestKey, Long> requestsInFlight = new ConcurrentHashMap<>();
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private double ewmaNanos;
+  private long lastSampleNanos;
+  private boolean sampled;
+  private int consecutiveFailures;
+  private long ejectedUntilNanos;
+
+  void onStart(Object request, long nowNanos) {
+    requestsInFlight.put(new RequestKey(request), nowNanos);
+  }
+
+  Long onEnd(Object request) {
+    return requestsInFlight.remove(new RequestKey(request));
+  }
+
+  int inFlight() {
+    return requestsInFlight.size();
+  }
+
+  void pruneInFlight(long startedBeforeNanos) {
+    requestsInFlight.values().removeIf(startedAt -> startedAt < startedBeforeNanos);
+  }
+
+  void recordLatency(long latencyNanos, long nowNanos, long decayNanos) {
+    lock.lock();
+    try {
+      if (!sampled || latencyNanos > ewmaNanos) {
+        ewmaNanos = latencyNanos;
+        sampled = true;
+      } else {
+        double weight = Math.exp(-(double) (nowNanos - lastSampleNanos) / decayNanos);
+        ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+      }
+      lastSampleNanos = nowNanos;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void recordSuccess() {
+    lock.lock();
+    try {
+      consecutiveFailures = 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void recordFailure(long nowNanos, int failureThreshold, long ejectionNanos) {
+    lock.lock();
+    try {
+      consecutiveFailures++;
+      if (consecutiveFailures >= failureThreshold) {
+        ejectedUntilNanos = nowNanos + ejectionNanos;
+        consecutiveFailures = 0;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  boolean isEjected(long nowNanos) {
+    lock.lock();
+    try {
+      return ejectedUntilNanos - nowNanos > 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  double latencyEstimateNanos() {
+    lock.lock();
+    try {
+      return ewmaNanos;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  double cost() {
+    return (latencyEstimateNanos() + 1) * (inFlight() + 1);
+  }
+
+  private static final class RequestKey {
+
+    private final Object request;
+
+    private RequestKey(Object request) {
+      this.request = request;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof RequestKey key && key.request == request;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(request);
+    }
+  }
+}
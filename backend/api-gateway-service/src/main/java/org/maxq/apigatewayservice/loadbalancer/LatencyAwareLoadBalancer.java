@@ -0,0 +1,194 @@
+package org.maxq.apigatewayservice.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.*;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.http.HttpStatusCode;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+    LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+  private static final int CHOICES = 2;
+
+  private final String serviceId;
+  private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+  private final LoadBalancerSettings settings;
+  private final LongSupplier nanoClock;
+
+  private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+  private final AtomicLong lastPruneNanos;
+
+  public LatencyAwareLoadBalancer(String serviceId,
+                                  ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                  LoadBalancerSettings settings) {
+    this(serviceId, supplierProvider, settings, System::nanoTime);
+  }
+
+  LatencyAwareLoadBalancer(String serviceId,
+                           ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                           LoadBalancerSettings settings,
+                           LongSupplier nanoClock) {
+    this.serviceId = serviceId;
+    this.supplierProvider = supplierProvider;
+    this.settings = settings;
+    this.nanoClock = nanoClock;
+    this.lastPruneNanos = new AtomicLong(nanoClock.getAsLong());
+  }
+
+  @Override
+  public Mono<Response<ServiceInstance>> choose(Request request) {
+    ServiceInstanceListSupplier supplier = supplierProvider
+        .getIfAvailable(NoopServiceInstanceListSupplier::new);
+
+    return supplier.get(request).next().map(instances -> {
+      Response<ServiceInstance> response = select(instances);
+      if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+        callback.selectedServiceInstance(response.getServer());
+      }
+      return response;
+    });
+  }
+
+  @Override
+  public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+    return RequestDataContext.class.isAssignableFrom(requestContextClass)
+        && ResponseData.class.isAssignableFrom(responseClass)
+        && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+  }
+
+  @Override
+  public void onStart(Request<RequestDataContext> request) {
+    // Instance is not known yet, tracking starts once it has been chosen
+  }
+
+  @Override
+  public void onStartRequest(Request<RequestDataContext> request,
+                             Response<ServiceInstance> lbResponse) {
+    if (lbResponse != null && lbResponse.hasServer()) {
+      statsFor(lbResponse.getServer()).onStart(request, nanoClock.getAsLong());
+    }
+  }
+
+  @Override
+  public void onComplete(
+      CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+    Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+    if (lbResponse == null || !lbResponse.hasServer()
+        || completionContext.status() == CompletionContext.Status.DISCARD) {
+      return;
+    }
+
+    ServiceInstance instance = lbResponse.getServer();
+    InstanceStats instanceStats = statsFor(instance);
+    long now = nanoClock.getAsLong();
+    Long startedAt = instanceStats.onEnd(completionContext.getLoadBalancerRequest());
+
+    if (isFailure(completionContext)) {
+      instanceStats.recordFailure(now, settings.getFailureThreshold(),
+          settings.getEjectionTime().toNanos());
+      if (instanceStats.isEjected(now)) {
+        log.warn("Ejecting instance '{}' of '{}' for {}", instanceKey(instance), serviceId,
+            settings.getEjectionTime());
+      }
+      return;
+    }
+
+    instanceStats.recordSuccess();
+    if (startedAt != null) {
+      instanceStats.recordLatency(now - startedAt, now, settings.getDecayTime().toNanos());
+    }
+  }
+
+  private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+    if (instances.isEmpty()) {
+      log.warn("No servers available for service: {}", serviceId);
+      return new EmptyResponse();
+    }
+
+    long now = nanoClock.getAsLong();
+    pruneRemovedInstances(instances);
+    pruneStaleRequests(now);
+
+    List<ServiceInstance> candidates = instances.stream()
+        .filter(instance -> !statsFor(instance).isEjected(now))
+        .toList();
+    if (candidates.isEmpty()) {
+      candidates = instances;
+    }
+
+    if (candidates.size() < CHOICES) {
+      return new DefaultResponse(candidates.get(0));
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(candidates.size());
+    int second = random.nextInt(candidates.size() - 1);
+    if (second >= first) {
+      second++;
+    }
+
+    ServiceInstance firstInstance = candidates.get(first);
+    ServiceInstance secondInstance = candidates.get(second);
+    return new DefaultResponse(
+        statsFor(firstInstance).cost() <= statsFor(secondInstance).cost()
+        ? firstInstance
+        : secondInstance
+    );
+  }
+
+  private boolean isFailure(
+      CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+    if (completionContext.status() == CompletionContext.Status.FAILED) {
+      return true;
+    }
+
+    ResponseData response = completionContext.getClientResponse();
+    HttpStatusCode status = response != null ? response.getHttpStatus() : null;
+    return status != null && status.is5xxServerError();
+  }
+
+  private void pruneRemovedInstances(List<ServiceInstance> instances) {
+    Set<String> keys = instances.stream()
+        .map(LatencyAwareLoadBalancer::instanceKey)
+        .collect(Collectors.toSet());
+    stats.keySet().retainAll(keys);
+  }
+
+  private void pruneStaleRequests(long now) {
+    long lastPrune = lastPruneNanos.get();
+    Duration timeout = settings.getInFlightTimeout();
+    if (now - lastPrune < timeout.toNanos() || !lastPruneNanos.compareAndSet(lastPrune, now)) {
+      return;
+    }
+
+    // Cancelled exchanges never complete, drop them so they do not count as in-flight forever
+    stats.values().forEach(instanceStats -> instanceStats.pruneInFlight(now - timeout.toNanos()));
+  }
+
+  private InstanceStats statsFor(ServiceInstance instance) {
+    return stats.computeIfAbsent(instanceKey(instance), key -> new InstanceStats());
+  }
+
+  private static String instanceKey(ServiceInstance instance) {
+    return instance.getInstanceId() != null
+           ? instance.getInstanceId()
+           : instance.getHost() + ":" + instance.getPort();
+  }
+}
@@ -0,0 +1,23 @@
+package org.maxq.apigatewayservice.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+public class LatencyAwareLoadBalancerConfig {
+
+  @Bean
+  public LatencyAwareLoadBalancer latencyAwareLoadBalancer(
+      Environment environment,
+      LoadBalancerClientFactory loadBalancerClientFactory,
+      LoadBalancerSettings loadBalancerSettings
+  ) {
+    String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+    return new LatencyAwareLoadBalancer(
+        serviceId,
+        loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+        loadBalancerSettings
+    );
+  }
+}
@@ -0,0 +1,23 @@
+package org.maxq.apigatewayservice.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfig.class)
+public class LoadBalancerConfig {
+
+  @Bean
+  public LoadBalancerSettings loadBalancerSettings(
+      @Value("${gateway.load-balancer.decay-time:10s}") Duration decayTime,
+      @Value("${gateway.load-balancer.failure-threshold:3}") int failureThreshold,
+      @Value("${gateway.load-balancer.ejection-time:30s}") Duration ejectionTime,
+      @Value("${gateway.load-balancer.in-flight-timeout:2m}") Duration inFlightTimeout
+  ) {
+    return new LoadBalancerSettings(decayTime, failureThreshold, ejectionTime, inFlightTimeout);
+  }
+}
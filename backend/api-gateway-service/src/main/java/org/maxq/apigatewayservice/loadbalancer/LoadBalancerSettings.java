@@ -0,0 +1,16 @@
+package org.maxq.apigatewayservice.loadbalancer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@AllArgsConstructor
+@Getter
+public class LoadBalancerSettings {
+
+  private Duration decayTime;
+  private int failureThreshold;
+  private Duration ejectionTime;
+  private Duration inFlightTimeout;
+}
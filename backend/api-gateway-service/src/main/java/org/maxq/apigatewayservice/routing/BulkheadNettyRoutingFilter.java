@@ -0,0 +1,87 @@
+package org.maxq.apigatewayservice.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link NettyRoutingFilter} sending routes with a dedicated connection pool through that pool.
+ */
+public class BulkheadNettyRoutingFilter extends NettyRoutingFilter {
+
+  private static final String UNKNOWN_ROUTE = "unknown";
+  // reactor-pool is shaded into reactor-netty, so its exceptions are matched by name
+  private static final Map<String, String> POOL_REJECTIONS = Map.of(
+      "PoolAcquirePendingLimitException", "pending_limit",
+      "PoolAcquireTimeoutException", "acquire_timeout");
+
+  private final RouteHttpClients routeHttpClients;
+  private final MeterRegistry meterRegistry;
+
+  public BulkheadNettyRoutingFilter(HttpClient httpClient,
+                                    ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+                                    HttpClientProperties properties,
+                                    RouteHttpClients routeHttpClients,
+                                    MeterRegistry meterRegistry) {
+    super(httpClient, headersFiltersProvider, properties);
+    this.routeHttpClients = routeHttpClients;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    return super.filter(exchange, chain)
+        .onErrorMap(error -> rejectionReason(error) != null,
+            error -> poolExhausted(exchange, rejectionReason(error), error));
+  }
+
+  @Override
+  protected HttpClient getHttpClient(Route route, ServerWebExchange exchange) {
+    return routeHttpClients.find(route)
+        .map(httpClient -> {
+          Object connectTimeout = route.getMetadata().get(RouteMetadataUtils.CONNECT_TIMEOUT_ATTR);
+          return connectTimeout == null
+              ? httpClient
+              : httpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                  Integer.parseInt(connectTimeout.toString()));
+        })
+        .orElseGet(() -> super.getHttpClient(route, exchange));
+  }
+
+  private static String rejectionReason(Throwable error) {
+    String reason = POOL_REJECTIONS.get(error.getClass().getSimpleName());
+    if (reason == null && error.getCause() != null) {
+      reason = POOL_REJECTIONS.get(error.getCause().getClass().getSimpleName());
+    }
+    return reason;
+  }
+
+  private ResponseStatusException poolExhausted(ServerWebExchange exchange, String reason,
+                                                Throwable error) {
+    Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+    Counter.builder("gateway.client.pool.rejected")
+        .description("Requests rejected because the route connection pool was saturated")
+        .tag("route", route == null ? UNKNOWN_ROUTE : route.getId())
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+    return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+        "Upstream connection pool is saturated", error);
+  }
+}
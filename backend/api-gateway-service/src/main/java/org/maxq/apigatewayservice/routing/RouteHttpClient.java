@@ -0,0 +1,23 @@
+package org.maxq.apigatewayservice.routing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+@AllArgsConstructor
+@Getter
+class RouteHttpClient {
+
+  private HttpClient httpClient;
+  private ConnectionProvider connectionProvider;
+  private LoopResources loopResources;
+
+  void dispose() {
+    connectionProvider.dispose();
+    if (loopResources != null) {
+      loopResources.dispose();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package org.maxq.apigatewayservice.routing;
+
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.util.List;
+
+/**
+ * Builds the gateway {@link HttpClient} (SSL, proxy, timeouts, customizers) on top of a
+ * connection pool and, optionally, event loops owned by a single route.
+ */
+class RouteHttpClientFactory extends HttpClientFactory {
+
+  static final String POOL_NAME_PREFIX = "route.";
+
+  private final String routeId;
+  private final RoutePoolSettings settings;
+  private ConnectionProvider connectionProvider;
+
+  RouteHttpClientFactory(String routeId, RoutePoolSettings settings,
+                         HttpClientProperties properties, ServerProperties serverProperties,
+                         HttpClientSslConfigurer sslConfigurer,
+                         List<HttpClientCustomizer> customizers) {
+    super(properties, serverProperties, sslConfigurer, customizers);
+    this.routeId = routeId;
+    this.settings = settings;
+  }
+
+  RouteHttpClient build() {
+    HttpClient httpClient = createInstance();
+    if (settings.getEventLoopThreads() <= 0) {
+      return new RouteHttpClient(httpClient, connectionProvider, null);
+    }
+
+    LoopResources loopResources =
+        LoopResources.create(POOL_NAME_PREFIX + routeId, settings.getEventLoopThreads(), true);
+    return new RouteHttpClient(httpClient.runOn(loopResources), connectionProvider, loopResources);
+  }
+
+  @Override
+  protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+    HttpClientProperties.Pool pool = properties.getPool();
+    ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME_PREFIX + routeId);
+    builder.maxConnections(settings.getMaxConnections())
+        .pendingAcquireMaxCount(settings.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(settings.getPendingAcquireTimeout())
+        .evictInBackground(pool.getEvictionInterval())
+        .metrics(true);
+
+    if (pool.getMaxIdleTime() != null) {
+      builder.maxIdleTime(pool.getMaxIdleTime());
+    }
+    if (pool.getMaxLifeTime() != null) {
+      builder.maxLifeTime(pool.getMaxLifeTime());
+    }
+
+    connectionProvider = builder.build();
+    return connectionProvider;
+  }
+}
@@ -0,0 +1,48 @@
+package org.maxq.apigatewayservice.routing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.route.Route;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lazily created HTTP clients of routes declaring their own connection pool. Pools are kept per
+ * route id for the lifetime of the application.
+ */
+@RequiredArgsConstructor
+public class RouteHttpClients implements DisposableBean {
+
+  private final ConcurrentMap<String, RouteHttpClient> clients = new ConcurrentHashMap<>();
+  private final HttpClientProperties properties;
+  private final ServerProperties serverProperties;
+  private final HttpClientSslConfigurer sslConfigurer;
+  private final List<HttpClientCustomizer> customizers;
+
+  public Optional<HttpClient> find(Route route) {
+    RouteHttpClient client = clients.get(route.getId());
+    if (client != null) {
+      return Optional.of(client.getHttpClient());
+    }
+
+    return RoutePoolSettings.from(route.getMetadata())
+        .map(settings -> clients.computeIfAbsent(route.getId(), routeId ->
+            new RouteHttpClientFactory(routeId, settings, properties, serverProperties,
+                sslConfigurer, customizers).build()))
+        .map(RouteHttpClient::getHttpClient);
+  }
+
+  @Override
+  public void destroy() {
+    clients.values().forEach(RouteHttpClient::dispose);
+    clients.clear();
+  }
+}
@@ -0,0 +1,55 @@
+package org.maxq.apigatewayservice.routing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Dedicated connection pool of a route, read from its {@code metadata}. Routes without
+ * {@code max-connections} keep using the shared gateway pool.
+ */
+@AllArgsConstructor
+@Getter
+public class RoutePoolSettings {
+
+  public static final String MAX_CONNECTIONS = "max-connections";
+  public static final String PENDING_ACQUIRE_MAX_COUNT = "pending-acquire-max-count";
+  public static final String PENDING_ACQUIRE_TIMEOUT = "pending-acquire-timeout";
+  public static final String EVENT_LOOP_THREADS = "event-loop-threads";
+
+  private static final Duration DEFAULT_PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(5);
+
+  private int maxConnections;
+  private int pendingAcquireMaxCount;
+  private Duration pendingAcquireTimeout;
+  private int eventLoopThreads;
+
+  public static Optional<RoutePoolSettings> from(Map<String, Object> metadata) {
+    Object maxConnections = metadata.get(MAX_CONNECTIONS);
+    if (maxConnections == null) {
+      return Optional.empty();
+    }
+
+    int connections = toInt(maxConnections);
+    return Optional.of(new RoutePoolSettings(
+        connections,
+        Optional.ofNullable(metadata.get(PENDING_ACQUIRE_MAX_COUNT))
+            .map(RoutePoolSettings::toInt)
+            .orElse(connections * 2),
+        Optional.ofNullable(metadata.get(PENDING_ACQUIRE_TIMEOUT))
+            .map(value -> DurationStyle.detectAndParse(value.toString()))
+            .orElse(DEFAULT_PENDING_ACQUIRE_TIMEOUT),
+        Optional.ofNullable(metadata.get(EVENT_LOOP_THREADS))
+            .map(RoutePoolSettings::toInt)
+            .orElse(0)
+    ));
+  }
+
+  private static int toInt(Object value) {
+    return value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString());
+  }
+}
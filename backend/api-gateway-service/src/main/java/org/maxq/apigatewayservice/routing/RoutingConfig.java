@@ -0,0 +1,50 @@
+package org.maxq.apigatewayservice.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+
+/**
+ * Replaces the gateway routing filter, disabled with
+ * {@code spring.cloud.gateway.server.webflux.global-filter.netty-routing.enabled=false}. The same
+ * switch turns off {@link NettyWriteResponseFilter}, so it is registered here as well.
+ */
+@Configuration
+public class RoutingConfig {
+
+  @Bean
+  public RouteHttpClients routeHttpClients(HttpClientProperties properties,
+                                           ServerProperties serverProperties,
+                                           HttpClientSslConfigurer sslConfigurer,
+                                           ObjectProvider<HttpClientCustomizer> customizers) {
+    return new RouteHttpClients(properties, serverProperties, sslConfigurer,
+        customizers.orderedStream().toList());
+  }
+
+  @Bean
+  public BulkheadNettyRoutingFilter bulkheadNettyRoutingFilter(
+      HttpClient httpClient,
+      ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+      HttpClientProperties properties,
+      RouteHttpClients routeHttpClients,
+      MeterRegistry meterRegistry) {
+    return new BulkheadNettyRoutingFilter(httpClient, headersFilters, properties,
+        routeHttpClients, meterRegistry);
+  }
+
+  @Bean
+  public NettyWriteResponseFilter nettyWriteResponseFilter(GatewayProperties gatewayProperties) {
+    return new NettyWriteResponseFilter(gatewayProperties.getStreamingMediaTypes());
+  }
+}
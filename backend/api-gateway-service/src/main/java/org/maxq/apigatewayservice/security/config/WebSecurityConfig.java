@@ -1,8 +1,11 @@
 package org.maxq.apigatewayservice.security.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.maxq.apigatewayservice.controller.config.CustomAccessDeniedHandler;
 import org.maxq.apigatewayservice.controller.config.CustomAuthenticationFailureHandler;
+import org.maxq.apigatewayservice.security.decoder.CachingReactiveJwtDecoder;
+import org.maxq.apigatewayservice.security.decoder.TimedReactiveJwtDecoder;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -22,6 +25,7 @@ import org.springframework.web.cors.reactive.CorsConfigurationSource;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
 
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -32,18 +36,28 @@ public class WebSecurityConfig {
   @Value("${frontend.url}")
   private String frontendUrl;
 
+  @Value("${jwt.user-token-cache.max-size:10000}")
+  private long userTokenCacheMaxSize;
+
+  @Value("${jwt.user-token-cache.ttl:15m}")
+  private Duration userTokenCacheTtl;
+
+  @Value("${jwt.user-token-cache.rejected-ttl:30s}")
+  private Duration userTokenCacheRejectedTtl;
+
   @Bean
   public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
-                                                       @Qualifier("user") RSAPublicKey userPublicKey
+                                                       ReactiveJwtDecoder jwtDecoder
   ) {
     http.authorizeExchange(exchanges -> exchanges
             .pathMatchers("/api/auth/login/me").authenticated()
+            .pathMatchers("/api/session/**").authenticated()
             .pathMatchers("/api/auth/users/**").hasRole("ADMIN")
             .pathMatchers("/api/auth/roles/**").hasRole("ADMIN")
             .anyExchange().permitAll())
         .oauth2ResourceServer(oauth2 ->
             oauth2.jwt(jwtConfigurer ->
-                jwtConfigurer.jwtDecoder(nimbusJwtDecoder(userPublicKey))))
+                jwtConfigurer.jwtDecoder(jwtDecoder)))
         .cors(cors -> cors.configurationSource(corsConfigurationSource()))
         .csrf(ServerHttpSecurity.CsrfSpec::disable)
         .exceptionHandling(exceptions -> exceptions
@@ -54,8 +68,15 @@ public class WebSecurityConfig {
   }
 
   @Bean
-  public ReactiveJwtDecoder nimbusJwtDecoder(@Qualifier("user") RSAPublicKey publicKey) {
-    return NimbusReactiveJwtDecoder.withPublicKey(publicKey).build();
+  public ReactiveJwtDecoder nimbusJwtDecoder(@Qualifier("user") RSAPublicKey publicKey,
+                                             MeterRegistry meterRegistry) {
+    return new CachingReactiveJwtDecoder(
+        new TimedReactiveJwtDecoder(NimbusReactiveJwtDecoder.withPublicKey(publicKey).build(), meterRegistry),
+        meterRegistry,
+        userTokenCacheMaxSize,
+        userTokenCacheTtl,
+        userTokenCacheRejectedTtl
+    );
   }
 
   @Bean
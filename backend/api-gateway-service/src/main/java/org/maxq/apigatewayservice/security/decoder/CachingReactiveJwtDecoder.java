@@ -0,0 +1,111 @@
+package org.maxq.apigatewayservice.security.decoder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+  private final ReactiveJwtDecoder delegate;
+  private final Cache<String, DecodeResult> cache;
+
+  public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate,
+                                   MeterRegistry meterRegistry,
+                                   long maxSize,
+                                   Duration ttl,
+                                   Duration rejectedTtl) {
+    this.delegate = delegate;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new DecodeResultExpiry(ttl, rejectedTtl))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.jwt.decoder");
+  }
+
+  @Override
+  public Mono<Jwt> decode(String token) {
+    String key = digest(token);
+    DecodeResult cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached.toMono();
+    }
+
+    return delegate.decode(token)
+        .doOnNext(jwt -> cache.put(key, new DecodeResult(jwt, null)))
+        .doOnError(BadJwtException.class, e -> cache.put(key, new DecodeResult(null, e)));
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static final class DecodeResult {
+
+    private final Jwt jwt;
+    private final BadJwtException error;
+
+    Mono<Jwt> toMono() {
+      return jwt != null ? Mono.just(jwt) : Mono.error(error);
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static final class DecodeResultExpiry implements Expiry<String, DecodeResult> {
+
+    private final Duration ttl;
+    private final Duration rejectedTtl;
+
+    @Override
+    public long expireAfterCreate(String key, DecodeResult value, long currentTime) {
+      if (value.jwt == null) {
+        return rejectedTtl.toNanos();
+      }
+
+      Instant expiresAt = value.jwt.getExpiresAt();
+      if (expiresAt == null) {
+        return ttl.toNanos();
+      }
+
+      Duration untilExpiry = Duration.between(Instant.now(), expiresAt);
+      if (untilExpiry.isNegative()) {
+        return 0;
+      }
+      return untilExpiry.compareTo(ttl) < 0 ? untilExpiry.toNanos() : ttl.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, DecodeResult value, long currentTime,
+                                  long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, DecodeResult value, long currentTime,
+                                long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package org.maxq.apigatewayservice.security.decoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+public class TimedReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+  private final ReactiveJwtDecoder delegate;
+  private final Timer success;
+  private final Timer failure;
+
+  public TimedReactiveJwtDecoder(ReactiveJwtDecoder delegate, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.success = timer(meterRegistry, "success");
+    this.failure = timer(meterRegistry, "failure");
+  }
+
+  @Override
+  public Mono<Jwt> decode(String token) {
+    return Mono.defer(() -> {
+      long start = System.nanoTime();
+      return delegate.decode(token)
+          .doOnSuccess(jwt -> success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+          .doOnError(e -> failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    });
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder("gateway.jwt.decode")
+        .description("Time to verify and decode user JWTs missing from the decoder cache")
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+}
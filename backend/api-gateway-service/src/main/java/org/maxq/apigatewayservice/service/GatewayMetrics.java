@@ -0,0 +1,79 @@
+package org.maxq.apigatewayservice.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+public class GatewayMetrics {
+
+  private static final String ROUTE_TAG = "route";
+  private static final String UNKNOWN_ROUTE = "unknown";
+  private static final String REQUEST_SIZE = "gateway.request.size";
+  private static final String RESPONSE_SIZE = "gateway.response.size";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<MeterKey, Timer> upstreamLatencies = new ConcurrentHashMap<>();
+  private final Map<MeterKey, Timer> filterDurations = new ConcurrentHashMap<>();
+  private final Map<MeterKey, DistributionSummary> sizes = new ConcurrentHashMap<>();
+
+  public void recordUpstreamLatency(ServerWebExchange exchange, String status, long nanos) {
+    upstreamLatencies.computeIfAbsent(new MeterKey(routeId(exchange), status), key ->
+            Timer.builder("gateway.upstream.latency")
+                .description("Time until the upstream service returned response headers")
+                .tag(ROUTE_TAG, key.route())
+                .tag("status", key.qualifier())
+                .publishPercentileHistogram()
+                .register(meterRegistry))
+        .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordFilterTime(String filter, ServerWebExchange exchange, long nanos) {
+    filterDurations.computeIfAbsent(new MeterKey(routeId(exchange), filter), key ->
+            Timer.builder("gateway.filter.duration")
+                .description("Time spent in a global filter before passing the exchange on")
+                .tag("filter", key.qualifier())
+                .tag(ROUTE_TAG, key.route())
+                .publishPercentileHistogram()
+                .register(meterRegistry))
+        .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordRequestSize(ServerWebExchange exchange, long bytes) {
+    size(REQUEST_SIZE, "Request body size forwarded to the upstream service", exchange)
+        .record(bytes);
+  }
+
+  public void recordResponseSize(ServerWebExchange exchange, long bytes) {
+    size(RESPONSE_SIZE, "Response body size written to the client", exchange)
+        .record(bytes);
+  }
+
+  private DistributionSummary size(String name, String description, ServerWebExchange exchange) {
+    return sizes.computeIfAbsent(new MeterKey(routeId(exchange), name), key ->
+        DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit("bytes")
+            .tag(ROUTE_TAG, key.route())
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+  }
+
+  private static String routeId(ServerWebExchange exchange) {
+    Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+    return route == null ? UNKNOWN_ROUTE : route.getId();
+  }
+
+  private record MeterKey(String route, String qualifier) {
+  }
+}
@@ -0,0 +1,59 @@
+package org.maxq.apigatewayservice.service;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+
+@Service
+@ConditionalOnProperty(name = "jwt.internal-auth.mode", havingValue = "hmac")
+public class HmacInternalTokenIssuer implements InternalTokenIssuer {
+
+  public static final String USER_CLAIM = "x_user";
+  public static final String USER_ROLES_CLAIM = "x_user_roles";
+
+  private static final long TOKEN_VALIDITY_SECONDS = 60;
+
+  private final JwtEncoder jwtEncoder;
+  private final JwsHeader jwsHeader;
+  private final String issuer;
+
+  public HmacInternalTokenIssuer(
+      @Value("${jwt.issuer}") String issuer,
+      @Qualifier("internal") SecretKey secretKey
+  ) {
+    this.issuer = issuer;
+    this.jwtEncoder = new NimbusJwtEncoder(new ImmutableSecret<>(secretKey));
+    this.jwsHeader = JwsHeader.with(MacAlgorithm.HS256).build();
+  }
+
+  @Override
+  public String issueToken(String user, String userRoles) {
+    Instant issuedAt = Instant.now();
+    JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+        .issuer(issuer)
+        .issuedAt(issuedAt)
+        .expiresAt(issuedAt.plusSeconds(TOKEN_VALIDITY_SECONDS))
+        .subject("robot")
+        .claim("type", "access_token");
+
+    if (user != null) {
+      claims.claim(USER_CLAIM, user);
+    }
+    if (userRoles != null) {
+      claims.claim(USER_ROLES_CLAIM, userRoles);
+    }
+
+    return jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, claims.build())).getTokenValue();
+  }
+}
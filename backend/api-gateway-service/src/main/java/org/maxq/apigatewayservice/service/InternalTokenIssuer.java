@@ -0,0 +1,6 @@
+package org.maxq.apigatewayservice.service;
+
+public interface InternalTokenIssuer {
+
+  String issueToken(String user, String userRoles);
+}
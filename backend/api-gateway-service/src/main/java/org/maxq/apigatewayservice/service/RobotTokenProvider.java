@@ -0,0 +1,140 @@
+package org.maxq.apigatewayservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.apigatewayservice.domain.RobotToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "jwt.internal-auth.mode", havingValue = "rsa", matchIfMissing = true)
+public class RobotTokenProvider implements InternalTokenIssuer {
+
+  private final TokenService tokenService;
+  private final int poolSize;
+  private final Duration refreshBefore;
+  private final Duration minValidity;
+  private final Duration refreshInterval;
+
+  private final AtomicReference<List<RobotToken>> pool = new AtomicReference<>(List.of());
+  private final AtomicInteger cursor = new AtomicInteger();
+  private final ScheduledExecutorService scheduler;
+
+  private final Counter signatures;
+  private final Counter hits;
+  private final Counter misses;
+
+  public RobotTokenProvider(
+      TokenService tokenService,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.robot-token.pool-size:4}") int poolSize,
+      @Value("${jwt.robot-token.refresh-before:20s}") Duration refreshBefore,
+      @Value("${jwt.robot-token.min-validity:10s}") Duration minValidity,
+      @Value("${jwt.robot-token.refresh-interval:5s}") Duration refreshInterval
+  ) {
+    this.tokenService = tokenService;
+    this.poolSize = poolSize;
+    this.refreshBefore = refreshBefore;
+    this.minValidity = minValidity;
+    this.refreshInterval = refreshInterval;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "robot-token-refresh");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    this.signatures = Counter.builder("gateway.robot.token.signatures")
+        .description("Number of robot tokens signed")
+        .register(meterRegistry);
+    this.hits = Counter.builder("gateway.robot.token.requests")
+        .description("Robot token requests served from the pool or signed on demand")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.misses = Counter.builder("gateway.robot.token.requests")
+        .description("Robot token requests served from the pool or signed on demand")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder("gateway.robot.token.hit.ratio", this, RobotTokenProvider::hitRatio)
+        .description("Ratio of robot token requests served from the pool")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    refresh();
+    scheduler.scheduleWithFixedDelay(this::refreshSafely,
+        refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    scheduler.shutdownNow();
+  }
+
+  @Override
+  public String issueToken(String user, String userRoles) {
+    return getToken();
+  }
+
+  public String getToken() {
+    List<RobotToken> tokens = pool.get();
+    if (!tokens.isEmpty()) {
+      RobotToken token = tokens.get(Math.floorMod(cursor.getAndIncrement(), tokens.size()));
+      if (token.isValidFor(minValidity, Instant.now())) {
+        hits.increment();
+        return token.getToken();
+      }
+    }
+
+    misses.increment();
+    return sign().getToken();
+  }
+
+  void refresh() {
+    Instant now = Instant.now();
+    List<RobotToken> current = pool.get();
+    List<RobotToken> refreshed = new ArrayList<>(poolSize);
+
+    for (int i = 0; i < poolSize; i++) {
+      RobotToken token = i < current.size() ? current.get(i) : null;
+      refreshed.add(token != null && token.isValidFor(refreshBefore, now) ? token : sign());
+    }
+
+    pool.set(List.copyOf(refreshed));
+  }
+
+  private void refreshSafely() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      log.error("Failed to refresh robot token pool: {}", e.getMessage(), e);
+    }
+  }
+
+  private RobotToken sign() {
+    RobotToken token = tokenService.generateRobotToken();
+    signatures.increment();
+    return token;
+  }
+
+  private double hitRatio() {
+    double total = hits.count() + misses.count();
+    return total == 0 ? 0 : hits.count() / total;
+  }
+}
@@ -0,0 +1,119 @@
+package org.maxq.apigatewayservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.maxq.apigatewayservice.domain.BootstrapError;
+import org.maxq.apigatewayservice.domain.BootstrapImage;
+import org.maxq.apigatewayservice.domain.SessionBootstrap;
+import org.maxq.apigatewayservice.domain.SessionBootstrapSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fetches everything the frontend loads after login with one round trip. Upstream calls run
+ * concurrently, each bounded by its own timeout, and a failing call only leaves its part empty.
+ * The profile image is only checked with a HEAD request, the client downloads it from its URL.
+ */
+@Service
+public class SessionBootstrapService {
+
+  static final String ME = "me";
+  static final String PROFILE = "profile";
+  static final String IMAGE = "image";
+
+  private final WebClient webClient;
+  private final SessionBootstrapSettings settings;
+  private final InternalTokenIssuer internalTokenIssuer;
+
+  public SessionBootstrapService(@Qualifier("sessionBootstrapWebClient") WebClient webClient,
+                                 SessionBootstrapSettings settings,
+                                 InternalTokenIssuer internalTokenIssuer) {
+    this.webClient = webClient;
+    this.settings = settings;
+    this.internalTokenIssuer = internalTokenIssuer;
+  }
+
+  public Mono<SessionBootstrap> bootstrap(String user, String userRoles) {
+    Map<String, BootstrapError> errors = new ConcurrentHashMap<>();
+
+    Mono<Optional<JsonNode>> me = request(HttpMethod.GET, settings.getAuthorizationUrl() + "/login/me",
+        user, userRoles)
+        .bodyToMono(JsonNode.class)
+        .transform(call -> part(call, ME, settings.getMeTimeout(), errors));
+    Mono<Optional<JsonNode>> profile = request(HttpMethod.GET, settings.getProfileUrl() + "/profiles/me",
+        user, userRoles)
+        .bodyToMono(JsonNode.class)
+        .transform(call -> part(call, PROFILE, settings.getProfileTimeout(), errors));
+    Mono<Optional<BootstrapImage>> image = request(HttpMethod.HEAD,
+        settings.getProfileUrl() + "/profiles/me/image", user, userRoles)
+        .toBodilessEntity()
+        .map(this::toImage)
+        .transform(call -> part(call, IMAGE, settings.getImageTimeout(), errors));
+
+    return Mono.zip(me, profile, image)
+        .map(parts -> new SessionBootstrap(
+            parts.getT1().orElse(null),
+            parts.getT2().orElse(null),
+            parts.getT3().orElse(null),
+            errors
+        ));
+  }
+
+  private WebClient.ResponseSpec request(HttpMethod method, String uri, String user,
+                                         String userRoles) {
+    return webClient.method(method)
+        .uri(uri)
+        .accept(MediaType.APPLICATION_JSON, MediaType.ALL)
+        .headers(headers -> {
+          headers.setBearerAuth(internalTokenIssuer.issueToken(user, userRoles));
+          headers.set("X-User", user);
+          headers.set("X-User-Roles", userRoles);
+          headers.set("X-Gateway", "api-gateway-service");
+        })
+        .retrieve();
+  }
+
+  private <T> Mono<Optional<T>> part(Mono<T> call, String name, Duration timeout,
+                                     Map<String, BootstrapError> errors) {
+    return call
+        .timeout(timeout)
+        .map(Optional::of)
+        .defaultIfEmpty(Optional.empty())
+        .onErrorResume(error -> {
+          errors.put(name, toError(error));
+          return Mono.just(Optional.empty());
+        });
+  }
+
+  private static BootstrapError toError(Throwable error) {
+    if (error instanceof WebClientResponseException responseException) {
+      return new BootstrapError(responseException.getStatusCode().value(),
+          "Upstream service responded with an error");
+    }
+    if (error instanceof TimeoutException) {
+      return new BootstrapError(HttpStatus.GATEWAY_TIMEOUT.value(),
+          "Upstream service did not respond in time");
+    }
+    return new BootstrapError(HttpStatus.BAD_GATEWAY.value(), "Upstream service is unavailable");
+  }
+
+  private BootstrapImage toImage(ResponseEntity<Void> image) {
+    MediaType contentType = Optional.ofNullable(image.getHeaders().getContentType())
+        .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    long size = image.getHeaders().getContentLength();
+    return new BootstrapImage(settings.getImageUrl(), contentType.toString(),
+        size < 0 ? null : size);
+  }
+}
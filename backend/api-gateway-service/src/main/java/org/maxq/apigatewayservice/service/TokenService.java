@@ -3,6 +3,7 @@ package org.maxq.apigatewayservice.service;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.maxq.apigatewayservice.domain.RobotToken;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
@@ -20,6 +21,8 @@ import java.time.temporal.ChronoUnit;
 @Service
 public class TokenService {
 
+  private static final long ROBOT_TOKEN_VALIDITY_SECONDS = 60;
+
   private final JwtEncoder jwtEncoder;
   private final String issuer;
 
@@ -41,15 +44,24 @@ public class TokenService {
   }
 
   public String generateToken() {
+    return generateRobotToken().getToken();
+  }
+
+  public RobotToken generateRobotToken() {
+    Instant issuedAt = Instant.now();
+    Instant expiresAt = issuedAt.plusSeconds(ROBOT_TOKEN_VALIDITY_SECONDS);
     JwtClaimsSet claimsSet = JwtClaimsSet.builder()
         .issuer(issuer)
-        .issuedAt(Instant.now())
-        .expiresAt(Instant.now().plusSeconds(60))
+        .issuedAt(issuedAt)
+        .expiresAt(expiresAt)
         .subject("robot")
         .claim("type", "access_token")
         .build();
 
-    return jwtEncoder.encode(JwtEncoderParameters.from(claimsSet)).getTokenValue();
+    return new RobotToken(
+        jwtEncoder.encode(JwtEncoderParameters.from(claimsSet)).getTokenValue(),
+        expiresAt
+    );
   }
 
   @Profile({"DEV"})
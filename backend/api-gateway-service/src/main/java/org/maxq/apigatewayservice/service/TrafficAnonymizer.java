@@ -0,0 +1,65 @@
+package org.maxq.apigatewayservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Strips identifying data from captured requests. Path segments looking like ids, emails or
+ * tokens are replaced with {@value #ID_PLACEHOLDER} and users are reduced to a salted hash. When
+ * no salt is configured a random one is used, so hashes cannot be linked across restarts.
+ */
+@Service
+@ConditionalOnProperty(name = "gateway.traffic-capture.enabled", havingValue = "true")
+public class TrafficAnonymizer {
+
+  public static final String ID_PLACEHOLDER = "{id}";
+
+  private static final Pattern ID_SEGMENT = Pattern.compile(
+      "\\d+|[0-9a-fA-F-]{32,36}|[^/]*@[^/]*|(?=[^/]*\\d)[A-Za-z0-9_.=-]{16,}");
+  private static final int SALT_BYTES = 16;
+
+  private final byte[] salt;
+
+  public TrafficAnonymizer(@Value("${gateway.traffic-capture.user-hash-salt:}") String salt) {
+    if (salt.isBlank()) {
+      this.salt = new byte[SALT_BYTES];
+      new SecureRandom().nextBytes(this.salt);
+    } else {
+      this.salt = salt.getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  public String pathTemplate(String path) {
+    String[] segments = path.split("/", -1);
+    for (int i = 0; i < segments.length; i++) {
+      if (ID_SEGMENT.matcher(segments[i]).matches()) {
+        segments[i] = ID_PLACEHOLDER;
+      }
+    }
+    return String.join("/", segments);
+  }
+
+  /**
+   * @return first 8 bytes of SHA-256 over the salt and the user, 0 for anonymous requests
+   */
+  public long userHash(String user) {
+    if (user == null || user.isEmpty()) {
+      return 0;
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(salt);
+      return ByteBuffer.wrap(digest.digest(user.getBytes(StandardCharsets.UTF_8))).getLong();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package org.maxq.apigatewayservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.apigatewayservice.domain.CapturedRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Appends captured requests to a binary log from a single background thread, so requests never
+ * wait for the disk. When the queue is full new records are dropped and counted instead.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "gateway.traffic-capture.enabled", havingValue = "true")
+public class TrafficCaptureWriter {
+
+  public static final int MAGIC = 0x47575443;
+  public static final int VERSION = 1;
+
+  private static final long POLL_INTERVAL_MILLIS = 500;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+  private final Path file;
+  private final BlockingQueue<CapturedRequest> queue;
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final ExecutorService executor;
+
+  private final Counter written;
+  private final Counter dropped;
+
+  private DataOutputStream output;
+
+  public TrafficCaptureWriter(
+      MeterRegistry meterRegistry,
+      @Value("${gateway.traffic-capture.file:captures/gateway-traffic.bin}") Path file,
+      @Value("${gateway.traffic-capture.queue-size:10000}") int queueSize
+  ) {
+    this.file = file;
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "traffic-capture-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    this.written = Counter.builder("gateway.traffic.capture.records")
+        .description("Requests written to the traffic capture log")
+        .tag("result", "written")
+        .register(meterRegistry);
+    this.dropped = Counter.builder("gateway.traffic.capture.records")
+        .description("Requests written to the traffic capture log")
+        .tag("result", "dropped")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    boolean newFile = Files.notExists(file) || Files.size(file) == 0;
+    output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+        file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+    if (newFile) {
+      output.writeInt(MAGIC);
+      output.writeShort(VERSION);
+      output.flush();
+    }
+
+    running.set(true);
+    executor.execute(this::drain);
+    log.info("Capturing gateway traffic to {}", file.toAbsolutePath());
+  }
+
+  public void capture(CapturedRequest request) {
+    if (!queue.offer(request)) {
+      dropped.increment();
+    }
+  }
+
+  @PreDestroy
+  public void stop() throws IOException, InterruptedException {
+    running.set(false);
+    executor.shutdown();
+    if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      executor.shutdownNow();
+    }
+    output.close();
+  }
+
+  private void drain() {
+    while (running.get() || !queue.isEmpty()) {
+      try {
+        CapturedRequest request = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        if (request != null) {
+          request.writeTo(output);
+          written.increment();
+        }
+        if (queue.isEmpty()) {
+          output.flush();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (IOException e) {
+        log.error("Could not write to traffic capture log {}", file, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package org.maxq.apigatewayservice.controller;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "eureka.client.enabled=false",
+        "gateway.session-bootstrap.me-timeout=1500ms",
+        "gateway.session-bootstrap.profile-timeout=1500ms",
+        "gateway.session-bootstrap.image-timeout=1500ms"
+    }
+)
+class SessionControllerTest {
+
+  private static final String USER = "test@test.com";
+  private static final String IMAGE_URL = "/api/profile/profiles/me/image";
+
+  @RegisterExtension
+  private static final WireMockExtension AUTHORIZATION_SERVICE = WireMockExtension.newInstance()
+      .options(wireMockConfig().dynamicPort())
+      .build();
+  @RegisterExtension
+  private static final WireMockExtension PROFILE_SERVICE = WireMockExtension.newInstance()
+      .options(wireMockConfig().dynamicPort())
+      .build();
+
+  @LocalServerPort
+  private int port;
+  @MockitoBean
+  private ReactiveJwtDecoder jwtDecoder;
+  private WebTestClient webTestClient;
+
+  @DynamicPropertySource
+  static void upstreams(DynamicPropertyRegistry registry) {
+    registry.add("gateway.session-bootstrap.authorization-url", AUTHORIZATION_SERVICE::baseUrl);
+    registry.add("gateway.session-bootstrap.profile-url", PROFILE_SERVICE::baseUrl);
+  }
+
+  @BeforeEach
+  void setUp() {
+    webTestClient = WebTestClient.bindToServer()
+        .responseTimeout(Duration.ofSeconds(10))
+        .baseUrl("http://localhost:" + port)
+        .build();
+
+    Jwt jwt = Jwt.withTokenValue("test-token")
+        .header("alg", "RS256")
+        .subject(USER)
+        .issuer("authorization-service")
+        .claim("type", "access_token")
+        .claim("roles", List.of("ROLE_USER", "ROLE_ADMIN"))
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plusSeconds(3600))
+        .build();
+    when(jwtDecoder.decode("test-token")).thenReturn(Mono.just(jwt));
+  }
+
+  @Test
+  void shouldCombineAllUpstreamResponses() {
+    // Given
+    AUTHORIZATION_SERVICE.stubFor(WireMock.get("/login/me")
+        .willReturn(WireMock.okJson("{\"email\":\"test@test.com\"}")));
+    PROFILE_SERVICE.stubFor(WireMock.get("/profiles/me")
+        .willReturn(WireMock.okJson("{\"name\":\"Test\"}")));
+    PROFILE_SERVICE.stubFor(WireMock.head(WireMock.urlEqualTo("/profiles/me/image"))
+        .willReturn(WireMock.ok()
+            .withHeader(HttpHeaders.CONTENT_TYPE, "image/jpeg")
+            .withHeader(HttpHeaders.CONTENT_LENGTH, "6")));
+
+    // When + Then
+    bootstrap()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.me.email").isEqualTo(USER)
+        .jsonPath("$.profile.name").isEqualTo("Test")
+        .jsonPath("$.image.url").isEqualTo(IMAGE_URL)
+        .jsonPath("$.image.contentType").isEqualTo("image/jpeg")
+        .jsonPath("$.image.size").isEqualTo(6)
+        .jsonPath("$.errors").isEmpty();
+  }
+
+  @Test
+  void shouldForwardUserHeadersToUpstreams() {
+    // Given
+    AUTHORIZATION_SERVICE.stubFor(WireMock.get("/login/me")
+        .willReturn(WireMock.okJson("{}")));
+    PROFILE_SERVICE.stubFor(WireMock.any(WireMock.urlPathMatching("/profiles/me.*"))
+        .willReturn(WireMock.okJson("{}")));
+
+    // When
+    bootstrap()
+        .expectStatus().isOk();
+
+    // Then
+    AUTHORIZATION_SERVICE.verify(WireMock.getRequestedFor(WireMock.urlEqualTo("/login/me"))
+        .withHeader("X-User", WireMock.equalTo(USER))
+        .withHeader("X-User-Roles", WireMock.equalTo("ROLE_USER,ROLE_ADMIN"))
+        .withHeader("X-Gateway", WireMock.equalTo("api-gateway-service"))
+        .withHeader(HttpHeaders.AUTHORIZATION, WireMock.matching("Bearer .+")));
+    PROFILE_SERVICE.verify(2, WireMock.anyRequestedFor(WireMock.urlPathMatching("/profiles/me.*"))
+        .withHeader("X-User", WireMock.equalTo(USER)));
+  }
+
+  @Test
+  void shouldReturnPartialResult_when_upstreamFailsOrTimesOut() {
+    // Given
+    AUTHORIZATION_SERVICE.stubFor(WireMock.get("/login/me")
+        .willReturn(WireMock.okJson("{\"email\":\"test@test.com\"}")));
+    PROFILE_SERVICE.stubFor(WireMock.get("/profiles/me")
+        .willReturn(WireMock.okJson("{}").withFixedDelay(3000)));
+    PROFILE_SERVICE.stubFor(WireMock.head(WireMock.urlEqualTo("/profiles/me/image"))
+        .willReturn(WireMock.notFound()));
+
+    // When + Then
+    bootstrap()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.me.email").isEqualTo(USER)
+        .jsonPath("$.profile").doesNotExist()
+        .jsonPath("$.image").doesNotExist()
+        .jsonPath("$.errors.profile.status").isEqualTo(504)
+        .jsonPath("$.errors.image.status").isEqualTo(404);
+  }
+
+  @Test
+  void shouldCallUpstreamsConcurrently() {
+    // Given
+    AUTHORIZATION_SERVICE.stubFor(WireMock.get("/login/me")
+        .willReturn(WireMock.okJson("{}")));
+    PROFILE_SERVICE.stubFor(WireMock.any(WireMock.urlPathMatching("/profiles/me.*"))
+        .willReturn(WireMock.okJson("{}")));
+    // the first call pays for client and resolver initialisation
+    bootstrap().expectStatus().isOk();
+
+    AUTHORIZATION_SERVICE.stubFor(WireMock.get("/login/me")
+        .willReturn(WireMock.okJson("{}").withFixedDelay(1000)));
+    PROFILE_SERVICE.stubFor(WireMock.any(WireMock.urlPathMatching("/profiles/me.*"))
+        .willReturn(WireMock.okJson("{}").withFixedDelay(1000)));
+
+    // When
+    long start = System.nanoTime();
+    bootstrap()
+        .expectStatus().isOk()
+        .expectBody().jsonPath("$.errors").isEmpty();
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    // Then
+    assertTrue(elapsed.compareTo(Duration.ofMillis(2500)) < 0,
+        "Upstream calls should not run one after another, took " + elapsed);
+  }
+
+  @Test
+  void shouldRejectAnonymousRequest() {
+    // When + Then
+    webTestClient.get()
+        .uri("/api/session/bootstrap")
+        .exchange()
+        .expectStatus().isUnauthorized();
+  }
+
+  private WebTestClient.ResponseSpec bootstrap() {
+    return webTestClient.get()
+        .uri("/api/session/bootstrap")
+        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+        .exchange();
+  }
+}
@@ -0,0 +1,142 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AdaptiveConcurrencyLimitGatewayFilterFactoryTest {
+
+  private static final String ROUTE_ID = "profile-service";
+
+  private AdaptiveConcurrencyLimitGatewayFilterFactory factory;
+  private MeterRegistry meterRegistry;
+  private AtomicInteger upstreamCalls;
+  private Sinks.Empty<Void> upstreamGate;
+  private GatewayFilterChain chain;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    factory = new AdaptiveConcurrencyLimitGatewayFilterFactory(meterRegistry);
+    upstreamCalls = new AtomicInteger();
+    upstreamGate = Sinks.empty();
+
+    chain = exchange -> {
+      upstreamCalls.incrementAndGet();
+      return upstreamGate.asMono().then(Mono.defer(() -> {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return exchange.getResponse().setComplete();
+      }));
+    };
+  }
+
+  @Test
+  void shouldForwardRequests_When_WithinLimit() {
+    // Given
+    GatewayFilter filter = factory.apply(config(2, 1, 10));
+    MockServerWebExchange exchange = exchange();
+    upstreamGate.tryEmitEmpty();
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, upstreamCalls.get(), "Request within limit should be forwarded"),
+        () -> assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode(),
+            "Upstream status should be returned"),
+        () -> assertEquals(0, meterRegistry.get("gateway.concurrency.in.flight")
+            .tag("route", ROUTE_ID).gauge().value(), "Slot should be released after response")
+    );
+  }
+
+  @Test
+  void shouldShedRequest_When_LimitReached() {
+    // Given
+    GatewayFilter filter = factory.apply(config(2, 1, 10));
+    filter.filter(exchange(), chain).subscribe();
+    filter.filter(exchange(), chain).subscribe();
+    MockServerWebExchange rejected = exchange();
+
+    // When
+    filter.filter(rejected, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, upstreamCalls.get(), "Request over limit should not be forwarded"),
+        () -> assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getResponse().getStatusCode(),
+            "Request over limit should be rejected with 503"),
+        () -> assertEquals("1", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER),
+            "Retry-After should be set"),
+        () -> assertEquals("{\"message\":\"Service is overloaded, please try again later\"}",
+            rejected.getResponse().getBodyAsString().block(), "Error message should be returned"),
+        () -> assertEquals(1, meterRegistry.get("gateway.concurrency.rejected")
+            .tag("route", ROUTE_ID).counter().count(), "Rejection should be counted"),
+        () -> assertEquals(2, meterRegistry.get("gateway.concurrency.in.flight")
+            .tag("route", ROUTE_ID).gauge().value(), "Forwarded requests should hold slots")
+    );
+  }
+
+  @Test
+  void shouldBackOff_When_UpstreamOverloaded() {
+    // Given
+    GatewayFilter filter = factory.apply(config(10, 4, 20));
+    GatewayFilterChain overloadedChain = exchange -> {
+      ServerHttpResponse response = exchange.getResponse();
+      response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+      return response.setComplete();
+    };
+
+    // When
+    filter.filter(exchange(), overloadedChain).block();
+
+    // Then
+    assertEquals(9, meterRegistry.get("gateway.concurrency.limit")
+        .tag("route", ROUTE_ID).gauge().value(), "Limit should back off after upstream overload");
+  }
+
+  @Test
+  void shouldReleaseSlot_When_UpstreamFails() {
+    // Given
+    GatewayFilter filter = factory.apply(config(1, 1, 10));
+    GatewayFilterChain failingChain = exchange -> Mono.error(new IllegalStateException("Connection refused"));
+    filter.filter(exchange(), failingChain).onErrorComplete().block();
+    MockServerWebExchange next = exchange();
+    upstreamGate.tryEmitEmpty();
+
+    // When
+    filter.filter(next, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, upstreamCalls.get(), "Next request should be forwarded"),
+        () -> assertNull(next.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER),
+            "Next request should not be shed")
+    );
+  }
+
+  private AdaptiveConcurrencyLimitGatewayFilterFactory.Config config(int initial, int min, int max) {
+    return new AdaptiveConcurrencyLimitGatewayFilterFactory.Config(
+        initial, min, max, 1.5, 0.2, ROUTE_ID);
+  }
+
+  private MockServerWebExchange exchange() {
+    return MockServerWebExchange.from(MockServerHttpRequest.get("/api/profile").build());
+  }
+}
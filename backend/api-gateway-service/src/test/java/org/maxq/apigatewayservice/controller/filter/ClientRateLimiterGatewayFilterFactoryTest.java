@@ -0,0 +1,150 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClientRateLimiterGatewayFilterFactoryTest {
+
+  private GatewayFilter filter;
+  private AtomicInteger forwardedRequests;
+  private GatewayFilterChain chain;
+
+  @BeforeEach
+  void setUp() {
+    ClientRateLimiterGatewayFilterFactory factory = new ClientRateLimiterGatewayFilterFactory();
+    filter = factory.apply(new ClientRateLimiterGatewayFilterFactory.Config(
+        2, 1, Duration.ofMinutes(1), 100));
+
+    forwardedRequests = new AtomicInteger();
+    chain = exchange -> {
+      forwardedRequests.incrementAndGet();
+      return Mono.empty();
+    };
+  }
+
+  @Test
+  void shouldRejectConfig_When_RefillIsNotPositive() {
+    // Given
+    ClientRateLimiterGatewayFilterFactory factory = new ClientRateLimiterGatewayFilterFactory();
+    ClientRateLimiterGatewayFilterFactory.Config noTokens =
+        new ClientRateLimiterGatewayFilterFactory.Config(2, 0, Duration.ofMinutes(1), 100);
+    ClientRateLimiterGatewayFilterFactory.Config noPeriod =
+        new ClientRateLimiterGatewayFilterFactory.Config(2, 1, Duration.ZERO, 100);
+
+    // When + Then
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> factory.apply(noTokens),
+            "Zero refill tokens should be rejected"),
+        () -> assertThrows(IllegalArgumentException.class, () -> factory.apply(noPeriod),
+            "Zero refill period should be rejected")
+    );
+  }
+
+  @Test
+  void shouldForwardRequests_When_WithinLimit() {
+    // Given
+    MockServerWebExchange first = exchangeFrom(1);
+    MockServerWebExchange second = exchangeFrom(1);
+
+    // When
+    filter.filter(first, chain).block();
+    filter.filter(second, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, forwardedRequests.get(), "Requests within limit should be forwarded"),
+        () -> assertNull(second.getResponse().getStatusCode(), "Status should be left to upstream")
+    );
+  }
+
+  @Test
+  void shouldReject_When_LimitExceeded() {
+    // Given
+    filter.filter(exchangeFrom(1), chain).block();
+    filter.filter(exchangeFrom(1), chain).block();
+    MockServerWebExchange rejected = exchangeFrom(1);
+
+    // When
+    filter.filter(rejected, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, forwardedRequests.get(), "Request over limit should not be forwarded"),
+        () -> assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode(),
+            "Request over limit should be rejected with 429"),
+        () -> assertEquals("60", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER),
+            "Retry-After should point to next available token"),
+        () -> assertEquals("{\"message\":\"Too many requests, please try again later\"}",
+            rejected.getResponse().getBodyAsString().block(), "Error message should be returned")
+    );
+  }
+
+  @Test
+  void shouldLimitClientsSeparately() {
+    // Given
+    filter.filter(exchangeFrom(1), chain).block();
+    filter.filter(exchangeFrom(1), chain).block();
+
+    // When
+    filter.filter(exchangeFrom(2), chain).block();
+
+    // Then
+    assertEquals(3, forwardedRequests.get(), "Other clients should have their own limit");
+  }
+
+  @Test
+  void shouldLimitByUser_When_Authenticated() {
+    // Given
+    TestingAuthenticationToken user = new TestingAuthenticationToken("test@test.com", null);
+    filter.filter(authenticatedExchangeFrom(1, user), chain).block();
+    filter.filter(authenticatedExchangeFrom(2, user), chain).block();
+    ServerWebExchange rejected = authenticatedExchangeFrom(3, user);
+
+    // When
+    filter.filter(rejected, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, forwardedRequests.get(), "Same user should share a limit"),
+        () -> assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode(),
+            "Request over limit should be rejected with 429")
+    );
+  }
+
+  private MockServerWebExchange exchangeFrom(int client) {
+    try {
+      InetAddress address = InetAddress.getByAddress(new byte[]{10, 0, 0, (byte) client});
+      return MockServerWebExchange.from(MockServerHttpRequest.post("/api/auth/login")
+          .remoteAddress(new InetSocketAddress(address, 5000))
+          .build());
+    } catch (UnknownHostException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private ServerWebExchange authenticatedExchangeFrom(int client, TestingAuthenticationToken user) {
+    return exchangeFrom(client).mutate()
+        .principal(Mono.just(user))
+        .build();
+  }
+}
@@ -0,0 +1,239 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageUploadValidationGatewayFilterFactoryTest {
+
+  private static final String BOUNDARY = "TestBoundary";
+  private static final int MAX_FILE_SIZE = 1024;
+  private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 16, 'J', 'F'};
+  private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0};
+
+  private GatewayFilter filter;
+  private AtomicInteger forwardedRequests;
+  private ByteArrayOutputStream forwardedBody;
+  private GatewayFilterChain chain;
+
+  @BeforeEach
+  void setUp() {
+    ImageUploadValidationGatewayFilterFactory factory = new ImageUploadValidationGatewayFilterFactory();
+    filter = factory.apply(new ImageUploadValidationGatewayFilterFactory.Config(
+        "file", DataSize.ofBytes(MAX_FILE_SIZE), DataSize.ofKilobytes(4)));
+
+    forwardedRequests = new AtomicInteger();
+    forwardedBody = new ByteArrayOutputStream();
+    chain = exchange -> {
+      forwardedRequests.incrementAndGet();
+      return exchange.getRequest().getBody()
+          .doOnNext(buffer -> {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            forwardedBody.writeBytes(bytes);
+          })
+          .then();
+    };
+  }
+
+  @Test
+  void shouldForwardValidImage_When_SignatureIsSplitAcrossChunks() {
+    // Given
+    byte[] body = multipart("avatar.jpg", "image/jpeg", JPEG);
+    MockServerWebExchange exchange = exchange(chunks(body, 3));
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, forwardedRequests.get(), "Request should be forwarded"),
+        () -> assertArrayEquals(body, forwardedBody.toByteArray(), "Body should be forwarded unchanged")
+    );
+  }
+
+  @Test
+  void shouldForwardValidImage_When_PrecededByOtherPart() {
+    // Given
+    byte[] body = concat(
+        ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"note\"\r\n\r\nhello\r\n")
+            .getBytes(StandardCharsets.ISO_8859_1),
+        multipart("avatar.png", "image/png", PNG));
+
+    // When
+    filter.filter(exchange(chunks(body, 7)), chain).block();
+
+    // Then
+    assertArrayEquals(body, forwardedBody.toByteArray(), "Body should be forwarded unchanged");
+  }
+
+  @Test
+  void shouldRejectBeforeForwarding_When_SignatureIsNotImage() {
+    // Given
+    MockServerWebExchange exchange = exchange(chunks(
+        multipart("avatar.jpg", "image/jpeg", "<?php echo 1;".getBytes(StandardCharsets.UTF_8)), 16));
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, forwardedRequests.get(), "Request should not be forwarded"),
+        () -> assertEquals(HttpStatus.BAD_REQUEST, exchange.getResponse().getStatusCode(),
+            "Request should be rejected"),
+        () -> assertTrue(exchange.getResponse().getBodyAsString().block()
+                .contains("Invalid detected file format"),
+            "Response should describe the validation error")
+    );
+  }
+
+  @Test
+  void shouldReject_When_ContentTypeDoesNotMatchSignature() {
+    // Given
+    MockServerWebExchange exchange = exchange(chunks(multipart("avatar.png", "image/png", JPEG), 64));
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, forwardedRequests.get(), "Request should not be forwarded"),
+        () -> assertTrue(exchange.getResponse().getBodyAsString().block()
+                .contains("does not match the detected file format"),
+            "Response should report content mismatch")
+    );
+  }
+
+  @Test
+  void shouldReject_When_NameOrContentTypeIsInvalid() {
+    // Given
+    MockServerWebExchange exchange = exchange(chunks(
+        multipart("../evil name.gif", "image/gif", JPEG), 64));
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    String response = exchange.getResponse().getBodyAsString().block();
+    assertAll(
+        () -> assertEquals(0, forwardedRequests.get(), "Request should not be forwarded"),
+        () -> assertTrue(response.contains("Invalid file name"), "Name error should be reported"),
+        () -> assertTrue(response.contains("Invalid file extension"), "Extension error should be reported"),
+        () -> assertTrue(response.contains("Invalid file type"), "Content type error should be reported")
+    );
+  }
+
+  @Test
+  void shouldReject_When_ContentTypeIsMissing() {
+    // Given
+    MockServerWebExchange exchange = exchange(chunks(multipart("avatar.jpg", null, JPEG), 64));
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, forwardedRequests.get(), "Request should not be forwarded"),
+        () -> assertEquals(HttpStatus.BAD_REQUEST, exchange.getResponse().getStatusCode(),
+            "Part without content type should be rejected"),
+        () -> assertTrue(exchange.getResponse().getBodyAsString().block().contains("Invalid file type"),
+            "Content type error should be reported")
+    );
+  }
+
+  @Test
+  void shouldAbortUpload_When_StreamedFileExceedsLimit() {
+    // Given
+    byte[] content = Arrays.copyOf(JPEG, MAX_FILE_SIZE + 1);
+    MockServerWebExchange exchange = exchange(chunks(multipart("avatar.jpg", "image/jpeg", content), 100));
+
+    // When
+    ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+        () -> filter.filter(exchange, chain).block());
+
+    // Then
+    assertAll(
+        () -> assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode(), "Upload should be aborted"),
+        () -> assertTrue(forwardedBody.size() <= MAX_FILE_SIZE + 200, "Rest of body should not be forwarded")
+    );
+  }
+
+  @Test
+  void shouldReject_When_FilePartDoesNotStartWithinHead() {
+    // Given
+    MockServerWebExchange exchange = exchange(chunks(new byte[8 * 1024], 1024));
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, forwardedRequests.get(), "Request should not be forwarded"),
+        () -> assertEquals(HttpStatus.BAD_REQUEST, exchange.getResponse().getStatusCode(),
+            "Request should be rejected")
+    );
+  }
+
+  @Test
+  void shouldForwardRequestWithoutBody() {
+    // Given
+    MockServerWebExchange exchange = exchange(Flux.empty());
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertEquals(1, forwardedRequests.get(), "Request should be forwarded");
+  }
+
+  private static MockServerWebExchange exchange(Flux<DataBuffer> body) {
+    return MockServerWebExchange.from(MockServerHttpRequest.post("/profiles/me/image")
+        .header(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + BOUNDARY)
+        .body(body));
+  }
+
+  private static byte[] multipart(String filename, String contentType, byte[] content) {
+    return concat(
+        ("--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+            + (contentType == null ? "" : "Content-Type: " + contentType + "\r\n")
+            + "\r\n").getBytes(StandardCharsets.ISO_8859_1),
+        content,
+        ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.ISO_8859_1));
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      output.writeBytes(part);
+    }
+    return output.toByteArray();
+  }
+
+  private static Flux<DataBuffer> chunks(byte[] body, int chunkSize) {
+    return Flux.range(0, (body.length + chunkSize - 1) / chunkSize)
+        .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+            Arrays.copyOfRange(body, i * chunkSize, Math.min(body.length, (i + 1) * chunkSize))));
+  }
+}
@@ -0,0 +1,161 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestCoalescingGatewayFilterFactoryTest {
+
+  private static final String ROUTE_ID = "profile-service";
+  private static final String RESPONSE_BODY = "{\"name\":\"test\"}";
+
+  private RequestCoalescingGatewayFilterFactory factory;
+  private MeterRegistry meterRegistry;
+  private AtomicInteger upstreamCalls;
+  private Sinks.Empty<Void> upstreamGate;
+  private GatewayFilterChain chain;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    factory = new RequestCoalescingGatewayFilterFactory(meterRegistry);
+    upstreamCalls = new AtomicInteger();
+    upstreamGate = Sinks.empty();
+
+    chain = exchange -> {
+      upstreamCalls.incrementAndGet();
+      return upstreamGate.asMono().then(Mono.defer(() -> {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory()
+            .wrap(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8))));
+      }));
+    };
+  }
+
+  @Test
+  void shouldShareResponse_When_IdenticalRequestsInFlight() {
+    // Given
+    GatewayFilter filter = factory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+    MockServerWebExchange first = exchange(HttpMethod.GET, "user-1");
+    MockServerWebExchange second = exchange(HttpMethod.GET, "user-1");
+
+    // When
+    runConcurrently(filter, first, second);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, upstreamCalls.get(), "Identical requests should share one upstream call"),
+        () -> assertEquals(HttpStatus.OK, second.getResponse().getStatusCode(),
+            "Shared status should be returned"),
+        () -> assertEquals(MediaType.APPLICATION_JSON, second.getResponse().getHeaders().getContentType(),
+            "Shared headers should be returned"),
+        () -> assertEquals(RESPONSE_BODY, first.getResponse().getBodyAsString().block(),
+            "Leader should receive upstream body"),
+        () -> assertEquals(RESPONSE_BODY, second.getResponse().getBodyAsString().block(),
+            "Follower should receive shared body"),
+        () -> assertEquals(1, meterRegistry.get("gateway.requests.coalesced")
+            .tag("route", ROUTE_ID).counter().count(), "Saved upstream call should be counted")
+    );
+  }
+
+  @Test
+  void shouldNotCoalesce_When_UsersDiffer() {
+    // Given
+    GatewayFilter filter = factory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+
+    // When
+    runConcurrently(filter, exchange(HttpMethod.GET, "user-1"), exchange(HttpMethod.GET, "user-2"));
+
+    // Then
+    assertEquals(2, upstreamCalls.get(), "Requests of different users should not be shared");
+  }
+
+  @Test
+  void shouldNotCoalesce_When_MethodIsNotGet() {
+    // Given
+    GatewayFilter filter = factory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+
+    // When
+    runConcurrently(filter, exchange(HttpMethod.POST, "user-1"), exchange(HttpMethod.POST, "user-1"));
+
+    // Then
+    assertEquals(2, upstreamCalls.get(), "Non GET requests should not be shared");
+  }
+
+  @Test
+  void shouldCallUpstream_When_ResponseExceedsMaxBodySize() {
+    // Given
+    GatewayFilter filter = factory.apply(
+        new RequestCoalescingGatewayFilterFactory.Config(DataSize.ofBytes(4)));
+    MockServerWebExchange second = exchange(HttpMethod.GET, "user-1");
+
+    // When
+    runConcurrently(filter, exchange(HttpMethod.GET, "user-1"), second);
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, upstreamCalls.get(), "Oversized response should not be shared"),
+        () -> assertEquals(RESPONSE_BODY, second.getResponse().getBodyAsString().block(),
+            "Follower should receive its own upstream body")
+    );
+  }
+
+  @Test
+  void shouldCallUpstream_When_PreviousRequestCompleted() {
+    // Given
+    GatewayFilter filter = factory.apply(new RequestCoalescingGatewayFilterFactory.Config());
+    upstreamGate.tryEmitEmpty();
+
+    // When
+    filter.filter(exchange(HttpMethod.GET, "user-1"), chain).block();
+    filter.filter(exchange(HttpMethod.GET, "user-1"), chain).block();
+
+    // Then
+    assertEquals(2, upstreamCalls.get(), "Completed responses should not be reused");
+  }
+
+  private void runConcurrently(GatewayFilter filter, MockServerWebExchange first,
+                               MockServerWebExchange second) {
+    CompletableFuture<Void> firstResult = filter.filter(first, chain).toFuture();
+    CompletableFuture<Void> secondResult = filter.filter(second, chain).toFuture();
+    upstreamGate.tryEmitEmpty();
+    CompletableFuture.allOf(firstResult, secondResult).join();
+  }
+
+  private static MockServerWebExchange exchange(HttpMethod method, String user) {
+    MockServerWebExchange exchange = MockServerWebExchange
+        .builder(MockServerHttpRequest.method(method, "/profiles/me?size=10"))
+        .principal(new TestingAuthenticationToken(user, null))
+        .build();
+    exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+        .id(ROUTE_ID)
+        .uri("http://localhost:8082")
+        .predicate(serverWebExchange -> true)
+        .build());
+    return exchange;
+  }
+}
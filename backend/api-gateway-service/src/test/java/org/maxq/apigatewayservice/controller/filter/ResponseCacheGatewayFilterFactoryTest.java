@@ -0,0 +1,206 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+  private static final String ROUTE_ID = "profile-service";
+  private static final String RESPONSE_BODY = "{\"name\":\"test\"}";
+  private static final String SPRING_SECURITY_CACHE_CONTROL =
+      "no-cache, no-store, max-age=0, must-revalidate";
+
+  private MeterRegistry meterRegistry;
+  private GatewayFilter filter;
+  private AtomicInteger upstreamCalls;
+  private String upstreamCacheControl;
+  private GatewayFilterChain chain;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    ResponseCacheGatewayFilterFactory factory = new ResponseCacheGatewayFilterFactory(
+        new ResponseCacheStore(DataSize.ofMegabytes(1), meterRegistry), meterRegistry);
+    filter = factory.apply(new ResponseCacheGatewayFilterFactory.Config());
+    upstreamCalls = new AtomicInteger();
+
+    chain = exchange -> {
+      upstreamCalls.incrementAndGet();
+      ServerHttpResponse response = exchange.getResponse();
+      response.setStatusCode(HttpStatus.OK);
+      response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+      if (upstreamCacheControl != null) {
+        response.getHeaders().setCacheControl(upstreamCacheControl);
+        response.getHeaders().setPragma("no-cache");
+        response.getHeaders().setExpires(0);
+      }
+      return response.writeWith(Mono.just(response.bufferFactory()
+          .wrap(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8))));
+    };
+  }
+
+  @Test
+  void shouldAddStrongEtag() {
+    // Given
+    MockServerWebExchange exchange = exchange(HttpMethod.GET, "user-1");
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    String etag = exchange.getResponse().getHeaders().getETag();
+    assertAll(
+        () -> assertNotNull(etag, "ETag should be added"),
+        () -> assertTrue(etag.startsWith("\""), "ETag should be strong"),
+        () -> assertEquals(RESPONSE_BODY, exchange.getResponse().getBodyAsString().block(),
+            "Body should be forwarded")
+    );
+  }
+
+  @Test
+  void shouldServeFromCache_When_RequestedAgain() {
+    // Given
+    filter.filter(exchange(HttpMethod.GET, "user-1"), chain).block();
+    MockServerWebExchange exchange = exchange(HttpMethod.GET, "user-1");
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, upstreamCalls.get(), "Cached response should not call upstream"),
+        () -> assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode(),
+            "Cached status should be returned"),
+        () -> assertEquals(MediaType.APPLICATION_JSON, exchange.getResponse().getHeaders().getContentType(),
+            "Cached headers should be returned"),
+        () -> assertEquals(RESPONSE_BODY, exchange.getResponse().getBodyAsString().block(),
+            "Cached body should be returned")
+    );
+  }
+
+  @Test
+  void shouldAnswerNotModified_When_EtagMatches() {
+    // Given
+    MockServerWebExchange first = exchange(HttpMethod.GET, "user-1");
+    filter.filter(first, chain).block();
+    String etag = first.getResponse().getHeaders().getETag();
+    MockServerWebExchange revalidation = exchange(HttpMethod.GET, "user-1", etag);
+
+    // When
+    filter.filter(revalidation, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, upstreamCalls.get(), "Revalidation should not call upstream"),
+        () -> assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode(),
+            "Matching ETag should return 304"),
+        () -> assertEquals(etag, revalidation.getResponse().getHeaders().getETag(),
+            "ETag should be repeated"),
+        () -> assertEquals("", revalidation.getResponse().getBodyAsString().block(),
+            "304 should have no body"),
+        () -> assertEquals(1, meterRegistry.get("gateway.response.cache.not.modified")
+            .tag("route", ROUTE_ID).counter().count(), "304 should be counted")
+    );
+  }
+
+  @Test
+  void shouldNotStore_When_UpstreamForbidsIt() {
+    // Given
+    upstreamCacheControl = "no-store";
+    MockServerWebExchange first = exchange(HttpMethod.GET, "user-1");
+    filter.filter(first, chain).block();
+    MockServerWebExchange revalidation =
+        exchange(HttpMethod.GET, "user-1", first.getResponse().getHeaders().getETag());
+
+    // When
+    filter.filter(revalidation, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, upstreamCalls.get(), "no-store response should not be cached"),
+        () -> assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode(),
+            "Matching ETag should still return 304")
+    );
+  }
+
+  @Test
+  void shouldStore_When_UpstreamAllowsPrivateCaching() {
+    // Given
+    upstreamCacheControl = "max-age=30, private";
+    filter.filter(exchange(HttpMethod.GET, "user-1"), chain).block();
+    MockServerWebExchange exchange = exchange(HttpMethod.GET, "user-1");
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, upstreamCalls.get(), "Private response should be cached per user"),
+        () -> assertEquals("max-age=30, private", exchange.getResponse().getHeaders().getCacheControl(),
+            "Upstream Cache-Control should be returned to the client")
+    );
+  }
+
+  @Test
+  void shouldNotStore_When_UpstreamSendsSpringSecurityHeaders() {
+    // Given
+    upstreamCacheControl = SPRING_SECURITY_CACHE_CONTROL;
+    filter.filter(exchange(HttpMethod.GET, "user-1"), chain).block();
+
+    // When
+    filter.filter(exchange(HttpMethod.GET, "user-1"), chain).block();
+
+    // Then
+    assertEquals(2, upstreamCalls.get(), "Spring Security headers should prevent storing");
+  }
+
+  @Test
+  void shouldIsolateEntries_When_UsersDiffer() {
+    // Given
+    filter.filter(exchange(HttpMethod.GET, "user-1"), chain).block();
+
+    // When
+    filter.filter(exchange(HttpMethod.GET, "user-2"), chain).block();
+
+    // Then
+    assertEquals(2, upstreamCalls.get(), "Users should not share cached responses");
+  }
+
+  private static MockServerWebExchange exchange(HttpMethod method, String user, String... ifNoneMatch) {
+    MockServerWebExchange exchange = MockServerWebExchange
+        .builder(MockServerHttpRequest.method(method, "/profiles/me")
+            .header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+        .principal(new TestingAuthenticationToken(user, null))
+        .build();
+    exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+        .id(ROUTE_ID)
+        .uri("http://localhost:8082")
+        .predicate(serverWebExchange -> true)
+        .build());
+    return exchange;
+  }
+}
@@ -0,0 +1,140 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maxq.apigatewayservice.domain.CachedResponse;
+import org.maxq.apigatewayservice.domain.ResponseCacheKey;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResponseCacheInvalidationFilterTest {
+
+  private ResponseCacheStore cache;
+  private ResponseCacheInvalidationFilter filter;
+  private String upstreamChangedUsers;
+  private GatewayFilterChain chain;
+
+  @BeforeEach
+  void setUp() {
+    cache = new ResponseCacheStore(DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+    filter = new ResponseCacheInvalidationFilter(cache);
+    chain = exchange -> {
+      if (upstreamChangedUsers != null) {
+        exchange.getResponse().getHeaders()
+            .add(ResponseCacheInvalidationFilter.CHANGED_USERS_HEADER, upstreamChangedUsers);
+      }
+      return exchange.getResponse().setComplete();
+    };
+    cache.put(key("user-1"), cachedResponse());
+    cache.put(key("user-2"), cachedResponse());
+  }
+
+  @Test
+  void shouldInvalidateUserEntries_When_UnsafeRequest() {
+    // Given
+    MockServerWebExchange update = exchange(HttpMethod.POST, "user-1");
+
+    // When
+    filter.filter(update, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertNull(cache.getIfPresent(key("user-1")), "Caller's entries should be invalidated"),
+        () -> assertNotNull(cache.getIfPresent(key("user-2")), "Other users should be kept")
+    );
+  }
+
+  @Test
+  void shouldKeepEntries_When_SafeRequest() {
+    // Given
+    MockServerWebExchange read = exchange(HttpMethod.GET, "user-1");
+
+    // When
+    filter.filter(read, chain).block();
+
+    // Then
+    assertNotNull(cache.getIfPresent(key("user-1")), "Reads should not invalidate entries");
+  }
+
+  @Test
+  void shouldInvalidateChangedUserEntries_When_UpstreamListsThem() {
+    // Given
+    upstreamChangedUsers = "user-2";
+    MockServerWebExchange update = exchange(HttpMethod.PATCH, "admin");
+
+    // When
+    filter.filter(update, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertNotNull(cache.getIfPresent(key("user-1")), "Unchanged user should be kept"),
+        () -> assertNull(cache.getIfPresent(key("user-2")), "Changed user should be invalidated"),
+        () -> assertNull(update.getResponse().getHeaders()
+                .get(ResponseCacheInvalidationFilter.CHANGED_USERS_HEADER),
+            "Changed users should not be returned to the client")
+    );
+  }
+
+  @Test
+  void shouldInvalidateAllEntries_When_UpstreamChangedAllUsers() {
+    // Given
+    upstreamChangedUsers = ResponseCacheInvalidationFilter.ALL_USERS;
+    MockServerWebExchange update = exchange(HttpMethod.POST, "admin");
+
+    // When
+    filter.filter(update, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertNull(cache.getIfPresent(key("user-1")), "All entries should be invalidated"),
+        () -> assertNull(cache.getIfPresent(key("user-2")), "All entries should be invalidated")
+    );
+  }
+
+  @Test
+  void shouldStripChangedUsersHeader_When_RequestIsAnonymous() {
+    // Given
+    upstreamChangedUsers = "user-1";
+    MockServerWebExchange exchange = MockServerWebExchange
+        .from(MockServerHttpRequest.post("/users/import"));
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertNull(cache.getIfPresent(key("user-1")), "Changed user should be invalidated"),
+        () -> assertNull(exchange.getResponse().getHeaders()
+                .get(ResponseCacheInvalidationFilter.CHANGED_USERS_HEADER),
+            "Changed users should not be returned to the client")
+    );
+  }
+
+  private static ResponseCacheKey key(String user) {
+    return new ResponseCacheKey(user, "profile-service", "/profiles/me", "null", "null");
+  }
+
+  private static CachedResponse cachedResponse() {
+    return new CachedResponse(HttpStatus.OK, Map.of(), new byte[0], "\"etag\"", Duration.ofMinutes(1));
+  }
+
+  private static MockServerWebExchange exchange(HttpMethod method, String user) {
+    return MockServerWebExchange
+        .builder(MockServerHttpRequest.method(method, "/profiles/me"))
+        .principal(new TestingAuthenticationToken(user, null))
+        .build();
+  }
+}
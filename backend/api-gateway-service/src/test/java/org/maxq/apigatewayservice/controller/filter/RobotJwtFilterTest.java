@@ -8,6 +8,7 @@ import org.maxq.apigatewayservice.config.ServiceLoadBalancerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
@@ -55,6 +56,7 @@ class RobotJwtFilterTest {
     // When
     webTestClient.get()
         .uri(authUri + "/test")
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .exchange()
         .expectStatus().isOk();
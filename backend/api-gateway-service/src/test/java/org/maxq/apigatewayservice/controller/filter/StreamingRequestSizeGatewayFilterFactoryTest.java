@@ -0,0 +1,107 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingRequestSizeGatewayFilterFactoryTest {
+
+  private static final int MAX_SIZE = 100;
+  private static final int CHUNK_SIZE = 30;
+
+  private GatewayFilter filter;
+  private AtomicInteger forwardedRequests;
+  private AtomicLong forwardedBytes;
+  private GatewayFilterChain chain;
+
+  @BeforeEach
+  void setUp() {
+    StreamingRequestSizeGatewayFilterFactory factory = new StreamingRequestSizeGatewayFilterFactory();
+    filter = factory.apply(new StreamingRequestSizeGatewayFilterFactory.Config(
+        DataSize.ofBytes(MAX_SIZE)));
+
+    forwardedRequests = new AtomicInteger();
+    forwardedBytes = new AtomicLong();
+    chain = exchange -> {
+      forwardedRequests.incrementAndGet();
+      return exchange.getRequest().getBody()
+          .doOnNext(buffer -> forwardedBytes.addAndGet(buffer.readableByteCount()))
+          .then();
+    };
+  }
+
+  @Test
+  void shouldStreamBody_When_WithinLimit() {
+    // Given
+    MockServerWebExchange exchange = MockServerWebExchange.from(
+        MockServerHttpRequest.post("/upload").body(chunks(3)));
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, forwardedRequests.get(), "Request should be forwarded"),
+        () -> assertEquals(3L * CHUNK_SIZE, forwardedBytes.get(), "Whole body should be streamed")
+    );
+  }
+
+  @Test
+  void shouldFailStream_When_BodyExceedsLimitWithoutContentLength() {
+    // Given
+    MockServerWebExchange exchange = MockServerWebExchange.from(
+        MockServerHttpRequest.post("/upload").body(chunks(5)));
+
+    // When
+    ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+        () -> filter.filter(exchange, chain).block());
+
+    // Then
+    assertAll(
+        () -> assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getStatusCode(),
+            "Oversized stream should fail with 413"),
+        () -> assertEquals(3L * CHUNK_SIZE, forwardedBytes.get(),
+            "Only chunks within limit should be streamed")
+    );
+  }
+
+  @Test
+  void shouldReject_When_DeclaredContentLengthExceedsLimit() {
+    // Given
+    MockServerWebExchange exchange = MockServerWebExchange.from(
+        MockServerHttpRequest.post("/upload").contentLength(MAX_SIZE + 1L).body(Flux.empty()));
+
+    // When
+    filter.filter(exchange, chain).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, forwardedRequests.get(), "Oversized request should not be forwarded"),
+        () -> assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode(),
+            "Oversized request should be rejected with 413"),
+        () -> assertEquals("{\"message\":\"Request size exceeds the permitted limit\"}",
+            exchange.getResponse().getBodyAsString().block(), "Error message should be returned")
+    );
+  }
+
+  private static Flux<DataBuffer> chunks(int count) {
+    return Flux.range(0, count)
+        .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(new byte[CHUNK_SIZE]));
+  }
+}
@@ -0,0 +1,120 @@
+package org.maxq.apigatewayservice.controller.filter;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.maxq.apigatewayservice.config.ServiceLoadBalancerConfig;
+import org.maxq.apigatewayservice.service.TrafficCaptureWriter;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+    classes = {ServiceLoadBalancerConfig.class},
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@WireMockTest(httpPort = 8081)
+@TestPropertySource(properties = {
+    "eureka.client.enabled=false",
+    "test.loadbalancer=authorization",
+    "gateway.traffic-capture.enabled=true",
+    "gateway.traffic-capture.body-routes=authorization-service"
+})
+class TrafficCaptureFilterTest {
+
+  @TempDir
+  private static Path captureDir;
+
+  @LocalServerPort
+  private int port;
+  private WebTestClient webTestClient;
+
+  @DynamicPropertySource
+  static void captureFile(DynamicPropertyRegistry registry) {
+    registry.add("gateway.traffic-capture.file", () -> captureDir.resolve("traffic.bin").toString());
+  }
+
+  @BeforeEach
+  void setUp() {
+    webTestClient = WebTestClient.bindToServer()
+        .responseTimeout(Duration.ofSeconds(10))
+        .baseUrl("http://localhost:" + port)
+        .build();
+  }
+
+  @Test
+  void shouldCaptureAnonymizedRequest() throws IOException {
+    // Given
+    String body = "{\"name\":\"test\"}";
+    stubFor(WireMock.post("/items/42").willReturn(WireMock.okJson("{\"id\":42}")));
+
+    // When
+    webTestClient.post()
+        .uri("/api/auth/items/42")
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .bodyValue(body)
+        .exchange()
+        .expectStatus().isOk();
+
+    // Then
+    Path file = captureDir.resolve("traffic.bin");
+    await().atMost(Duration.ofSeconds(5))
+        .until(() -> Files.exists(file) && Files.size(file) > Integer.BYTES + Short.BYTES);
+
+    try (DataInputStream input = new DataInputStream(
+        new ByteArrayInputStream(Files.readAllBytes(file)))) {
+      int magic = input.readInt();
+      int version = input.readShort();
+      input.readLong();
+      long durationMicros = input.readLong();
+      String routeId = input.readUTF();
+      String method = input.readUTF();
+      String path = input.readUTF();
+      String contentType = input.readUTF();
+      int status = input.readShort();
+      long requestBytes = input.readLong();
+      long responseBytes = input.readLong();
+      long userHash = input.readLong();
+      byte[] capturedBody = new byte[input.readInt()];
+      input.readFully(capturedBody);
+
+      assertAll(
+          () -> assertEquals(TrafficCaptureWriter.MAGIC, magic, "Log should start with magic"),
+          () -> assertEquals(TrafficCaptureWriter.VERSION, version, "Version should be written"),
+          () -> assertTrue(durationMicros > 0, "Duration should be recorded"),
+          () -> assertEquals("authorization-service", routeId, "Route should be recorded"),
+          () -> assertEquals("POST", method, "Method should be recorded"),
+          () -> assertEquals("/api/auth/items/{id}", path, "Path should be anonymized"),
+          () -> assertEquals(MediaType.APPLICATION_JSON_VALUE, contentType,
+              "Content type should be recorded"),
+          () -> assertEquals(200, status, "Status should be recorded"),
+          () -> assertEquals(body.length(), requestBytes, "Request size should be recorded"),
+          () -> assertTrue(responseBytes > 0, "Response size should be recorded"),
+          () -> assertEquals(0, userHash, "Anonymous request should have no user hash"),
+          () -> assertEquals(body, new String(capturedBody, StandardCharsets.UTF_8),
+              "JSON body should be captured for listed route")
+      );
+    }
+  }
+}
@@ -8,6 +8,7 @@ import org.maxq.apigatewayservice.config.ServiceLoadBalancerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -76,6 +77,7 @@ class UserJwtFilterTest {
     // When
     webTestClient.get()
         .uri(authUri + "/test")
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
         .exchange()
@@ -95,6 +97,7 @@ class UserJwtFilterTest {
     // When
     webTestClient.get()
         .uri(authUri + "/test")
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .exchange()
         .expectStatus().isOk();
@@ -104,4 +107,25 @@ class UserJwtFilterTest {
         .withHeader("X-User", WireMock.equalTo("test"))
         .withHeader("X-User-Roles", WireMock.equalTo("ROLE_OPERATOR")));
   }
+
+  @Test
+  void shouldRemoveClientUserHeaders_When_TokenDoesNotExist() {
+    // Given
+    String authUri = "/api/auth";
+
+    // When
+    webTestClient.get()
+        .uri(authUri + "/test")
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .header("X-User", "admin@test.com")
+        .header("X-User-Roles", "ROLE_ADMIN")
+        .exchange()
+        .expectStatus().isOk();
+
+    // Then
+    verify(WireMock.getRequestedFor(WireMock.urlEqualTo("/test"))
+        .withoutHeader("X-User")
+        .withoutHeader("X-User-Roles"));
+  }
 }
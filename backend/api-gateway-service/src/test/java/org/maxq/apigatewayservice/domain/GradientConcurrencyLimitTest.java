@@ -0,0 +1,130 @@
+package org.maxq.apigatewayservice.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradientConcurrencyLimitTest {
+
+  private static final long RTT = Duration.ofMillis(50).toNanos();
+
+  @Test
+  void shouldRejectAboveLimit() {
+    // Given
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(2, 1, 10, 1.5, 0.2);
+
+    // When + Then
+    assertAll(
+        () -> assertTrue(limit.tryAcquire(), "First slot should be available"),
+        () -> assertTrue(limit.tryAcquire(), "Second slot should be available"),
+        () -> assertFalse(limit.tryAcquire(), "Slot above limit should be rejected"),
+        () -> assertEquals(2, limit.getInFlight(), "Two requests should be in flight")
+    );
+  }
+
+  @Test
+  void shouldFreeSlot_When_Released() {
+    // Given
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(1, 1, 10, 1.5, 0.2);
+    limit.tryAcquire();
+
+    // When
+    limit.release();
+
+    // Then
+    assertTrue(limit.tryAcquire(), "Released slot should be available again");
+  }
+
+  @Test
+  void shouldGrowLimit_When_LatencyStable() {
+    // Given
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100, 1.5, 0.2);
+    saturate(limit);
+
+    // When
+    for (int i = 0; i < 20; i++) {
+      limit.onSample(RTT, false);
+    }
+
+    // Then
+    assertTrue(limit.getLimit() > 10, "Limit should grow while latency is stable");
+  }
+
+  @Test
+  void shouldNotGrowLimit_When_ApplicationLimited() {
+    // Given
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100, 1.5, 0.2);
+    limit.tryAcquire();
+
+    // When
+    for (int i = 0; i < 20; i++) {
+      limit.onSample(RTT, false);
+    }
+
+    // Then
+    assertEquals(10, limit.getLimit(), "Limit should not grow without demand");
+  }
+
+  @Test
+  void shouldShrinkLimit_When_LatencyRises() {
+    // Given
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(40, 1, 100, 1.5, 0.2);
+    saturate(limit);
+    limit.onSample(RTT, false);
+    int stableLimit = limit.getLimit();
+
+    // When
+    for (int i = 0; i < 10; i++) {
+      limit.onSample(RTT * 10, false);
+    }
+
+    // Then
+    assertTrue(limit.getLimit() < stableLimit, "Limit should shrink when latency rises");
+  }
+
+  @Test
+  void shouldBackOffToMinimum_When_Overloaded() {
+    // Given
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 4, 100, 1.5, 0.2);
+
+    // When
+    limit.onSample(RTT, true);
+    int afterFirstDrop = limit.getLimit();
+    for (int i = 0; i < 50; i++) {
+      limit.onSample(RTT, true);
+    }
+
+    // Then
+    assertAll(
+        () -> assertEquals(9, afterFirstDrop, "Limit should back off multiplicatively"),
+        () -> assertEquals(4, limit.getLimit(), "Limit should not fall below minimum")
+    );
+  }
+
+  @Test
+  void shouldNotExceedMaximum() {
+    // Given
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 12, 1.5, 1.0);
+    saturate(limit);
+
+    // When
+    for (int i = 0; i < 20; i++) {
+      limit.onSample(RTT, false);
+    }
+
+    // Then
+    assertEquals(12, limit.getLimit(), "Limit should not grow above maximum");
+  }
+
+  private void saturate(GradientConcurrencyLimit limit) {
+    int slots = limit.getLimit();
+    for (int i = 0; i < slots; i++) {
+      limit.tryAcquire();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package org.maxq.apigatewayservice.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketTest {
+
+  private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+  @Test
+  void shouldAllowBurstUpToCapacity() {
+    // Given
+    TokenBucket bucket = new TokenBucket(3, 1, Duration.ofSeconds(1), 0);
+
+    // When + Then
+    assertAll(
+        () -> assertEquals(Duration.ZERO, bucket.tryConsume(0), "First token should be available"),
+        () -> assertEquals(Duration.ZERO, bucket.tryConsume(0), "Second token should be available"),
+        () -> assertEquals(Duration.ZERO, bucket.tryConsume(0), "Third token should be available"),
+        () -> assertEquals(Duration.ofSeconds(1), bucket.tryConsume(0),
+            "Empty bucket should report time until next token")
+    );
+  }
+
+  @Test
+  void shouldReject_When_RefillPeriodIsZero() {
+    // Given
+    Duration refillPeriod = Duration.ZERO;
+
+    // When + Then
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucket(3, 1, refillPeriod, 0),
+        "Bucket that never refills should be rejected");
+  }
+
+  @Test
+  void shouldRefillOverTime() {
+    // Given
+    TokenBucket bucket = new TokenBucket(1, 2, Duration.ofSeconds(1), 0);
+    bucket.tryConsume(0);
+
+    // When
+    Duration beforeRefill = bucket.tryConsume(SECOND / 4);
+    Duration afterRefill = bucket.tryConsume(SECOND / 2);
+
+    // Then
+    assertAll(
+        () -> assertEquals(Duration.ofMillis(250), beforeRefill,
+            "Half-refilled bucket should report remaining time"),
+        () -> assertEquals(Duration.ZERO, afterRefill, "Refilled token should be available")
+    );
+  }
+
+  @Test
+  void shouldNotRefillAboveCapacity() {
+    // Given
+    TokenBucket bucket = new TokenBucket(1, 1, Duration.ofSeconds(1), 0);
+
+    // When
+    bucket.tryConsume(10 * SECOND);
+    Duration next = bucket.tryConsume(10 * SECOND);
+
+    // Then
+    assertEquals(Duration.ofSeconds(1), next, "Bucket should not hold more than its capacity");
+  }
+}
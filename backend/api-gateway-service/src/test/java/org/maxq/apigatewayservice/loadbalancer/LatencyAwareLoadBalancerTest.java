@@ -0,0 +1,178 @@
+package org.maxq.apigatewayservice.loadbalancer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.*;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LatencyAwareLoadBalancerTest {
+
+  private static final String SERVICE_ID = "profile-service";
+  private static final Duration EJECTION_TIME = Duration.ofSeconds(30);
+
+  private final ServiceInstance fastInstance = new DefaultServiceInstance(
+      "profile-service-1", SERVICE_ID, "localhost", 8082, false);
+  private final ServiceInstance slowInstance = new DefaultServiceInstance(
+      "profile-service-2", SERVICE_ID, "localhost", 8083, false);
+
+  private final AtomicLong clock = new AtomicLong();
+  private ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+  private LatencyAwareLoadBalancer loadBalancer;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    supplierProvider = mock(ObjectProvider.class);
+    supplyInstances(fastInstance, slowInstance);
+
+    loadBalancer = new LatencyAwareLoadBalancer(SERVICE_ID, supplierProvider,
+        new LoadBalancerSettings(Duration.ofSeconds(10), 3, EJECTION_TIME, Duration.ofMinutes(2)),
+        clock::get);
+  }
+
+  @Test
+  void shouldPreferFasterInstance() {
+    // Given
+    completeRequest(fastInstance, Duration.ofMillis(10), HttpStatus.OK);
+    completeRequest(slowInstance, Duration.ofMillis(500), HttpStatus.OK);
+
+    // When + Then
+    IntStream.range(0, 20).forEach(i -> assertEquals(fastInstance, choose(),
+        "Instance with lower latency should be chosen"));
+  }
+
+  @Test
+  void shouldPreferLessLoadedInstance() {
+    // Given
+    completeRequest(fastInstance, Duration.ofMillis(100), HttpStatus.OK);
+    completeRequest(slowInstance, Duration.ofMillis(100), HttpStatus.OK);
+    IntStream.range(0, 5).forEach(i -> loadBalancer.onStartRequest(
+        newRequest(), new DefaultResponse(fastInstance)));
+
+    // When
+    ServiceInstance chosen = choose();
+
+    // Then
+    assertEquals(slowInstance, chosen, "Instance with fewer in-flight requests should be chosen");
+  }
+
+  @Test
+  void shouldEjectInstance_When_ReturnsServerErrors() {
+    // Given
+    completeRequest(slowInstance, Duration.ofMillis(500), HttpStatus.OK);
+    IntStream.range(0, 3).forEach(i ->
+        completeRequest(fastInstance, Duration.ofMillis(10), HttpStatus.SERVICE_UNAVAILABLE));
+
+    // When + Then
+    IntStream.range(0, 20).forEach(i -> assertEquals(slowInstance, choose(),
+        "Ejected instance should not be chosen"));
+  }
+
+  @Test
+  void shouldEjectInstance_When_RequestsFail() {
+    // Given
+    completeRequest(slowInstance, Duration.ofMillis(500), HttpStatus.OK);
+    IntStream.range(0, 3).forEach(i -> {
+      Request<RequestDataContext> request = newRequest();
+      Response<ServiceInstance> response = new DefaultResponse(fastInstance);
+      loadBalancer.onStartRequest(request, response);
+      loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.FAILED,
+          new IllegalStateException("Response took longer than timeout"), request, response));
+    });
+
+    // When
+    ServiceInstance chosen = choose();
+
+    // Then
+    assertEquals(slowInstance, chosen, "Instance failing requests should be ejected");
+  }
+
+  @Test
+  void shouldReturnInstance_When_EjectionExpired() {
+    // Given
+    IntStream.range(0, 3).forEach(i ->
+        completeRequest(fastInstance, Duration.ofMillis(10), HttpStatus.INTERNAL_SERVER_ERROR));
+    completeRequest(slowInstance, Duration.ofMillis(500), HttpStatus.OK);
+
+    // When
+    clock.addAndGet(EJECTION_TIME.toNanos());
+    ServiceInstance chosen = choose();
+
+    // Then
+    assertEquals(fastInstance, chosen, "Instance should be chosen again after ejection time");
+  }
+
+  @Test
+  void shouldChooseAmongAllInstances_When_AllEjected() {
+    // Given
+    IntStream.range(0, 3).forEach(i -> {
+      completeRequest(fastInstance, Duration.ofMillis(10), HttpStatus.BAD_GATEWAY);
+      completeRequest(slowInstance, Duration.ofMillis(10), HttpStatus.BAD_GATEWAY);
+    });
+
+    // When
+    ServiceInstance chosen = choose();
+
+    // Then
+    assertTrue(fastInstance.equals(chosen) || slowInstance.equals(chosen),
+        "Some instance should still be chosen when all are ejected");
+  }
+
+  @Test
+  void shouldForgetInstance_When_RemovedFromInstanceList() {
+    // Given
+    completeRequest(slowInstance, Duration.ofMillis(500), HttpStatus.OK);
+    IntStream.range(0, 3).forEach(i ->
+        completeRequest(fastInstance, Duration.ofMillis(10), HttpStatus.SERVICE_UNAVAILABLE));
+    supplyInstances(slowInstance);
+    choose();
+
+    // When
+    supplyInstances(fastInstance, slowInstance);
+    ServiceInstance chosen = choose();
+
+    // Then
+    assertEquals(fastInstance, chosen, "Instance registered again should start without stats");
+  }
+
+  private void supplyInstances(ServiceInstance... instances) {
+    when(supplierProvider.getIfAvailable(any()))
+        .thenReturn(ServiceInstanceListSuppliers.from(SERVICE_ID, instances));
+  }
+
+  private ServiceInstance choose() {
+    Response<ServiceInstance> response = loadBalancer.choose(newRequest()).block();
+    return response != null ? response.getServer() : null;
+  }
+
+  private void completeRequest(ServiceInstance instance, Duration latency, HttpStatus status) {
+    Request<RequestDataContext> request = newRequest();
+    Response<ServiceInstance> response = new DefaultResponse(instance);
+
+    loadBalancer.onStartRequest(request, response);
+    clock.addAndGet(latency.toNanos());
+    loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request,
+        response, new ResponseData(status, new HttpHeaders(), new LinkedMultiValueMap<>(), null)));
+  }
+
+  private static Request<RequestDataContext> newRequest() {
+    return new DefaultRequest<>(new RequestDataContext());
+  }
+}
@@ -8,6 +8,7 @@ import org.maxq.apigatewayservice.config.ServiceLoadBalancerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
@@ -56,6 +57,7 @@ class AuthorizationServiceRoutingTest {
     webTestClient.get()
         .uri(authUri + "/test")
         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
         .exchange()
         .expectStatus().isOk();
 
@@ -72,6 +74,7 @@ class AuthorizationServiceRoutingTest {
     webTestClient.get()
         .uri(authUri + "/test")
         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
         .exchange()
         .expectStatus().isOk();
 
@@ -0,0 +1,126 @@
+package org.maxq.apigatewayservice.route.routing;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.maxq.apigatewayservice.config.ServiceLoadBalancerConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+    classes = {ServiceLoadBalancerConfig.class},
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@WireMockTest(httpPort = 8081)
+@TestPropertySource(properties = {
+    "eureka.client.enabled=false",
+    "test.loadbalancer=authorization"
+})
+class AuthorizationServiceUserImportRoutingTest {
+
+  private static final String IMPORT_URL = "/api/auth/users/import";
+
+  @LocalServerPort
+  private int port;
+  @Autowired
+  private WebTestClient webTestClient;
+  @MockitoBean
+  private ReactiveJwtDecoder jwtDecoder;
+
+  @BeforeEach
+  void setUp() {
+    String baseUri = "http://localhost:" + port;
+    this.webTestClient =
+        WebTestClient.bindToServer()
+            .responseTimeout(Duration.ofSeconds(10))
+            .baseUrl(baseUri)
+            .build();
+
+    stubFor(WireMock.post("/users/import")
+        .willReturn(WireMock.ok()));
+
+    Jwt jwt = Jwt.withTokenValue("test-token")
+        .header("alg", "RS256")
+        .subject("admin@test.com")
+        .issuer("authorization-service")
+        .claim("type", "access_token")
+        .claim("roles", List.of("ROLE_ADMIN"))
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plusSeconds(3600))
+        .build();
+    when(jwtDecoder.decode("test-token")).thenReturn(Mono.just(jwt));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"text/csv", "application/x-ndjson;charset=UTF-8"})
+  void shouldStreamImportBodyToDownstreamService(String contentType) {
+    // Given
+    String body = "email,password\ntest@test.com,test\n";
+
+    // When
+    webTestClient.post()
+        .uri(IMPORT_URL)
+        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+        .header(HttpHeaders.CONTENT_TYPE, contentType)
+        .bodyValue(body)
+        .exchange()
+        .expectStatus().isOk();
+
+    // Then
+    verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/users/import"))
+        .withHeader("X-Gateway", WireMock.equalTo("api-gateway-service"))
+        .withRequestBody(WireMock.equalTo(body)));
+  }
+
+  @Test
+  void shouldStripChangedUsersHeader() {
+    // Given
+    stubFor(WireMock.post("/users/import")
+        .willReturn(WireMock.ok()
+            .withHeader("X-Changed-Users", "first@test.com", "second@test.com")));
+
+    // When + Then
+    webTestClient.post()
+        .uri(IMPORT_URL)
+        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+        .header(HttpHeaders.CONTENT_TYPE, "text/csv")
+        .bodyValue("email,password\nfirst@test.com,test\n")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().doesNotExist("X-Changed-Users");
+  }
+
+  @Test
+  void shouldNotRouteOtherContentTypes() {
+    // Given
+
+    // When + Then
+    webTestClient.post()
+        .uri(IMPORT_URL)
+        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+        .bodyValue("test")
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+}
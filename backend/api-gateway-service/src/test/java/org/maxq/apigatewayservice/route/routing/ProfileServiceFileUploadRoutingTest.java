@@ -2,22 +2,31 @@ package org.maxq.apigatewayservice.route.routing;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.maxq.apigatewayservice.config.ServiceLoadBalancerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest(
     classes = {ServiceLoadBalancerConfig.class},
@@ -33,11 +42,15 @@ class ProfileServiceFileUploadRoutingTest {
   private static final String PROFILE_URL = "/api/profile";
   private static final String UPLOAD_URL = "/test";
   private static final String BOUNDARY = "CustomBoundaryValue";
+  private static final int OVERSIZED_UPLOAD = (int) DataSize.ofMegabytes(12).toBytes();
+  private static final int CHUNK_SIZE = (int) DataSize.ofKilobytes(64).toBytes();
 
   @LocalServerPort
   private int port;
   @Autowired
   private WebTestClient webTestClient;
+  @Autowired
+  private MeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
@@ -82,4 +95,87 @@ class ProfileServiceFileUploadRoutingTest {
     verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/test"))
         .withHeader("X-Gateway", WireMock.equalTo("api-gateway-service")));
   }
+
+  @Test
+  void shouldRejectUpload_When_DeclaredSizeExceedsLimit() {
+    // Given
+
+    // When
+    webTestClient.post()
+        .uri(PROFILE_URL + UPLOAD_URL)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.MULTIPART_FORM_DATA_VALUE + ";boundary=" + BOUNDARY)
+        .bodyValue(new byte[OVERSIZED_UPLOAD])
+        .exchange()
+        .expectStatus().isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+
+    // Then
+    verify(0, WireMock.postRequestedFor(WireMock.urlEqualTo("/test")));
+  }
+
+  @Test
+  void shouldRejectUpload_When_StreamedSizeExceedsLimit() {
+    // Given
+    String validImagePart = "--" + BOUNDARY + "\r\n"
+        + "Content-Disposition: form-data; name=\"file\"; filename=\"avatar.jpg\"\r\n"
+        + "Content-Type: image/jpeg\r\n\r\n"
+        + "\u00FF\u00D8\u00FF\u00E0"
+        + "\r\n--" + BOUNDARY + "\r\n"
+        + "Content-Disposition: form-data; name=\"padding\"\r\n\r\n";
+    Flux<DataBuffer> chunkedBody = Flux.concat(
+        Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(
+            validImagePart.getBytes(StandardCharsets.ISO_8859_1))),
+        Flux.range(0, OVERSIZED_UPLOAD / CHUNK_SIZE)
+            .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(new byte[CHUNK_SIZE])));
+
+    // When
+    webTestClient.post()
+        .uri(PROFILE_URL + UPLOAD_URL)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.MULTIPART_FORM_DATA_VALUE + ";boundary=" + BOUNDARY)
+        .body(BodyInserters.fromDataBuffers(chunkedBody))
+        .exchange()
+        .expectStatus().isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+
+    // Then
+    verify(0, WireMock.postRequestedFor(WireMock.urlEqualTo("/test")));
+  }
+
+  @Test
+  void shouldRejectUpload_When_FileIsNotAnImage() {
+    // Given
+    String body = "--" + BOUNDARY + "\r\n"
+        + "Content-Disposition: form-data; name=\"file\"; filename=\"avatar.jpg\"\r\n"
+        + "Content-Type: image/jpeg\r\n\r\n"
+        + "#!/bin/sh echo not an image"
+        + "\r\n--" + BOUNDARY + "--\r\n";
+
+    // When
+    webTestClient.post()
+        .uri(PROFILE_URL + UPLOAD_URL)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.MULTIPART_FORM_DATA_VALUE + ";boundary=" + BOUNDARY)
+        .bodyValue(body)
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody().jsonPath("$.errors[0]")
+        .isEqualTo("Invalid detected file format. Only .jpg, .png and .jpeg files are allowed");
+
+    // Then
+    verify(0, WireMock.postRequestedFor(WireMock.urlEqualTo("/test")));
+  }
+
+  @Test
+  void shouldUseDedicatedConnectionPool() {
+    // Given
+
+    // When
+    webTestClient.post()
+        .uri(PROFILE_URL + UPLOAD_URL)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.MULTIPART_FORM_DATA_VALUE + ";boundary=" + BOUNDARY)
+        .exchange()
+        .expectStatus().isOk();
+
+    // Then
+    assertEquals(32, meterRegistry.get("reactor.netty.connection.provider.max.connections")
+            .tag("name", "route.profile-service-file-upload").gauge().value(),
+        "Upload route should publish metrics of its own connection pool");
+  }
 }
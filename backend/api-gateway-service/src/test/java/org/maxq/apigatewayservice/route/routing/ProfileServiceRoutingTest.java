@@ -8,15 +8,24 @@ import org.maxq.apigatewayservice.config.ServiceLoadBalancerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest(
     classes = {ServiceLoadBalancerConfig.class},
@@ -29,10 +38,14 @@ import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 })
 class ProfileServiceRoutingTest {
 
+  private static final String IMAGE_PATH = "/profiles/me/image";
+
   @LocalServerPort
   private int port;
   @Autowired
   private WebTestClient webTestClient;
+  @MockitoBean
+  private ReactiveJwtDecoder jwtDecoder;
 
   @BeforeEach
   void setUp() {
@@ -45,6 +58,19 @@ class ProfileServiceRoutingTest {
 
     stubFor(WireMock.get("/test")
         .willReturn(WireMock.ok()));
+
+    // Each test caches under its own user
+    String subject = "user-" + UUID.randomUUID() + "@test.com";
+    Jwt jwt = Jwt.withTokenValue("test-token")
+        .header("alg", "RS256")
+        .subject(subject)
+        .issuer("authorization-service")
+        .claim("type", "access_token")
+        .claim("roles", List.of("ROLE_USER"))
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plusSeconds(3600))
+        .build();
+    when(jwtDecoder.decode("test-token")).thenReturn(Mono.just(jwt));
   }
 
   @Test
@@ -56,6 +82,7 @@ class ProfileServiceRoutingTest {
     webTestClient.get()
         .uri(profileUri + "/test")
         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
         .exchange()
         .expectStatus().isOk();
 
@@ -72,6 +99,7 @@ class ProfileServiceRoutingTest {
     webTestClient.get()
         .uri(profileUri + "/test")
         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
         .exchange()
         .expectStatus().isOk();
 
@@ -79,4 +107,45 @@ class ProfileServiceRoutingTest {
     verify(WireMock.getRequestedFor(WireMock.urlEqualTo("/test"))
         .withHeader("X-Gateway", WireMock.equalTo("api-gateway-service")));
   }
+
+  @Test
+  void shouldCacheImage_When_DownstreamAllowsPrivateCaching() {
+    // Given
+    stubFor(WireMock.get(IMAGE_PATH)
+        .willReturn(WireMock.ok("image")
+            .withHeader(HttpHeaders.CACHE_CONTROL, "max-age=30, private")));
+
+    // When
+    requestImageTwice();
+
+    // Then
+    verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo(IMAGE_PATH)));
+  }
+
+  @Test
+  void shouldNotCacheImage_When_DownstreamSendsSpringSecurityHeaders() {
+    // Given
+    stubFor(WireMock.get(IMAGE_PATH)
+        .willReturn(WireMock.ok("image")
+            .withHeader(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, max-age=0, must-revalidate")
+            .withHeader(HttpHeaders.PRAGMA, "no-cache")
+            .withHeader(HttpHeaders.EXPIRES, "0")));
+
+    // When
+    requestImageTwice();
+
+    // Then
+    verify(2, WireMock.getRequestedFor(WireMock.urlEqualTo(IMAGE_PATH)));
+  }
+
+  private void requestImageTwice() {
+    for (int i = 0; i < 2; i++) {
+      webTestClient.get()
+          .uri("/api/profile" + IMAGE_PATH)
+          .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+          .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+          .exchange()
+          .expectStatus().isOk();
+    }
+  }
 }
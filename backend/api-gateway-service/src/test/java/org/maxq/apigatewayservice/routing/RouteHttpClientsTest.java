@@ -0,0 +1,114 @@
+package org.maxq.apigatewayservice.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.route.Route;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteHttpClientsTest {
+
+  private RouteHttpClients routeHttpClients;
+
+  @BeforeEach
+  void setUp() {
+    HttpClientProperties properties = new HttpClientProperties();
+    ServerProperties serverProperties = new ServerProperties();
+    HttpClientSslConfigurer sslConfigurer = new HttpClientSslConfigurer(properties.getSsl(),
+        serverProperties, new DefaultSslBundleRegistry());
+    routeHttpClients = new RouteHttpClients(properties, serverProperties, sslConfigurer, List.of());
+  }
+
+  @AfterEach
+  void tearDown() {
+    routeHttpClients.destroy();
+  }
+
+  @Test
+  void shouldUseSharedClient_When_RouteHasNoPool() {
+    // Given
+    Route route = route("light", Map.of());
+
+    // When
+    Optional<HttpClient> httpClient = routeHttpClients.find(route);
+
+    // Then
+    assertTrue(httpClient.isEmpty(), "Route without pool settings should use the shared client");
+  }
+
+  @Test
+  void shouldBuildDedicatedPool_When_RouteHasPool() {
+    // Given
+    Route route = route("heavy", Map.of(
+        RoutePoolSettings.MAX_CONNECTIONS, 8,
+        RoutePoolSettings.PENDING_ACQUIRE_MAX_COUNT, "16",
+        RoutePoolSettings.PENDING_ACQUIRE_TIMEOUT, "2s"));
+
+    // When
+    HttpClient httpClient = routeHttpClients.find(route).orElseThrow();
+
+    // Then
+    ConnectionProvider connectionProvider = httpClient.configuration().connectionProvider();
+    assertAll(
+        () -> assertEquals("route.heavy", connectionProvider.name(), "Pool should be named after route"),
+        () -> assertEquals(8, connectionProvider.maxConnections(), "Pool should be sized from metadata")
+    );
+  }
+
+  @Test
+  void shouldReuseClient_When_SameRoute() {
+    // Given
+    Route route = route("heavy", Map.of(RoutePoolSettings.MAX_CONNECTIONS, 8));
+
+    // When
+    HttpClient first = routeHttpClients.find(route).orElseThrow();
+    HttpClient second = routeHttpClients.find(route).orElseThrow();
+
+    // Then
+    assertSame(first, second, "Route should keep a single pool");
+  }
+
+  @Test
+  void shouldApplyDefaults_When_OnlyMaxConnectionsSet() {
+    // Given
+    Map<String, Object> metadata = Map.of(RoutePoolSettings.MAX_CONNECTIONS, "10");
+
+    // When
+    RoutePoolSettings settings = RoutePoolSettings.from(metadata).orElseThrow();
+
+    // Then
+    assertAll(
+        () -> assertEquals(10, settings.getMaxConnections(), "Max connections should be read"),
+        () -> assertEquals(20, settings.getPendingAcquireMaxCount(),
+            "Pending acquire limit should default to twice the pool size"),
+        () -> assertEquals(Duration.ofSeconds(5), settings.getPendingAcquireTimeout(),
+            "Pending acquire timeout should default to 5 seconds"),
+        () -> assertEquals(0, settings.getEventLoopThreads(),
+            "Shared event loops should be used by default")
+    );
+  }
+
+  private Route route(String id, Map<String, Object> metadata) {
+    return Route.async()
+        .id(id)
+        .uri("http://localhost:8080")
+        .predicate(exchange -> true)
+        .metadata(metadata)
+        .build();
+  }
+}
@@ -0,0 +1,107 @@
+package org.maxq.apigatewayservice.security.decoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingReactiveJwtDecoderTest {
+
+  private static final String TOKEN = "test-token";
+
+  private ReactiveJwtDecoder delegate;
+  private MeterRegistry meterRegistry;
+  private CachingReactiveJwtDecoder decoder;
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(ReactiveJwtDecoder.class);
+    meterRegistry = new SimpleMeterRegistry();
+    decoder = new CachingReactiveJwtDecoder(delegate, meterRegistry, 100,
+        Duration.ofMinutes(15), Duration.ofSeconds(30));
+  }
+
+  @Test
+  void shouldDecodeTokenOnlyOnce() {
+    // Given
+    Jwt jwt = buildJwt(Instant.now().plusSeconds(3600));
+    when(delegate.decode(TOKEN)).thenReturn(Mono.just(jwt));
+
+    // When
+    StepVerifier.create(decoder.decode(TOKEN)).expectNext(jwt).verifyComplete();
+    StepVerifier.create(decoder.decode(TOKEN)).expectNext(jwt).verifyComplete();
+
+    // Then
+    assertAll(
+        () -> verify(delegate, times(1)).decode(TOKEN),
+        () -> assertEquals(1, meterRegistry.get("cache.gets")
+            .tag("cache", "gateway.jwt.decoder").tag("result", "hit")
+            .functionCounter().count(), "Second decode should be a cache hit")
+    );
+  }
+
+  @Test
+  void shouldCacheRejectedToken() {
+    // Given
+    when(delegate.decode(TOKEN)).thenReturn(Mono.error(new BadJwtException("Invalid signature")));
+
+    // When
+    StepVerifier.create(decoder.decode(TOKEN)).expectError(BadJwtException.class).verify();
+    StepVerifier.create(decoder.decode(TOKEN)).expectError(BadJwtException.class).verify();
+
+    // Then
+    verify(delegate, times(1)).decode(TOKEN);
+  }
+
+  @Test
+  void shouldNotCache_When_DecodingFailsForOtherReason() {
+    // Given
+    when(delegate.decode(TOKEN)).thenReturn(Mono.error(new JwtException("Key unavailable")));
+
+    // When
+    StepVerifier.create(decoder.decode(TOKEN)).expectError(JwtException.class).verify();
+    StepVerifier.create(decoder.decode(TOKEN)).expectError(JwtException.class).verify();
+
+    // Then
+    verify(delegate, times(2)).decode(TOKEN);
+  }
+
+  @Test
+  void shouldNotServeCachedToken_When_TokenExpired() {
+    // Given
+    Jwt jwt = buildJwt(Instant.now().minusSeconds(1));
+    when(delegate.decode(TOKEN)).thenReturn(Mono.just(jwt));
+
+    // When
+    StepVerifier.create(decoder.decode(TOKEN)).expectNext(jwt).verifyComplete();
+    StepVerifier.create(decoder.decode(TOKEN)).expectNext(jwt).verifyComplete();
+
+    // Then
+    verify(delegate, times(2)).decode(TOKEN);
+  }
+
+  private Jwt buildJwt(Instant expiresAt) {
+    return Jwt.withTokenValue(TOKEN)
+        .header("alg", "RS256")
+        .subject("test@test.com")
+        .issuedAt(expiresAt.minusSeconds(3600))
+        .expiresAt(expiresAt)
+        .build();
+  }
+}
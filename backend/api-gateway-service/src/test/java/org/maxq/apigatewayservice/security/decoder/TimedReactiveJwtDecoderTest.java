@@ -0,0 +1,69 @@
+package org.maxq.apigatewayservice.security.decoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TimedReactiveJwtDecoderTest {
+
+  private static final String TOKEN = "test-token";
+
+  private ReactiveJwtDecoder delegate;
+  private MeterRegistry meterRegistry;
+  private TimedReactiveJwtDecoder decoder;
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(ReactiveJwtDecoder.class);
+    meterRegistry = new SimpleMeterRegistry();
+    decoder = new TimedReactiveJwtDecoder(delegate, meterRegistry);
+  }
+
+  @Test
+  void shouldRecordDecodeTime() {
+    // Given
+    Jwt jwt = Jwt.withTokenValue(TOKEN)
+        .header("alg", "RS256")
+        .subject("test@test.com")
+        .expiresAt(Instant.now().plusSeconds(3600))
+        .build();
+    when(delegate.decode(TOKEN)).thenReturn(Mono.just(jwt));
+
+    // When
+    StepVerifier.create(decoder.decode(TOKEN)).expectNext(jwt).verifyComplete();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, meterRegistry.get("gateway.jwt.decode")
+            .tag("outcome", "success").timer().count(), "Successful decode should be timed"),
+        () -> assertEquals(0, meterRegistry.get("gateway.jwt.decode")
+            .tag("outcome", "failure").timer().count(), "No failure should be recorded")
+    );
+  }
+
+  @Test
+  void shouldRecordFailedDecodeTime() {
+    // Given
+    when(delegate.decode(TOKEN)).thenReturn(Mono.error(new BadJwtException("Invalid signature")));
+
+    // When
+    StepVerifier.create(decoder.decode(TOKEN)).expectError(BadJwtException.class).verify();
+
+    // Then
+    assertEquals(1, meterRegistry.get("gateway.jwt.decode")
+        .tag("outcome", "failure").timer().count(), "Failed decode should be timed");
+  }
+}
@@ -0,0 +1,116 @@
+package org.maxq.apigatewayservice.service;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maxq.apigatewayservice.config.ServiceLoadBalancerConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@AutoConfigureObservability
+@SpringBootTest(
+    classes = {ServiceLoadBalancerConfig.class},
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@WireMockTest(httpPort = 8082)
+@TestPropertySource(properties = {
+    "eureka.client.enabled=false",
+    "test.loadbalancer=profile"
+})
+class GatewayMetricsTest {
+
+  private static final String ROUTE_ID = "profile-service";
+  private static final String RESPONSE_BODY = "{\"name\":\"metrics\"}";
+
+  @LocalServerPort
+  private int port;
+  @Autowired
+  private WebTestClient webTestClient;
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    String baseUri = "http://localhost:" + port;
+    this.webTestClient =
+        WebTestClient.bindToServer()
+            .responseTimeout(Duration.ofSeconds(10))
+            .baseUrl(baseUri)
+            .build();
+
+    stubFor(WireMock.get("/metrics-test")
+        .willReturn(WireMock.okJson(RESPONSE_BODY)));
+  }
+
+  @Test
+  void shouldRecordRouteMetrics() {
+    // Given
+
+    // When
+    webTestClient.get()
+        .uri("/api/profile/metrics-test")
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .exchange()
+        .expectStatus().isOk();
+
+    // Then
+    assertAll(
+        () -> assertTrue(meterRegistry.get("gateway.filter.duration")
+            .tag("route", ROUTE_ID).tag("filter", "UserJwtFilter").timer().count() > 0,
+            "UserJwtFilter time should be recorded"),
+        () -> assertTrue(meterRegistry.get("gateway.filter.duration")
+            .tag("route", ROUTE_ID).tag("filter", "RobotJwtFilter").timer().count() > 0,
+            "RobotJwtFilter time should be recorded")
+    );
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+        assertTrue(meterRegistry.find("gateway.upstream.latency")
+                .tag("route", ROUTE_ID).tag("status", "200").timer() != null,
+            "Upstream latency should be recorded once the routing filter completes"));
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+        assertTrue(meterRegistry.find("gateway.response.size").tag("route", ROUTE_ID).summary() != null
+                && meterRegistry.get("gateway.response.size").tag("route", ROUTE_ID).summary()
+                .totalAmount() >= RESPONSE_BODY.length(),
+            "Response size should be recorded once the response completes"));
+  }
+
+  @Test
+  void shouldExposePrometheusEndpoint() {
+    // Given
+    webTestClient.get()
+        .uri("/api/profile/metrics-test")
+        .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .exchange()
+        .expectStatus().isOk();
+
+    // When
+    String scrape = webTestClient.get()
+        .uri("/actuator/prometheus")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(String.class)
+        .returnResult()
+        .getResponseBody();
+
+    // Then
+    assertTrue(scrape != null && scrape.contains("gateway_upstream_latency_seconds_bucket"),
+        "Upstream latency histogram should be exported");
+  }
+}
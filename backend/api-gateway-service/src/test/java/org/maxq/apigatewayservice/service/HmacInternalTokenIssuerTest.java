@@ -0,0 +1,68 @@
+package org.maxq.apigatewayservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class HmacInternalTokenIssuerTest {
+
+  private NimbusJwtDecoder decoder;
+  private HmacInternalTokenIssuer issuer;
+
+  @BeforeEach
+  void setUp() {
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    SecretKey secretKey = new SecretKeySpec(secret, "HmacSHA256");
+
+    issuer = new HmacInternalTokenIssuer("api-gateway-service", secretKey);
+    decoder = NimbusJwtDecoder.withSecretKey(secretKey).macAlgorithm(MacAlgorithm.HS256).build();
+  }
+
+  @Test
+  void shouldBindUserHeadersIntoToken() {
+    // Given
+    String user = "test@test.com";
+    String roles = "ROLE_USER,ROLE_ADMIN";
+
+    // When
+    Jwt jwt = decoder.decode(issuer.issueToken(user, roles));
+
+    // Then
+    assertAll(
+        () -> assertEquals("HS256", jwt.getHeaders().get("alg"), "Token should be signed with HS256"),
+        () -> assertEquals("robot", jwt.getSubject(), "Subject should be robot"),
+        () -> assertEquals("access_token", jwt.getClaimAsString("type"), "Type should be access_token"),
+        () -> assertEquals("api-gateway-service", jwt.getClaimAsString("iss"), "Issuer should be set"),
+        () -> assertEquals(user, jwt.getClaimAsString(HmacInternalTokenIssuer.USER_CLAIM),
+            "User should be bound"),
+        () -> assertEquals(roles, jwt.getClaimAsString(HmacInternalTokenIssuer.USER_ROLES_CLAIM),
+            "Roles should be bound")
+    );
+  }
+
+  @Test
+  void shouldOmitUserClaims_When_RequestIsAnonymous() {
+    // Given
+
+    // When
+    Jwt jwt = decoder.decode(issuer.issueToken(null, null));
+
+    // Then
+    assertAll(
+        () -> assertFalse(jwt.hasClaim(HmacInternalTokenIssuer.USER_CLAIM), "User claim should be absent"),
+        () -> assertFalse(jwt.hasClaim(HmacInternalTokenIssuer.USER_ROLES_CLAIM),
+            "Roles claim should be absent")
+    );
+  }
+}
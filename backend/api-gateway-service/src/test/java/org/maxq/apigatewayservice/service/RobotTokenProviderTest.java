@@ -0,0 +1,114 @@
+package org.maxq.apigatewayservice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maxq.apigatewayservice.domain.RobotToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RobotTokenProviderTest {
+
+  private static final int POOL_SIZE = 2;
+
+  private TokenService tokenService;
+  private MeterRegistry meterRegistry;
+  private RobotTokenProvider robotTokenProvider;
+  private final AtomicInteger tokenNumber = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    tokenService = mock(TokenService.class);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (robotTokenProvider != null) {
+      robotTokenProvider.stop();
+    }
+  }
+
+  @Test
+  void shouldServeTokensFromPool() {
+    // Given
+    when(tokenService.generateRobotToken()).thenAnswer(invocation -> validToken(60));
+    robotTokenProvider = createProvider();
+    robotTokenProvider.start();
+
+    // When
+    String first = robotTokenProvider.getToken();
+    String second = robotTokenProvider.getToken();
+    String third = robotTokenProvider.getToken();
+
+    // Then
+    assertAll(
+        () -> assertNotEquals(first, second, "Pool tokens should be handed out in rotation"),
+        () -> assertEquals(first, third, "Pool should wrap around after last token"),
+        () -> verify(tokenService, times(POOL_SIZE)).generateRobotToken(),
+        () -> assertEquals(3, meterRegistry.get("gateway.robot.token.requests")
+            .tag("result", "hit").counter().count(), "All requests should be pool hits"),
+        () -> assertEquals(POOL_SIZE, meterRegistry.get("gateway.robot.token.signatures")
+            .counter().count(), "Only pool tokens should be signed"),
+        () -> assertEquals(1.0, meterRegistry.get("gateway.robot.token.hit.ratio")
+            .gauge().value(), "Hit ratio should be reported")
+    );
+  }
+
+  @Test
+  void shouldSignToken_When_PooledTokenIsAboutToExpire() {
+    // Given
+    when(tokenService.generateRobotToken()).thenAnswer(invocation -> validToken(5));
+    robotTokenProvider = createProvider();
+    robotTokenProvider.start();
+
+    // When
+    robotTokenProvider.getToken();
+
+    // Then
+    assertAll(
+        () -> verify(tokenService, times(POOL_SIZE + 1)).generateRobotToken(),
+        () -> assertEquals(1, meterRegistry.get("gateway.robot.token.requests")
+            .tag("result", "miss").counter().count(), "Expiring token should count as miss")
+    );
+  }
+
+  @Test
+  void shouldReplaceOnlyExpiringTokens_When_Refreshing() {
+    // Given
+    when(tokenService.generateRobotToken())
+        .thenAnswer(invocation -> validToken(60))
+        .thenAnswer(invocation -> validToken(15))
+        .thenAnswer(invocation -> validToken(60));
+    robotTokenProvider = createProvider();
+    robotTokenProvider.start();
+
+    // When
+    robotTokenProvider.refresh();
+
+    // Then
+    verify(tokenService, times(POOL_SIZE + 1)).generateRobotToken();
+  }
+
+  private RobotTokenProvider createProvider() {
+    return new RobotTokenProvider(tokenService, meterRegistry, POOL_SIZE,
+        Duration.ofSeconds(20), Duration.ofSeconds(10), Duration.ofMinutes(5));
+  }
+
+  private RobotToken validToken(long seconds) {
+    return new RobotToken("token-" + tokenNumber.incrementAndGet(),
+        Instant.now().plusSeconds(seconds));
+  }
+}
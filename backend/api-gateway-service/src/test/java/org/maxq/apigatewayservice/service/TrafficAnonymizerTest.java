@@ -0,0 +1,50 @@
+package org.maxq.apigatewayservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TrafficAnonymizerTest {
+
+  private final TrafficAnonymizer anonymizer = new TrafficAnonymizer("test-salt");
+
+  @Test
+  void shouldReplaceIdentifyingPathSegments() {
+    // When + Then
+    assertAll(
+        () -> assertEquals("/api/auth/users/{id}/roles",
+            anonymizer.pathTemplate("/api/auth/users/42/roles"), "Numeric id should be replaced"),
+        () -> assertEquals("/api/profile/{id}",
+            anonymizer.pathTemplate("/api/profile/3f2b8a4e-9c1d-4e5f-8a7b-6c5d4e3f2a1b"),
+            "UUID should be replaced"),
+        () -> assertEquals("/api/auth/users/{id}",
+            anonymizer.pathTemplate("/api/auth/users/test@test.com"), "Email should be replaced"),
+        () -> assertEquals("/api/auth/register/confirm/{id}",
+            anonymizer.pathTemplate("/api/auth/register/confirm/aGVsbG8x29ybGQxMjM0NTY"),
+            "Token should be replaced"),
+        () -> assertEquals("/api/profile/profiles/me/image",
+            anonymizer.pathTemplate("/api/profile/profiles/me/image"), "Static path should be kept")
+    );
+  }
+
+  @Test
+  void shouldHashUsersWithSalt() {
+    // Given
+    TrafficAnonymizer otherSalt = new TrafficAnonymizer("other-salt");
+
+    // When
+    long hash = anonymizer.userHash("test@test.com");
+
+    // Then
+    assertAll(
+        () -> assertEquals(hash, anonymizer.userHash("test@test.com"), "Hash should be stable"),
+        () -> assertNotEquals(hash, anonymizer.userHash("other@test.com"),
+            "Different users should have different hashes"),
+        () -> assertNotEquals(hash, otherSalt.userHash("test@test.com"),
+            "Hash should depend on the salt"),
+        () -> assertEquals(0, anonymizer.userHash(""), "Anonymous user should hash to 0")
+    );
+  }
+}
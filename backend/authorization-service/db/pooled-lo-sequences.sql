@@ -0,0 +1,10 @@
+-- One-off migration for the pooled-lo id generators of User, Role and VerificationToken.
+-- Run it once per database that was created before allocationSize 50, e.g.:
+--   psql -v ON_ERROR_STOP=1 -d authorization-db -f db/pooled-lo-sequences.sql
+-- Then restart the service. Until then increment_size_mismatch_strategy=fix keeps allocating one
+-- id per sequence call. Databases created by a build with allocationSize 50 do not need it.
+-- Requires ownership of the sequences. Set the increments back to 1 before rolling back.
+
+ALTER SEQUENCE IF EXISTS user_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS role_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS token_seq INCREMENT BY 50;
@@ -0,0 +1,21 @@
+-- One-off migration for the user directory search indexes.
+-- Run it once per database after the service has created its tables, e.g.:
+--   psql -v ON_ERROR_STOP=1 -d authorization-db -f db/user-search-indexes.sql
+-- Requires CREATE on the database for pg_trgm and ownership of the users table.
+-- Indexes are built CONCURRENTLY, so the script must not run inside a transaction.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- An interrupted concurrent build leaves an INVALID index that IF NOT EXISTS would keep skipping
+SELECT format('DROP INDEX CONCURRENTLY IF EXISTS %I', c.relname)
+FROM pg_index i
+         JOIN pg_class c ON c.oid = i.indexrelid
+WHERE NOT i.indisvalid
+  AND c.relname IN ('idx_users_email_lower_pattern', 'idx_users_email_lower_trgm')
+\gexec
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_lower_pattern
+    ON users (lower(email) text_pattern_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_lower_trgm
+    ON users USING gin (lower(email) gin_trgm_ops);
@@ -6,6 +6,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.maxq.authorization.domain.HttpErrorMessage;
+import org.maxq.authorization.security.crypto.PasswordHashingRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -16,10 +18,21 @@ import java.io.IOException;
 @Component
 public class CustomAuthenticationFailureHandler implements AuthenticationEntryPoint {
 
+  private static final String RETRY_AFTER_SECONDS = "1";
+
   @Override
   public void commence(
       HttpServletRequest request, HttpServletResponse response,
       AuthenticationException exception) throws IOException, ServletException {
+    if (exception instanceof PasswordHashingRejectedException) {
+      log.warn("Authentication rejected: {}", exception.getMessage());
+      response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+      response.setContentType("application/json");
+      response.getWriter().write(new Gson().toJson(new HttpErrorMessage(exception.getMessage())));
+      return;
+    }
+
     HttpErrorMessage message =
         new HttpErrorMessage("Unauthorized to access this resource, login please");
     log.error("Error during authentication {}", exception.getMessage(), exception);
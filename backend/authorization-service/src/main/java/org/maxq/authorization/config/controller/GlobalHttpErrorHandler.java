@@ -3,6 +3,7 @@ package org.maxq.authorization.config.controller;
 import lombok.extern.slf4j.Slf4j;
 import org.maxq.authorization.domain.HttpErrorMessage;
 import org.maxq.authorization.domain.exception.*;
+import org.maxq.authorization.security.crypto.PasswordHashingRejectedException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -55,6 +56,14 @@ public class GlobalHttpErrorHandler extends ResponseEntityExceptionHandler {
     return new ResponseEntity<>(new HttpErrorMessage(e.getMessage()), HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(PasswordHashingRejectedException.class)
+  public ResponseEntity<HttpErrorMessage> handlePasswordHashingRejectedException(PasswordHashingRejectedException e) {
+    log.warn(e.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(new HttpErrorMessage(e.getMessage()));
+  }
+
   @Override
   protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
     log.error(ex.getMessage(), ex);
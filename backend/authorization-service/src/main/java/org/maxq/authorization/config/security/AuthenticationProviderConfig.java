@@ -0,0 +1,41 @@
+package org.maxq.authorization.config.security;
+
+import org.maxq.authorization.security.UserDetailsCache;
+import org.maxq.authorization.security.UserDetailsDbService;
+import org.maxq.authorization.security.authentication.provider.RehashingDaoAuthenticationProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+@Configuration
+public class AuthenticationProviderConfig {
+
+  @Bean
+  public AuthenticationManager authenticationManager(
+      DaoAuthenticationProvider daoAuthenticationProvider
+  ) {
+    return new ProviderManager(List.of(daoAuthenticationProvider));
+  }
+
+  @Bean
+  public DaoAuthenticationProvider authenticationProvider(UserDetailsCache userDetailsCache,
+                                                         PasswordEncoder passwordEncoder,
+                                                         ApplicationEventPublisher eventPublisher) {
+    DaoAuthenticationProvider provider = new RehashingDaoAuthenticationProvider(
+        userDetailsService(userDetailsCache), eventPublisher);
+    provider.setPasswordEncoder(passwordEncoder);
+    return provider;
+  }
+
+  @Bean
+  public UserDetailsService userDetailsService(UserDetailsCache userDetailsCache) {
+    return new UserDetailsDbService(userDetailsCache);
+  }
+}
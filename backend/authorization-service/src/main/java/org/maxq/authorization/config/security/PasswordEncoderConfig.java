@@ -0,0 +1,61 @@
+package org.maxq.authorization.config.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.maxq.authorization.security.crypto.BcryptCostCalibrator;
+import org.maxq.authorization.security.crypto.BoundedPasswordEncoder;
+import org.maxq.authorization.security.crypto.CostAwareBCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+  private static final String BCRYPT_ID = "bcrypt";
+
+  @Value("${password-hashing.threads:0}")
+  private int threads;
+
+  @Value("${password-hashing.queue-capacity:64}")
+  private int queueCapacity;
+
+  @Value("${password-hashing.timeout:5s}")
+  private Duration timeout;
+
+  @Value("${password-hashing.bcrypt.strength:0}")
+  private int strength;
+
+  @Value("${password-hashing.bcrypt.min-strength:10}")
+  private int minStrength;
+
+  @Value("${password-hashing.bcrypt.max-strength:14}")
+  private int maxStrength;
+
+  @Value("${password-hashing.bcrypt.target-latency:250ms}")
+  private Duration targetLatency;
+
+  @Bean
+  public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(delegatingPasswordEncoder(), poolSize, queueCapacity,
+        timeout, meterRegistry);
+  }
+
+  private PasswordEncoder delegatingPasswordEncoder() {
+    int bcryptStrength = strength > 0
+        ? strength
+        : new BcryptCostCalibrator(minStrength, maxStrength, targetLatency).calibrate();
+    PasswordEncoder bcrypt = new CostAwareBCryptPasswordEncoder(bcryptStrength);
+
+    // Hashes stored before the {bcrypt} prefix was introduced are plain bcrypt
+    DelegatingPasswordEncoder encoder =
+        new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+    encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+    return encoder;
+  }
+}
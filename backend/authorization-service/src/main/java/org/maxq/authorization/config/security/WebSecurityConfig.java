@@ -4,28 +4,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.maxq.authorization.config.controller.CustomAccessDeniedHandler;
 import org.maxq.authorization.config.controller.CustomAuthenticationFailureHandler;
-import org.maxq.authorization.security.UserDetailsDbService;
 import org.maxq.authorization.security.authentication.converter.JwtBasicAuthenticationConverter;
 import org.maxq.authorization.security.authentication.converter.JwtHeadersAuthenticationConverter;
-import org.maxq.authorization.service.UserService;
+import org.maxq.authorization.security.validator.RobotJwtValidator;
+import org.maxq.authorization.security.validator.UserHeadersJwtValidator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
-import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
-import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtValidators;
@@ -38,8 +32,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import javax.crypto.SecretKey;
 import java.security.interfaces.RSAPublicKey;
-import java.util.ArrayList;
 import java.util.List;
 
 @Configuration
@@ -48,39 +42,19 @@ import java.util.List;
 @Slf4j
 public class WebSecurityConfig {
 
+  private static final String HMAC_MODE = "hmac";
+
   @Value("${frontend.url}")
   private String frontendUrl;
 
-  @Bean
-  public AuthenticationManager authenticationManager(
-      DaoAuthenticationProvider daoAuthenticationProvider
-  ) {
-    return new ProviderManager(List.of(daoAuthenticationProvider));
-  }
-
-  @Bean
-  public DaoAuthenticationProvider authenticationProvider(UserService userService) {
-    DaoAuthenticationProvider provider = new DaoAuthenticationProvider(
-        userDetailsService(userService));
-    provider.setPasswordEncoder(passwordEncoder());
-    return provider;
-  }
-
-  @Bean
-  public UserDetailsService userDetailsService(UserService userService) {
-    return new UserDetailsDbService(userService);
-  }
-
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
+  @Value("${jwt.internal-auth.mode:rsa}")
+  private String internalAuthMode;
 
   @Bean
   @Order(1)
   public SecurityFilterChain filterChainLogin(
       HttpSecurity http,
-      @Qualifier("robot") RSAPublicKey publicKey,
+      JwtDecoder jwtDecoder,
       JwtBasicAuthenticationConverter jwtBasicAuthenticationConverter) throws Exception {
     http.securityMatcher("/login")
         .authorizeHttpRequests(
@@ -89,7 +63,7 @@ public class WebSecurityConfig {
         .oauth2ResourceServer(oauth2 ->
             oauth2.jwt(jwtConfigurer ->
                     jwtConfigurer
-                        .decoder(nimbusJwtDecoder(publicKey))
+                        .decoder(jwtDecoder)
                         .jwtAuthenticationConverter(jwtBasicAuthenticationConverter))
                 .authenticationEntryPoint(authenticationFailureHandler()))
         .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -104,7 +78,7 @@ public class WebSecurityConfig {
   @Order(2)
   public SecurityFilterChain filterChainHeaders(
       HttpSecurity http,
-      @Qualifier("robot") RSAPublicKey publicKey,
+      JwtDecoder jwtDecoder,
       JwtHeadersAuthenticationConverter jwtHeadersAuthenticationConverter) throws Exception {
     http.securityMatcher("/**")
         .authorizeHttpRequests(
@@ -116,7 +90,7 @@ public class WebSecurityConfig {
         .oauth2ResourceServer(oauth2 ->
             oauth2.jwt(jwtConfigurer ->
                     jwtConfigurer
-                        .decoder(nimbusJwtDecoder(publicKey))
+                        .decoder(jwtDecoder)
                         .jwtAuthenticationConverter(jwtHeadersAuthenticationConverter))
                 .authenticationEntryPoint(authenticationFailureHandler()))
         .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -134,29 +108,26 @@ public class WebSecurityConfig {
 
 
   @Bean
-  public JwtDecoder nimbusJwtDecoder(@Qualifier("robot") RSAPublicKey publicKey) {
+  public JwtDecoder nimbusJwtDecoder(
+      @Qualifier("robot") RSAPublicKey publicKey,
+      @Qualifier("internal") ObjectProvider<SecretKey> internalSecretKey) {
     OAuth2TokenValidator<Jwt> withIssuer
         = JwtValidators.createDefaultWithIssuer("api-gateway-service");
 
-    OAuth2TokenValidator<Jwt> customValidator = jwt -> {
-      List<OAuth2Error> errors = new ArrayList<>();
-
-      if (!"robot".equals(jwt.getSubject())) {
-        errors.add(new OAuth2Error("invalid_subject", "Subject msy be a 'robot'", null));
-      }
-
-      if (!"access_token".equals(jwt.getClaimAsString("type"))) {
-        errors.add(new OAuth2Error("invalid_type", "Type must be 'access_token'", null));
-      }
-
-      return errors.isEmpty()
-             ? OAuth2TokenValidatorResult.success()
-             : OAuth2TokenValidatorResult.failure(errors.toArray(new OAuth2Error[0]));
-    };
+    OAuth2TokenValidator<Jwt> customValidator = new RobotJwtValidator();
 
     OAuth2TokenValidator<Jwt> combinedValidator = new DelegatingOAuth2TokenValidator<>(withIssuer,
         customValidator);
 
+    if (HMAC_MODE.equals(internalAuthMode)) {
+      NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(internalSecretKey.getObject())
+          .macAlgorithm(MacAlgorithm.HS256)
+          .build();
+      decoder.setJwtValidator(
+          new DelegatingOAuth2TokenValidator<>(combinedValidator, new UserHeadersJwtValidator()));
+      return decoder;
+    }
+
     NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
     decoder.setJwtValidator(combinedValidator);
     return decoder;
@@ -2,13 +2,13 @@ package org.maxq.authorization.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.maxq.authorization.controller.api.LoginApi;
-import org.maxq.authorization.domain.User;
 import org.maxq.authorization.domain.dto.MeDto;
 import org.maxq.authorization.domain.dto.TokenDto;
 import org.maxq.authorization.domain.exception.ElementNotFoundException;
 import org.maxq.authorization.mapper.UserMapper;
+import org.maxq.authorization.security.CachedUser;
+import org.maxq.authorization.security.UserDetailsCache;
 import org.maxq.authorization.service.TokenService;
-import org.maxq.authorization.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -24,7 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class LoginController implements LoginApi {
 
   private final TokenService tokenService;
-  private final UserService userService;
+  private final UserDetailsCache userDetailsCache;
   private final UserMapper userMapper;
 
   @Override
@@ -40,7 +40,8 @@ public class LoginController implements LoginApi {
   @PreAuthorize("authentication.principal != null")
   public ResponseEntity<MeDto> me(Authentication authentication) throws ElementNotFoundException {
     String username = (String) authentication.getPrincipal();
-    User user = userService.getUserByEmail(username);
+    CachedUser user = userDetailsCache.get(username).orElseThrow(() ->
+        new ElementNotFoundException("User with email '" + username + "' does not exist"));
     return ResponseEntity.ok(userMapper.mapToMeDto(user));
   }
 }
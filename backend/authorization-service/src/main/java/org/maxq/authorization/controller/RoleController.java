@@ -6,11 +6,13 @@ import org.maxq.authorization.domain.Role;
 import org.maxq.authorization.domain.dto.RoleDto;
 import org.maxq.authorization.mapper.RoleMapper;
 import org.maxq.authorization.service.RoleService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -18,6 +20,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RoleController implements RoleApi {
 
+  // Roles are only created at startup, so the gateway may keep them per user for a while
+  private static final CacheControl CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofSeconds(30)).cachePrivate();
+
   private final RoleService roleService;
   private final RoleMapper roleMapper;
 
@@ -25,8 +31,8 @@ public class RoleController implements RoleApi {
   @GetMapping
   public ResponseEntity<List<RoleDto>> getRoles() {
     List<Role> roles = roleService.getAllRoles();
-    return ResponseEntity.ok(
-        roleMapper.mapToRoleDtoList(roles)
-    );
+    return ResponseEntity.ok()
+        .cacheControl(CACHE_CONTROL)
+        .body(roleMapper.mapToRoleDtoList(roles));
   }
 }
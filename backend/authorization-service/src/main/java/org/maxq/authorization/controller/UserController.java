@@ -2,18 +2,36 @@ package org.maxq.authorization.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.maxq.authorization.controller.api.UserApi;
+import org.maxq.authorization.domain.EmailMatch;
 import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserCursor;
+import org.maxq.authorization.domain.UserImportFormat;
+import org.maxq.authorization.domain.UserImportResult;
+import org.maxq.authorization.domain.UserSearch;
+import org.maxq.authorization.domain.UserSortKey;
+import org.maxq.authorization.domain.UserWindow;
+import org.maxq.authorization.domain.dto.CursorPageDto;
 import org.maxq.authorization.domain.dto.GetUserDto;
 import org.maxq.authorization.domain.dto.PageDto;
+import org.maxq.authorization.domain.dto.UserImportReportDto;
+import org.maxq.authorization.domain.exception.DataValidationException;
 import org.maxq.authorization.domain.exception.ElementNotFoundException;
 import org.maxq.authorization.domain.exception.RoleAlreadyExistsException;
 import org.maxq.authorization.domain.exception.RoleDoesNotExistException;
+import org.maxq.authorization.mapper.UserCursorMapper;
+import org.maxq.authorization.mapper.UserImportMapper;
 import org.maxq.authorization.mapper.UserMapper;
+import org.maxq.authorization.service.UserImportService;
 import org.maxq.authorization.service.UserService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 @RestController
 @RequestMapping("/users")
 @RequiredArgsConstructor
@@ -21,6 +39,9 @@ public class UserController implements UserApi {
 
   private final UserService userService;
   private final UserMapper userMapper;
+  private final UserCursorMapper userCursorMapper;
+  private final UserImportService userImportService;
+  private final UserImportMapper userImportMapper;
 
   @Override
   @GetMapping
@@ -33,6 +54,54 @@ public class UserController implements UserApi {
     );
   }
 
+  @Override
+  @GetMapping("/cursor")
+  public ResponseEntity<CursorPageDto<GetUserDto>> getUsersByCursor(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false, defaultValue = "ID") UserSortKey sort,
+      @RequestParam(required = false, defaultValue = "10") Integer size,
+      @RequestParam(required = false, defaultValue = "false") boolean count
+  ) throws DataValidationException {
+    UserCursor cursor = after == null ? UserCursor.first(sort) : userCursorMapper.mapToUserCursor(after);
+    UserWindow users = userService.getUsersAfter(cursor, size, count);
+    return ResponseEntity.ok(
+        userMapper.mapToGetUserDtoCursorPage(users)
+    );
+  }
+
+  @Override
+  @GetMapping("/search")
+  public ResponseEntity<CursorPageDto<GetUserDto>> searchUsers(
+      @RequestParam(required = false) String email,
+      @RequestParam(required = false, defaultValue = "PREFIX") EmailMatch match,
+      @RequestParam(required = false) String role,
+      @RequestParam(required = false) Boolean enabled,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false, defaultValue = "10") Integer size
+  ) throws DataValidationException {
+    UserCursor cursor = after == null
+        ? UserCursor.first(UserSortKey.EMAIL)
+        : userCursorMapper.mapToUserCursor(after);
+    UserSearch search = new UserSearch(email, match, role, enabled);
+    UserWindow users = userService.searchUsers(search, cursor, size);
+    return ResponseEntity.ok(
+        userMapper.mapToGetUserDtoCursorPage(users)
+    );
+  }
+
+  @Override
+  @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<UserImportReportDto> importUsers(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+      InputStream body
+  ) throws DataValidationException {
+    UserImportResult result = userImportService.importUsers(body, UserImportFormat.from(contentType),
+        contentType.getCharset() == null ? StandardCharsets.UTF_8 : contentType.getCharset());
+    return ResponseEntity.ok(
+        userImportMapper.mapToUserImportReportDto(result)
+    );
+  }
+
   @Override
   @PatchMapping("/{userId}/addRole")
   public ResponseEntity<Void> addRole(@PathVariable Long userId,
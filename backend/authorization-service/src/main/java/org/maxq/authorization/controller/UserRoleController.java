@@ -0,0 +1,38 @@
+package org.maxq.authorization.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.maxq.authorization.controller.api.UserRoleApi;
+import org.maxq.authorization.domain.UserRolesChange;
+import org.maxq.authorization.domain.dto.UserRolesChangeDto;
+import org.maxq.authorization.domain.dto.UserRolesChangeResultDto;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.maxq.authorization.mapper.UserMapper;
+import org.maxq.authorization.service.UserRoleService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/users/roles")
+@RequiredArgsConstructor
+public class UserRoleController implements UserRoleApi {
+
+  private final UserRoleService userRoleService;
+  private final UserMapper userMapper;
+
+  @Override
+  @PatchMapping
+  public ResponseEntity<UserRolesChangeResultDto> changeRoles(@RequestBody @Valid UserRolesChangeDto changeDto)
+      throws ElementNotFoundException, DataValidationException {
+    UserRolesChange change = userRoleService.changeRoles(
+        changeDto.getUserIds(),
+        changeDto.getAddRoles() == null ? Set.of() : changeDto.getAddRoles(),
+        changeDto.getRemoveRoles() == null ? Set.of() : changeDto.getRemoveRoles());
+    return ResponseEntity.ok(
+        userMapper.mapToUserRolesChangeResultDto(change)
+    );
+  }
+}
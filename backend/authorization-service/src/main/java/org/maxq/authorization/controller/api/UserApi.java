@@ -7,16 +7,24 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.maxq.authorization.domain.EmailMatch;
 import org.maxq.authorization.domain.HttpErrorMessage;
+import org.maxq.authorization.domain.UserSortKey;
+import org.maxq.authorization.domain.dto.CursorPageDto;
 import org.maxq.authorization.domain.dto.GetUserDto;
 import org.maxq.authorization.domain.dto.PageDto;
+import org.maxq.authorization.domain.dto.UserImportReportDto;
+import org.maxq.authorization.domain.exception.DataValidationException;
 import org.maxq.authorization.domain.exception.ElementNotFoundException;
 import org.maxq.authorization.domain.exception.RoleAlreadyExistsException;
 import org.maxq.authorization.domain.exception.RoleDoesNotExistException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.io.InputStream;
+
 @Tag(name = "Users API")
 public interface UserApi {
 
@@ -47,6 +55,122 @@ public interface UserApi {
       @RequestParam(required = false, defaultValue = "10") Integer size
   );
 
+  @Operation(
+      summary = "Returns users page after a cursor",
+      description = "Returns users ordered by id or email, starting after the given cursor. "
+          + "Does not count all users unless requested. Only ADMIN users can access this resource."
+  )
+  @ApiResponse(responseCode = "200", description = "Users properly returned from application",
+      content = {@Content(
+          mediaType = "application/json",
+          schema = @Schema(implementation = CursorPageDto.class))})
+  @ApiResponse(responseCode = "400",
+      description = "Cursor or page size is invalid",
+      content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = HttpErrorMessage.class))
+      })
+  @ApiResponse(responseCode = "403",
+      description = "Unauthorized - only ADMIN can access this resource",
+      content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = HttpErrorMessage.class))
+      })
+  ResponseEntity<CursorPageDto<GetUserDto>> getUsersByCursor(
+      @RequestParam(required = false)
+      @Parameter(description = "Next cursor returned with the previous page, omit for the first page")
+      String after,
+      @RequestParam(required = false, defaultValue = "ID")
+      @Parameter(
+          description = "Order of users, ignored when cursor is given",
+          schema = @Schema(implementation = UserSortKey.class, defaultValue = "ID")
+      )
+      UserSortKey sort,
+      @RequestParam(required = false, defaultValue = "10")
+      @Parameter(
+          description = "Number of element to return on the page",
+          schema = @Schema(type = "integer", defaultValue = "10")
+      )
+      Integer size,
+      @RequestParam(required = false, defaultValue = "false")
+      @Parameter(
+          description = "Whether to count all users",
+          schema = @Schema(type = "boolean", defaultValue = "false")
+      )
+      boolean count
+  ) throws DataValidationException;
+
+  @Operation(
+      summary = "Searches users",
+      description = "Returns users matching the email, role and enabled filters ordered by email, "
+          + "starting after the given cursor. Only ADMIN users can access this resource."
+  )
+  @ApiResponse(responseCode = "200", description = "Users properly returned from application",
+      content = {@Content(
+          mediaType = "application/json",
+          schema = @Schema(implementation = CursorPageDto.class))})
+  @ApiResponse(responseCode = "400",
+      description = "Cursor or page size is invalid",
+      content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = HttpErrorMessage.class))
+      })
+  @ApiResponse(responseCode = "403",
+      description = "Unauthorized - only ADMIN can access this resource",
+      content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = HttpErrorMessage.class))
+      })
+  ResponseEntity<CursorPageDto<GetUserDto>> searchUsers(
+      @RequestParam(required = false)
+      @Parameter(description = "Case insensitive part of the email to look for")
+      String email,
+      @RequestParam(required = false, defaultValue = "PREFIX")
+      @Parameter(
+          description = "Whether the email should start with or contain the given value",
+          schema = @Schema(implementation = EmailMatch.class, defaultValue = "PREFIX")
+      )
+      EmailMatch match,
+      @RequestParam(required = false)
+      @Parameter(description = "Name of the role users should have")
+      String role,
+      @RequestParam(required = false)
+      @Parameter(description = "Whether users should be enabled")
+      Boolean enabled,
+      @RequestParam(required = false)
+      @Parameter(description = "Next cursor returned with the previous page, omit for the first page")
+      String after,
+      @RequestParam(required = false, defaultValue = "10")
+      @Parameter(
+          description = "Number of element to return on the page",
+          schema = @Schema(type = "integer", defaultValue = "10")
+      )
+      Integer size
+  ) throws DataValidationException;
+
+  @Operation(
+      summary = "Imports users",
+      description = "Creates enabled users from a CSV body with a header row (email, password, "
+          + "firstName, middleName, lastName, roles separated with |) or from NDJSON, one user "
+          + "object per line. Users without roles get DESIGNER. Rows that fail are reported and "
+          + "skipped. Only ADMIN users can access this resource."
+  )
+  @ApiResponse(responseCode = "200", description = "Import finished, report of the rows returned",
+      content = {@Content(
+          mediaType = "application/json",
+          schema = @Schema(implementation = UserImportReportDto.class))})
+  @ApiResponse(responseCode = "400",
+      description = "Content type is not supported or the CSV header is invalid",
+      content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = HttpErrorMessage.class))
+      })
+  @ApiResponse(responseCode = "403",
+      description = "Unauthorized - only ADMIN can access this resource",
+      content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = HttpErrorMessage.class))
+      })
+  ResponseEntity<UserImportReportDto> importUsers(
+      @Parameter(description = "text/csv or application/x-ndjson, optionally with a charset")
+      MediaType contentType,
+      InputStream body
+  ) throws DataValidationException;
+
   @Operation(
       summary = "Adds role to a user",
       description = "Adds role to a user with given id. Only ADMIN users can access this resource."
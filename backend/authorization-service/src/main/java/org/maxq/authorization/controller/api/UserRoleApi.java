@@ -0,0 +1,48 @@
+package org.maxq.authorization.controller.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.maxq.authorization.domain.HttpErrorMessage;
+import org.maxq.authorization.domain.dto.UserRolesChangeDto;
+import org.maxq.authorization.domain.dto.UserRolesChangeResultDto;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "Users API")
+public interface UserRoleApi {
+
+  @Operation(
+      summary = "Changes roles of many users",
+      description = "Adds and removes roles of all given users in one transaction. Users that "
+          + "already had the requested roles are left untouched. Returns the users whose roles "
+          + "changed and the ids that do not exist. Only ADMIN users can access this resource."
+  )
+  @ApiResponse(responseCode = "200", description = "Roles changed, changed users returned",
+      content = {@Content(
+          mediaType = "application/json",
+          schema = @Schema(implementation = UserRolesChangeResultDto.class))})
+  @ApiResponse(responseCode = "400",
+      description = "No users given or the same role is both added and removed",
+      content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = HttpErrorMessage.class))
+      })
+  @ApiResponse(responseCode = "403",
+      description = "Unauthorized - only ADMIN can access this resource",
+      content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = HttpErrorMessage.class))
+      })
+  @ApiResponse(responseCode = "404",
+      description = "Role with given ID was not found",
+      content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = HttpErrorMessage.class))
+      })
+  ResponseEntity<UserRolesChangeResultDto> changeRoles(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Ids of users and ids of roles to add and remove", required = true)
+      UserRolesChangeDto changeDto
+  ) throws ElementNotFoundException, DataValidationException;
+}
@@ -21,7 +21,7 @@ public class Role {
   @Id
   @GeneratedValue(generator = "role_seq")
   @SequenceGenerator(name = "role_seq", sequenceName = "ROLE_SEQ",
-      allocationSize = 1)
+      allocationSize = 50)
   private Long id;
 
   @NotNull
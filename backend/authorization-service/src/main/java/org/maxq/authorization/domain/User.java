@@ -12,7 +12,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "USERS")
+@Table(name = "USERS", indexes = {
+    @Index(name = "IDX_USERS_ENABLED_EMAIL", columnList = "ENABLED, EMAIL")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -21,7 +23,7 @@ public class User {
   @Id
   @GeneratedValue(generator = "user_seq")
   @SequenceGenerator(name = "user_seq", sequenceName = "USER_SEQ",
-      allocationSize = 1)
+      allocationSize = 50)
   private Long id;
 
   @NotNull
@@ -40,7 +42,8 @@ public class User {
   @ManyToMany(fetch = FetchType.EAGER)
   @JoinTable(name = "USER_ROLE",
       joinColumns = @JoinColumn(name = "USER_ID"),
-      inverseJoinColumns = @JoinColumn(name = "ROLE_ID"))
+      inverseJoinColumns = @JoinColumn(name = "ROLE_ID"),
+      indexes = @Index(name = "IDX_USER_ROLE_ROLE_USER", columnList = "ROLE_ID, USER_ID"))
   private Set<Role> roles;
 
   public User(String email, String password) {
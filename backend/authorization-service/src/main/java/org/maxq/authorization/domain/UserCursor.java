@@ -0,0 +1,20 @@
+package org.maxq.authorization.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position in the user list ordered by {@link UserSortKey}: users after {@code value} come next.
+ * A {@code null} value points before the first user.
+ */
+@AllArgsConstructor
+@Getter
+public class UserCursor {
+
+  private final UserSortKey key;
+  private final String value;
+
+  public static UserCursor first(UserSortKey key) {
+    return new UserCursor(key, null);
+  }
+}
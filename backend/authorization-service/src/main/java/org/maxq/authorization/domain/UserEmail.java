@@ -0,0 +1,12 @@
+package org.maxq.authorization.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class UserEmail {
+
+  private final Long id;
+  private final String email;
+}
@@ -0,0 +1,24 @@
+package org.maxq.authorization.domain;
+
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.springframework.http.MediaType;
+
+public enum UserImportFormat {
+  CSV(MediaType.parseMediaType("text/csv")),
+  NDJSON(MediaType.APPLICATION_NDJSON);
+
+  private final MediaType mediaType;
+
+  UserImportFormat(MediaType mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  public static UserImportFormat from(MediaType contentType) throws DataValidationException {
+    for (UserImportFormat format : values()) {
+      if (format.mediaType.isCompatibleWith(contentType)) {
+        return format;
+      }
+    }
+    throw new DataValidationException("Unsupported import format: " + contentType);
+  }
+}
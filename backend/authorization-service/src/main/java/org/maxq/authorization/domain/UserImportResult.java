@@ -0,0 +1,56 @@
+package org.maxq.authorization.domain;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Running totals of a user import. Only the first {@code maxErrors} errors are kept.
+ */
+@Getter
+public class UserImportResult {
+
+  private final int maxErrors;
+  private final List<UserImportError> errors = new ArrayList<>();
+  private long rows;
+  private long imported;
+  private long failed;
+  private Duration duration = Duration.ZERO;
+
+  public UserImportResult(int maxErrors) {
+    this.maxErrors = maxErrors;
+  }
+
+  public void addRows(int count) {
+    rows += count;
+  }
+
+  public void addImported(int count) {
+    imported += count;
+  }
+
+  public void addError(long line, String email, String message) {
+    failed++;
+    if (errors.size() < maxErrors) {
+      errors.add(new UserImportError(line, email, message));
+    }
+  }
+
+  public void finish(Duration duration) {
+    this.duration = duration;
+  }
+
+  public List<UserImportError> getErrors() {
+    return Collections.unmodifiableList(errors);
+  }
+
+  public boolean isErrorsTruncated() {
+    return failed > errors.size();
+  }
+
+  public record UserImportError(long line, String email, String message) {
+  }
+}
@@ -0,0 +1,25 @@
+package org.maxq.authorization.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.maxq.authorization.domain.dto.ImportUserDto;
+
+/**
+ * Line of an import body, holding either the parsed user or the reason it could not be parsed.
+ */
+@AllArgsConstructor
+@Getter
+public class UserImportRow {
+
+  private final long line;
+  private final ImportUserDto user;
+  private final String error;
+
+  public static UserImportRow parsed(long line, ImportUserDto user) {
+    return new UserImportRow(line, user, null);
+  }
+
+  public static UserImportRow failed(long line, String error) {
+    return new UserImportRow(line, null, error);
+  }
+}
@@ -0,0 +1,14 @@
+package org.maxq.authorization.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class UserRolesChange {
+
+  private final List<Long> changedUserIds;
+  private final List<Long> notFoundUserIds;
+}
@@ -0,0 +1,17 @@
+package org.maxq.authorization.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Filters of the user directory search. {@code null} filters are not applied.
+ */
+@AllArgsConstructor
+@Getter
+public class UserSearch {
+
+  private final String email;
+  private final EmailMatch match;
+  private final String role;
+  private final Boolean enabled;
+}
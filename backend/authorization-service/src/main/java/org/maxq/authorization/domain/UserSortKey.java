@@ -0,0 +1,6 @@
+package org.maxq.authorization.domain;
+
+public enum UserSortKey {
+  ID,
+  EMAIL
+}
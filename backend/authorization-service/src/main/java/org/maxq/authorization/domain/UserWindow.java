@@ -0,0 +1,17 @@
+package org.maxq.authorization.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class UserWindow {
+
+  private final List<User> content;
+  private final UserSortKey key;
+  private final int size;
+  private final boolean hasNext;
+  private final Long totalElements;
+}
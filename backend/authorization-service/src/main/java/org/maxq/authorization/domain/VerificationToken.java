@@ -20,7 +20,7 @@ public class VerificationToken {
   @Id
   @GeneratedValue(generator = "token_seq")
   @SequenceGenerator(name = "token_seq", sequenceName = "TOKEN_SEQ",
-      allocationSize = 1)
+      allocationSize = 50)
   private Long id;
 
   @Column(unique = true, nullable = false)
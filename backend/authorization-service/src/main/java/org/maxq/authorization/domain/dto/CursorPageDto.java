@@ -0,0 +1,21 @@
+package org.maxq.authorization.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+  private List<T> content;
+  private int size;
+  private int numberOfElements;
+  private boolean last;
+  private String nextCursor;
+  private Long totalElements;
+}
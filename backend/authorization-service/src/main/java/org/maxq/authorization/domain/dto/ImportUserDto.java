@@ -0,0 +1,19 @@
+package org.maxq.authorization.domain.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+public class ImportUserDto extends UserDto {
+
+  private List<String> roles;
+
+  public ImportUserDto(String firstName, String middleName, String lastName, String email,
+                       String password, List<String> roles) {
+    super(firstName, middleName, lastName, email, password);
+    this.roles = roles;
+  }
+}
@@ -0,0 +1,15 @@
+package org.maxq.authorization.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UserImportErrorDto {
+
+  private long line;
+  private String email;
+  private String message;
+}
@@ -0,0 +1,22 @@
+package org.maxq.authorization.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportReportDto {
+  private long rows;
+  private long imported;
+  private long failed;
+  private long durationMillis;
+  private double usersPerSecond;
+  private List<UserImportErrorDto> errors;
+  private boolean errorsTruncated;
+}
@@ -0,0 +1,23 @@
+package org.maxq.authorization.domain.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UserRolesChangeDto {
+
+  @NotEmpty(message = "At least one user id is required")
+  @Size(max = 1000, message = "At most 1000 users can be changed at once")
+  private Set<Long> userIds;
+
+  private Set<Long> addRoles;
+
+  private Set<Long> removeRoles;
+}
@@ -0,0 +1,16 @@
+package org.maxq.authorization.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UserRolesChangeResultDto {
+
+  private List<Long> changedUserIds;
+  private List<Long> notFoundUserIds;
+}
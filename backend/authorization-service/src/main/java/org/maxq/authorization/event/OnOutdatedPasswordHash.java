@@ -0,0 +1,19 @@
+package org.maxq.authorization.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class OnOutdatedPasswordHash extends ApplicationEvent {
+
+  private final String email;
+  private final transient CharSequence rawPassword;
+  private final String encodedPassword;
+
+  public OnOutdatedPasswordHash(String email, CharSequence rawPassword, String encodedPassword) {
+    super(email);
+    this.email = email;
+    this.rawPassword = rawPassword;
+    this.encodedPassword = encodedPassword;
+  }
+}
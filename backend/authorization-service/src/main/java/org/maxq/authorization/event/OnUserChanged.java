@@ -0,0 +1,15 @@
+package org.maxq.authorization.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class OnUserChanged extends ApplicationEvent {
+
+  private final String email;
+
+  public OnUserChanged(String email) {
+    super(email);
+    this.email = email;
+  }
+}
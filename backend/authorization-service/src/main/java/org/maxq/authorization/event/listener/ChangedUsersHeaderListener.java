@@ -0,0 +1,39 @@
+package org.maxq.authorization.event.listener;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.maxq.authorization.event.OnUserChanged;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Lists changed users in a response header, so the gateway can evict their cached responses.
+ * Past {@value #MAX_USERS} users the header is collapsed to {@value #ALL_USERS}.
+ */
+@Component
+public class ChangedUsersHeaderListener implements ApplicationListener<OnUserChanged> {
+
+  public static final String CHANGED_USERS_HEADER = "X-Changed-Users";
+  public static final String ALL_USERS = "*";
+  private static final int MAX_USERS = 50;
+
+  @Override
+  public void onApplicationEvent(OnUserChanged event) {
+    if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+      return;
+    }
+
+    HttpServletResponse response = attributes.getResponse();
+    if (response == null || response.isCommitted()
+        || response.getHeaders(CHANGED_USERS_HEADER).contains(ALL_USERS)) {
+      return;
+    }
+
+    if (response.getHeaders(CHANGED_USERS_HEADER).size() >= MAX_USERS) {
+      response.setHeader(CHANGED_USERS_HEADER, ALL_USERS);
+    } else {
+      response.addHeader(CHANGED_USERS_HEADER, event.getEmail());
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package org.maxq.authorization.event.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.maxq.authorization.event.OnOutdatedPasswordHash;
+import org.maxq.authorization.service.UserService;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-hashes a password verified against a hash with an outdated cost. The new hash is only stored
+ * when the user still has the hash that was verified, so a concurrent password change wins.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordRehashListener implements ApplicationListener<OnOutdatedPasswordHash> {
+
+  private final UserService userService;
+  private final PasswordEncoder passwordEncoder;
+
+  @Override
+  @Async
+  public void onApplicationEvent(OnOutdatedPasswordHash event) {
+    try {
+      String newPassword = passwordEncoder.encode(event.getRawPassword());
+      User user = userService.getUserByEmail(event.getEmail());
+      if (!event.getEncodedPassword().equals(user.getPassword())) {
+        log.debug("Password of {} changed since login, skipping rehash", event.getEmail());
+        return;
+      }
+
+      user.setPassword(newPassword);
+      userService.updateUser(user);
+      log.info("Password hash of {} upgraded", event.getEmail());
+    } catch (ElementNotFoundException | DataValidationException | AuthenticationException e) {
+      log.warn("Failed to rehash password of {}", event.getEmail(), e);
+    }
+  }
+
+  @Override
+  public boolean supportsAsyncExecution() {
+    return ApplicationListener.super.supportsAsyncExecution();
+  }
+}
@@ -0,0 +1,22 @@
+package org.maxq.authorization.event.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.maxq.authorization.event.OnUserChanged;
+import org.maxq.authorization.security.UserDetailsCache;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs synchronously, so a user is evicted before the write that changed it returns.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener implements ApplicationListener<OnUserChanged> {
+
+  private final UserDetailsCache userDetailsCache;
+
+  @Override
+  public void onApplicationEvent(OnUserChanged event) {
+    userDetailsCache.invalidate(event.getEmail());
+  }
+}
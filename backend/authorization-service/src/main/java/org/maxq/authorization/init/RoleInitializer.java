@@ -5,10 +5,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.maxq.authorization.domain.Role;
 import org.maxq.authorization.repository.RoleRepository;
+import org.maxq.authorization.service.RoleRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component("roleInitializer")
 @ConditionalOnProperty(name = "app.init", havingValue = "true", matchIfMissing = true)
@@ -21,19 +26,26 @@ public class RoleInitializer {
   private static final String ROLE_DESIGNER = "DESIGNER";
 
   private final RoleRepository roleRepository;
+  private final RoleRegistry roleRegistry;
 
   @PostConstruct
   public void init() {
     log.info("Initializing roles");
 
-    List.of(ROLE_ADMIN, ROLE_OPERATOR, ROLE_DESIGNER)
-        .forEach(role -> {
-          try {
-            roleRepository.save(new Role(role));
-            log.info("Role created: {}", role);
-          } catch (Exception e) {
-            log.info("Role already exists: {}", role);
-          }
-        });
+    Set<String> existingRoles = roleRepository.findAll().stream()
+        .map(Role::getName)
+        .collect(Collectors.toSet());
+    List<Role> missingRoles = Stream.of(ROLE_ADMIN, ROLE_OPERATOR, ROLE_DESIGNER)
+        .filter(role -> !existingRoles.contains(role))
+        .map(Role::new)
+        .toList();
+
+    try {
+      roleRepository.saveAll(missingRoles);
+      missingRoles.forEach(role -> log.info("Role created: {}", role.getName()));
+    } catch (DataIntegrityViolationException e) {
+      log.info("Roles were created concurrently: {}", e.getMessage());
+    }
+    roleRegistry.refresh();
   }
 }
@@ -1,15 +1,21 @@
 package org.maxq.authorization.mapper;
 
+import lombok.RequiredArgsConstructor;
 import org.maxq.authorization.domain.Role;
 import org.maxq.authorization.domain.dto.RoleDto;
+import org.maxq.authorization.service.RoleRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Service
+@RequiredArgsConstructor
 public class RoleMapper {
 
+  private final RoleRegistry roleRegistry;
+
   public RoleDto mapToRoleDto(Role role) {
     return new RoleDto(role.getId(), role.getName());
   }
@@ -17,4 +23,12 @@ public class RoleMapper {
   public List<RoleDto> mapToRoleDtoList(Collection<Role> roles) {
     return roles.stream().map(this::mapToRoleDto).toList();
   }
+
+  public List<RoleDto> mapNamesToRoleDtoList(Collection<String> roleNames) {
+    return roleNames.stream()
+        .map(roleRegistry::findByName)
+        .flatMap(Optional::stream)
+        .map(this::mapToRoleDto)
+        .toList();
+  }
 }
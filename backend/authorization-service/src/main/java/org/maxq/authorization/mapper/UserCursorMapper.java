@@ -0,0 +1,42 @@
+package org.maxq.authorization.mapper;
+
+import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserCursor;
+import org.maxq.authorization.domain.UserSortKey;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Encodes user list cursors as opaque URL-safe strings holding the sort key and the last value.
+ */
+@Service
+public class UserCursorMapper {
+
+  private static final char SEPARATOR = ':';
+
+  public String mapToCursor(UserSortKey key, User user) {
+    String value = key == UserSortKey.ID ? user.getId().toString() : user.getEmail();
+    String cursor = key.name().toLowerCase(Locale.ROOT) + SEPARATOR + value;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public UserCursor mapToUserCursor(String cursor) throws DataValidationException {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = decoded.indexOf(SEPARATOR);
+      UserSortKey key = UserSortKey.valueOf(decoded.substring(0, separator).toUpperCase(Locale.ROOT));
+      String value = decoded.substring(separator + 1);
+      if (key == UserSortKey.ID) {
+        Long.parseLong(value);
+      }
+      return new UserCursor(key, value);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new DataValidationException("Invalid cursor: " + cursor, e);
+    }
+  }
+}
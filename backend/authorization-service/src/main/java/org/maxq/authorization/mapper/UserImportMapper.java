@@ -0,0 +1,25 @@
+package org.maxq.authorization.mapper;
+
+import org.maxq.authorization.domain.UserImportResult;
+import org.maxq.authorization.domain.dto.UserImportErrorDto;
+import org.maxq.authorization.domain.dto.UserImportReportDto;
+import org.springframework.stereotype.Service;
+
+@Service
+public class UserImportMapper {
+
+  public UserImportReportDto mapToUserImportReportDto(UserImportResult result) {
+    long millis = result.getDuration().toMillis();
+    return UserImportReportDto.builder()
+        .rows(result.getRows())
+        .imported(result.getImported())
+        .failed(result.getFailed())
+        .durationMillis(millis)
+        .usersPerSecond(millis > 0 ? result.getImported() * 1000.0 / millis : 0)
+        .errors(result.getErrors().stream()
+            .map(error -> new UserImportErrorDto(error.line(), error.email(), error.message()))
+            .toList())
+        .errorsTruncated(result.isErrorsTruncated())
+        .build();
+  }
+}
@@ -2,10 +2,15 @@ package org.maxq.authorization.mapper;
 
 import lombok.RequiredArgsConstructor;
 import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserRolesChange;
+import org.maxq.authorization.domain.UserWindow;
+import org.maxq.authorization.domain.dto.CursorPageDto;
 import org.maxq.authorization.domain.dto.GetUserDto;
 import org.maxq.authorization.domain.dto.MeDto;
 import org.maxq.authorization.domain.dto.PageDto;
 import org.maxq.authorization.domain.dto.UserDto;
+import org.maxq.authorization.domain.dto.UserRolesChangeResultDto;
+import org.maxq.authorization.security.CachedUser;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +26,7 @@ public class UserMapper {
   private final PasswordEncoder passwordEncoder;
   private final PageableMapper pageableMapper;
   private final RoleMapper roleMapper;
+  private final UserCursorMapper userCursorMapper;
 
   public User mapToUser(UserDto userDto) {
     return new User(
@@ -31,21 +37,45 @@ public class UserMapper {
 
   public PageDto<GetUserDto> mapToGetUserDtoPage(Page<User> users) {
     Pageable page = users.getPageable();
-    List<GetUserDto> userDtoList = users.stream().map(user ->
-        new GetUserDto(
-            user.getId(),
-            user.getEmail(),
-            user.isEnabled(),
-            roleMapper.mapToRoleDtoList(user.getRoles())
-        )
-    ).toList();
+    List<GetUserDto> userDtoList = users.stream().map(this::mapToGetUserDto).toList();
     Page<GetUserDto> mappedPage = new PageImpl<>(userDtoList, page, users.getTotalElements());
     return pageableMapper.mapToPageDto(mappedPage);
   }
 
-  public MeDto mapToMeDto(User user) {
+  public CursorPageDto<GetUserDto> mapToGetUserDtoCursorPage(UserWindow users) {
+    List<User> content = users.getContent();
+    String nextCursor = users.isHasNext() && !content.isEmpty()
+        ? userCursorMapper.mapToCursor(users.getKey(), content.getLast())
+        : null;
+    return CursorPageDto.<GetUserDto>builder()
+        .content(content.stream().map(this::mapToGetUserDto).toList())
+        .size(users.getSize())
+        .numberOfElements(content.size())
+        .last(nextCursor == null)
+        .nextCursor(nextCursor)
+        .totalElements(users.getTotalElements())
+        .build();
+  }
+
+  public UserRolesChangeResultDto mapToUserRolesChangeResultDto(UserRolesChange change) {
+    return new UserRolesChangeResultDto(
+        change.getChangedUserIds(),
+        change.getNotFoundUserIds()
+    );
+  }
+
+  public MeDto mapToMeDto(CachedUser user) {
     return new MeDto(
         user.getEmail(),
+        roleMapper.mapNamesToRoleDtoList(user.getRoles())
+    );
+  }
+
+  private GetUserDto mapToGetUserDto(User user) {
+    return new GetUserDto(
+        user.getId(),
+        user.getEmail(),
+        user.isEnabled(),
         roleMapper.mapToRoleDtoList(user.getRoles())
     );
   }
@@ -2,12 +2,20 @@ package org.maxq.authorization.repository;
 
 import jakarta.annotation.Nonnull;
 import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserEmail;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,4 +27,60 @@ public interface UserRepository
   @Override
   @Nonnull
   Page<User> findAll(@Nonnull Pageable pageable);
+
+  @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+  List<Long> findIdsAfterId(@Param("afterId") long afterId, Limit limit);
+
+  @Query("SELECT u.id FROM User u WHERE u.email > :afterEmail ORDER BY u.email")
+  List<Long> findIdsAfterEmail(@Param("afterEmail") String afterEmail, Limit limit);
+
+  @Query("""
+      SELECT u.id FROM User u
+      WHERE lower(u.email) LIKE :emailPattern ESCAPE '\\'
+        AND u.email > :afterEmail
+        AND (:enabled IS NULL OR u.enabled = :enabled)
+        AND (:role IS NULL OR EXISTS (SELECT r.id FROM u.roles r WHERE r.name = :role))
+      ORDER BY u.email""")
+  List<Long> searchIds(@Param("emailPattern") String emailPattern,
+                       @Param("afterEmail") String afterEmail,
+                       @Param("enabled") Boolean enabled,
+                       @Param("role") String role,
+                       Limit limit);
+
+  @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+  List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+  @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.id IN :ids")
+  List<User> findAllWithRolesByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("SELECT new org.maxq.authorization.domain.UserEmail(u.id, u.email) FROM User u WHERE u.id IN :ids")
+  List<UserEmail> findUserEmailsByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("""
+      SELECT DISTINCT u.id FROM User u, Role r
+      WHERE u.id IN :userIds AND r.id IN :roleIds AND r NOT MEMBER OF u.roles""")
+  List<Long> findIdsMissingAnyRole(@Param("userIds") Collection<Long> userIds,
+                                   @Param("roleIds") Collection<Long> roleIds);
+
+  @Query("SELECT DISTINCT u.id FROM User u JOIN u.roles r WHERE u.id IN :userIds AND r.id IN :roleIds")
+  List<Long> findIdsHavingAnyRole(@Param("userIds") Collection<Long> userIds,
+                                  @Param("roleIds") Collection<Long> roleIds);
+
+  @Transactional
+  @Modifying
+  @Query(value = """
+      INSERT INTO USER_ROLE (USER_ID, ROLE_ID)
+      SELECT u.ID, r.ID FROM USERS u CROSS JOIN ROLES r
+      WHERE u.ID IN (:userIds) AND r.ID IN (:roleIds)
+      ON CONFLICT DO NOTHING""",
+      nativeQuery = true)
+  int insertRoles(@Param("userIds") Collection<Long> userIds,
+                  @Param("roleIds") Collection<Long> roleIds);
+
+  @Transactional
+  @Modifying
+  @Query(value = "DELETE FROM USER_ROLE WHERE USER_ID IN (:userIds) AND ROLE_ID IN (:roleIds)",
+      nativeQuery = true)
+  int deleteRoles(@Param("userIds") Collection<Long> userIds,
+                  @Param("roleIds") Collection<Long> roleIds);
 }
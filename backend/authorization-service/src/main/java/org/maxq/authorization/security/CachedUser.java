@@ -0,0 +1,30 @@
+package org.maxq.authorization.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.maxq.authorization.domain.Role;
+import org.maxq.authorization.domain.User;
+
+import java.util.List;
+
+/**
+ * Immutable copy of the user data needed for authentication, safe to share between requests.
+ */
+@AllArgsConstructor
+@Getter
+public class CachedUser {
+
+  private final String email;
+  private final String password;
+  private final boolean enabled;
+  private final List<String> roles;
+
+  public static CachedUser from(User user) {
+    return new CachedUser(
+        user.getEmail(),
+        user.getPassword(),
+        user.isEnabled(),
+        user.getRoles().stream().map(Role::getName).toList()
+    );
+  }
+}
@@ -0,0 +1,92 @@
+package org.maxq.authorization.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.maxq.authorization.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded cache of users looked up by email during authentication. Unknown emails are cached too,
+ * for a shorter time, so repeated logins with random emails do not reach the database. Entries are
+ * invalidated on every write made through {@link UserService}; the time to live bounds how stale
+ * other instances can be.
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+  private final UserService userService;
+  private final boolean enabled;
+  private final Cache<String, Optional<CachedUser>> cache;
+
+  public UserDetailsCache(UserService userService,
+                          MeterRegistry meterRegistry,
+                          @Value("${user-cache.enabled:true}") boolean enabled,
+                          @Value("${user-cache.max-size:10000}") long maxSize,
+                          @Value("${user-cache.ttl:5m}") Duration ttl,
+                          @Value("${user-cache.missing-ttl:30s}") Duration missingTtl) {
+    this.userService = userService;
+    this.enabled = enabled;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new CachedUserExpiry(ttl, missingTtl))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "authorization.user.details");
+  }
+
+  public Optional<CachedUser> get(String email) {
+    if (!enabled) {
+      return load(email);
+    }
+    return cache.get(email, this::load);
+  }
+
+  public void invalidate(String email) {
+    cache.invalidate(email);
+  }
+
+  private Optional<CachedUser> load(String email) {
+    try {
+      return Optional.of(CachedUser.from(userService.getUserByEmail(email)));
+    } catch (ElementNotFoundException e) {
+      log.debug(e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static final class CachedUserExpiry implements Expiry<String, Optional<CachedUser>> {
+
+    private final Duration ttl;
+    private final Duration missingTtl;
+
+    @Override
+    public long expireAfterCreate(String key, Optional<CachedUser> value, long currentTime) {
+      return value.isPresent() ? ttl.toNanos() : missingTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Optional<CachedUser> value, long currentTime,
+                                  long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Optional<CachedUser> value, long currentTime,
+                                long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -2,10 +2,6 @@ package org.maxq.authorization.security;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.maxq.authorization.domain.Role;
-import org.maxq.authorization.domain.User;
-import org.maxq.authorization.domain.exception.ElementNotFoundException;
-import org.maxq.authorization.service.UserService;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -16,22 +12,20 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserDetailsDbService implements UserDetailsService {
 
-  private final UserService userService;
+  private final UserDetailsCache userDetailsCache;
 
   @Override
   public UserDetails loadUserByUsername(String username) {
-    User foundUser;
-    try {
-      foundUser = userService.getUserByEmail(username);
-    } catch (ElementNotFoundException e) {
-      log.error(e.getMessage(), e);
-      throw new UsernameNotFoundException(e.getMessage(), e);
-    }
+    CachedUser foundUser = userDetailsCache.get(username).orElseThrow(() -> {
+      String message = "User with email '" + username + "' does not exist";
+      log.error(message);
+      return new UsernameNotFoundException(message);
+    });
     return org.springframework.security.core.userdetails.User
         .withUsername(foundUser.getEmail())
         .password(foundUser.getPassword())
         .disabled(!foundUser.isEnabled())
-        .roles(foundUser.getRoles().stream().map(Role::getName).toArray(String[]::new))
+        .roles(foundUser.getRoles().toArray(String[]::new))
         .build();
   }
 }
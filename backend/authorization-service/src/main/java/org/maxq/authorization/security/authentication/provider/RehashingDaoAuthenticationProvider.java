@@ -0,0 +1,37 @@
+package org.maxq.authorization.security.authentication.provider;
+
+import org.maxq.authorization.event.OnOutdatedPasswordHash;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * {@link DaoAuthenticationProvider} which, after a successful login against a hash the encoder
+ * considers outdated, publishes {@link OnOutdatedPasswordHash} instead of re-hashing on the request
+ * thread.
+ */
+public class RehashingDaoAuthenticationProvider extends DaoAuthenticationProvider {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public RehashingDaoAuthenticationProvider(UserDetailsService userDetailsService,
+                                            ApplicationEventPublisher eventPublisher) {
+    super(userDetailsService);
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  protected Authentication createSuccessAuthentication(Object principal,
+                                                       Authentication authentication,
+                                                       UserDetails user) {
+    Object credentials = authentication.getCredentials();
+    if (credentials != null && user.getPassword() != null
+        && getPasswordEncoder().upgradeEncoding(user.getPassword())) {
+      eventPublisher.publishEvent(new OnOutdatedPasswordHash(
+          user.getUsername(), credentials.toString(), user.getPassword()));
+    }
+    return super.createSuccessAuthentication(principal, authentication, user);
+  }
+}
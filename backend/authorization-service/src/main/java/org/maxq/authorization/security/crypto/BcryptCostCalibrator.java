@@ -0,0 +1,55 @@
+package org.maxq.authorization.security.crypto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest bcrypt cost whose hashing time on this host stays within the target. The time
+ * is measured once at the minimum cost and extrapolated, each cost step doubling the work.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BcryptCostCalibrator {
+
+  private static final String SAMPLE_PASSWORD = "calibration-password";
+  private static final int SAMPLES = 3;
+
+  private final int minStrength;
+  private final int maxStrength;
+  private final Duration targetLatency;
+
+  public int calibrate() {
+    Duration measured = measure(minStrength);
+    int strength = chooseStrength(measured);
+    log.info("Bcrypt cost calibrated to {} (cost {} took {} ms, target {} ms)",
+        strength, minStrength, measured.toMillis(), targetLatency.toMillis());
+    return strength;
+  }
+
+  int chooseStrength(Duration measuredAtMinStrength) {
+    long measuredNanos = Math.max(1, measuredAtMinStrength.toNanos());
+    long targetNanos = targetLatency.toNanos();
+
+    int strength = minStrength;
+    while (strength < maxStrength && measuredNanos << (strength + 1 - minStrength) <= targetNanos) {
+      strength++;
+    }
+    return strength;
+  }
+
+  private static Duration measure(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    encoder.encode(SAMPLE_PASSWORD);
+
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      encoder.encode(SAMPLE_PASSWORD);
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return Duration.ofNanos(best);
+  }
+}
@@ -0,0 +1,161 @@
+package org.maxq.authorization.security.crypto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the CPU-bound hashing of the delegate encoder on a fixed pool with a bounded queue, so a
+ * burst of logins or registrations cannot occupy every request thread. Work that does not fit in
+ * the queue, or waits longer than the timeout, fails fast with
+ * {@link PasswordHashingRejectedException}.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  static final String METRIC_PREFIX = "password.hashing";
+
+  private static final String OPERATION_ENCODE = "encode";
+  private static final String OPERATION_MATCHES = "matches";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Duration timeout;
+  private final OperationMeters encodeMeters;
+  private final OperationMeters matchesMeters;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                Duration timeout, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.timeout = timeout;
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder(METRIC_PREFIX + ".queue.size", executor, pool -> pool.getQueue().size())
+        .description("Password hashing operations waiting for a thread")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Password hashing operations in progress")
+        .register(meterRegistry);
+    this.encodeMeters = new OperationMeters(OPERATION_ENCODE, meterRegistry);
+    this.matchesMeters = new OperationMeters(OPERATION_MATCHES, meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(encodeMeters, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(matchesMeters, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private <T> T execute(OperationMeters meters, Callable<T> task) {
+    Future<T> future = submit(meters, task);
+    try {
+      return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw reject(meters, meters.timedOut, "timeout", e);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw reject(meters, meters.interrupted, "interrupted", e);
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  private <T> Future<T> submit(OperationMeters meters, Callable<T> task) {
+    long queuedAt = System.nanoTime();
+    try {
+      return executor.submit(() -> {
+        meters.wait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        return meters.duration.recordCallable(task);
+      });
+    } catch (RejectedExecutionException e) {
+      throw reject(meters, meters.queueFull, "queue_full", e);
+    }
+  }
+
+  private static RuntimeException unwrap(ExecutionException e) {
+    return e.getCause() instanceof RuntimeException runtimeException
+        ? runtimeException
+        : new IllegalStateException("Password hashing failed", e);
+  }
+
+  private static PasswordHashingRejectedException reject(OperationMeters meters, Counter rejected,
+                                                          String reason, Exception cause) {
+    rejected.increment();
+    log.warn("Password {} rejected: {}", meters.operation, reason);
+    return new PasswordHashingRejectedException(
+        "Too many concurrent password operations, try again later", cause);
+  }
+
+  private static final class OperationMeters {
+
+    private final String operation;
+    private final Timer duration;
+    private final Timer wait;
+    private final Counter queueFull;
+    private final Counter timedOut;
+    private final Counter interrupted;
+
+    private OperationMeters(String operation, MeterRegistry meterRegistry) {
+      this.operation = operation;
+      this.duration = Timer.builder(METRIC_PREFIX + ".duration")
+          .description("Time spent hashing a password, excluding queueing")
+          .tag("operation", operation)
+          .register(meterRegistry);
+      this.wait = Timer.builder(METRIC_PREFIX + ".wait")
+          .description("Time a password hashing operation waited in the queue")
+          .tag("operation", operation)
+          .register(meterRegistry);
+      this.queueFull = rejected(operation, "queue_full", meterRegistry);
+      this.timedOut = rejected(operation, "timeout", meterRegistry);
+      this.interrupted = rejected(operation, "interrupted", meterRegistry);
+    }
+
+    private static Counter rejected(String operation, String reason, MeterRegistry meterRegistry) {
+      return Counter.builder(METRIC_PREFIX + ".rejected")
+          .description("Password hashing operations rejected because the pool was saturated")
+          .tag("operation", operation)
+          .tag("reason", reason)
+          .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package org.maxq.authorization.security.crypto;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Thrown when the password hashing pool cannot take more work. Extends
+ * {@link AuthenticationException} so that a rejected {@code /login} reaches the authentication
+ * entry point instead of failing the filter chain.
+ */
+public class PasswordHashingRejectedException extends AuthenticationException {
+
+  public PasswordHashingRejectedException(String message) {
+    super(message);
+  }
+
+  public PasswordHashingRejectedException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,50 @@
+package org.maxq.authorization.security.validator;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.maxq.authorization.utils.RequestUtils;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class UserHeadersJwtValidator implements OAuth2TokenValidator<Jwt> {
+
+  private static final String USER_HEADER = "X-User";
+  private static final String USER_ROLES_HEADER = "X-User-Roles";
+  private static final String USER_CLAIM = "x_user";
+  private static final String USER_ROLES_CLAIM = "x_user_roles";
+
+  @Override
+  public OAuth2TokenValidatorResult validate(Jwt token) {
+    HttpServletRequest request = RequestUtils.getCurrentHttpRequest();
+    if (request == null) {
+      return OAuth2TokenValidatorResult.failure(
+          new OAuth2Error("invalid_request", "User headers cannot be verified outside a request", null));
+    }
+
+    List<OAuth2Error> errors = new ArrayList<>();
+
+    if (!matches(request, USER_HEADER, token.getClaimAsString(USER_CLAIM))) {
+      errors.add(new OAuth2Error("invalid_user", "X-User header does not match the token", null));
+    }
+
+    if (!matches(request, USER_ROLES_HEADER, token.getClaimAsString(USER_ROLES_CLAIM))) {
+      errors.add(new OAuth2Error("invalid_user_roles", "X-User-Roles header does not match the token", null));
+    }
+
+    return errors.isEmpty()
+        ? OAuth2TokenValidatorResult.success()
+        : OAuth2TokenValidatorResult.failure(errors.toArray(new OAuth2Error[0]));
+  }
+
+  private boolean matches(HttpServletRequest request, String header, String claim) {
+    List<String> values = Collections.list(request.getHeaders(header));
+    return values.size() <= 1
+        && Objects.equals(claim, values.isEmpty() ? null : values.getFirst());
+  }
+}
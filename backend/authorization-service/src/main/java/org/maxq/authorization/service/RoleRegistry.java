@@ -0,0 +1,104 @@
+package org.maxq.authorization.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.authorization.domain.Role;
+import org.maxq.authorization.repository.RoleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory index of all roles, loaded at startup and replaced as a whole on refresh.
+ * Lookups of unknown roles reload the index at most once per {@link #MISS_REFRESH_INTERVAL}, so
+ * roles created by another instance become visible without a restart.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleRegistry implements ApplicationListener<ApplicationReadyEvent> {
+
+  static final Duration MISS_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+  private final RoleRepository roleRepository;
+  private final AtomicReference<Roles> roles = new AtomicReference<>();
+  private final Object refreshLock = new Object();
+  private final AtomicLong lastMissRefresh =
+      new AtomicLong(System.nanoTime() - MISS_REFRESH_INTERVAL.toNanos());
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    refresh();
+  }
+
+  public Optional<Role> findById(Long roleId) {
+    return find(current -> current.byId.get(roleId));
+  }
+
+  public Optional<Role> findByName(String roleName) {
+    return find(current -> current.byName.get(roleName));
+  }
+
+  public List<Role> findAll() {
+    return current().all;
+  }
+
+  public void refresh() {
+    synchronized (refreshLock) {
+      List<Role> loaded = roleRepository.findAll().stream()
+          .map(role -> new Role(role.getId(), role.getName(), List.of()))
+          .toList();
+      roles.set(new Roles(loaded));
+      log.debug("Loaded {} roles", loaded.size());
+    }
+  }
+
+  private Optional<Role> find(Function<Roles, Role> lookup) {
+    Role role = lookup.apply(current());
+    if (role == null && tryMissRefresh()) {
+      role = lookup.apply(roles.get());
+    }
+    return Optional.ofNullable(role);
+  }
+
+  private boolean tryMissRefresh() {
+    long last = lastMissRefresh.get();
+    long now = System.nanoTime();
+    if (now - last < MISS_REFRESH_INTERVAL.toNanos() || !lastMissRefresh.compareAndSet(last, now)) {
+      return false;
+    }
+    refresh();
+    return true;
+  }
+
+  private Roles current() {
+    Roles current = roles.get();
+    if (current == null) {
+      refresh();
+      current = roles.get();
+    }
+    return current;
+  }
+
+  private static final class Roles {
+
+    private final List<Role> all;
+    private final Map<Long, Role> byId;
+    private final Map<String, Role> byName;
+
+    Roles(List<Role> all) {
+      this.all = all;
+      this.byId = all.stream().collect(Collectors.toUnmodifiableMap(Role::getId, Function.identity()));
+      this.byName = all.stream().collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity()));
+    }
+  }
+}
@@ -16,6 +16,7 @@ import java.util.Optional;
 public class RoleService {
 
   private final RoleRepository roleRepository;
+  private final RoleRegistry roleRegistry;
 
   public void createRole(String roleName) throws DuplicateRoleException {
     try {
@@ -24,21 +25,22 @@ public class RoleService {
       throw new DuplicateRoleException(
           "Provided role already exists: " + roleName, e);
     }
+    roleRegistry.refresh();
   }
 
   public Role getRoleById(Long roleId) throws ElementNotFoundException {
-    Optional<Role> foundRole = roleRepository.findById(roleId);
+    Optional<Role> foundRole = roleRegistry.findById(roleId);
     return foundRole.orElseThrow(() ->
         new ElementNotFoundException("Role with id '" + roleId + "' does not exist"));
   }
 
   public Role getRoleByName(String roleName) throws ElementNotFoundException {
-    Optional<Role> foundRole = roleRepository.findByName(roleName);
+    Optional<Role> foundRole = roleRegistry.findByName(roleName);
     return foundRole.orElseThrow(() ->
         new ElementNotFoundException("Role with name '" + roleName + "' does not exist"));
   }
 
   public List<Role> getAllRoles() {
-    return roleRepository.findAll();
+    return roleRegistry.findAll();
   }
 }
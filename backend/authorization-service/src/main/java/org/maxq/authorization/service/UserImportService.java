@@ -0,0 +1,136 @@
+package org.maxq.authorization.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.authorization.domain.UserImportFormat;
+import org.maxq.authorization.domain.UserImportResult;
+import org.maxq.authorization.domain.UserImportRow;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.maxq.authorization.domain.exception.DuplicateEmailException;
+import org.maxq.authorization.event.message.RabbitmqMessage;
+import org.maxq.authorization.mapper.ProfileMapper;
+import org.maxq.authorization.service.imports.ImportCandidate;
+import org.maxq.authorization.service.imports.UserImportPasswordHasher;
+import org.maxq.authorization.service.imports.UserImportReader;
+import org.maxq.authorization.service.imports.UserImportReaderFactory;
+import org.maxq.authorization.service.imports.UserImportValidator;
+import org.maxq.authorization.service.message.MessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Imports users from a CSV or NDJSON body in chunks. Passwords of a chunk are hashed in parallel,
+ * users and their roles are inserted with one batched {@code saveAll} and the profile create
+ * messages are published together. Imported users are enabled and receive no verification email.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+  private final UserService userService;
+  private final ProfileMapper profileMapper;
+  private final UserImportPasswordHasher passwordHasher;
+  private final UserImportValidator importValidator;
+  private final UserImportReaderFactory readerFactory;
+  private final MessageService<RabbitmqMessage<?>> messageService;
+
+  @Value("${profile.topic.create}")
+  private String profileCreateTopic;
+
+  @Value("${user-import.batch-size:100}")
+  private int batchSize;
+
+  @Value("${user-import.max-errors:1000}")
+  private int maxErrors;
+
+  public UserImportResult importUsers(InputStream body, UserImportFormat format, Charset charset)
+      throws DataValidationException {
+    long start = System.nanoTime();
+    UserImportResult result = new UserImportResult(maxErrors);
+
+    try (UserImportReader reader = readerFactory.open(body, format, charset)) {
+      importRows(reader, result);
+    } catch (IOException e) {
+      throw new DataValidationException("Could not read import body", e);
+    }
+
+    result.finish(Duration.ofNanos(System.nanoTime() - start));
+    log.info("Imported {} of {} users in {} ms", result.getImported(), result.getRows(),
+        result.getDuration().toMillis());
+    return result;
+  }
+
+  private void importRows(UserImportReader reader, UserImportResult result) {
+    List<UserImportRow> chunk = new ArrayList<>(batchSize);
+    try {
+      UserImportRow row = reader.next();
+      while (row != null) {
+        chunk.add(row);
+        if (chunk.size() >= batchSize) {
+          importChunk(chunk, result);
+          chunk.clear();
+        }
+        row = reader.next();
+      }
+    } catch (IOException e) {
+      // Rows read before the stream broke are still imported and reported
+      log.warn("Import body broke after line {}: {}", reader.getLine(), e.getMessage());
+      result.addError(reader.getLine() + 1, null, "Could not read import body: " + e.getMessage());
+    }
+    if (!chunk.isEmpty()) {
+      importChunk(chunk, result);
+    }
+  }
+
+  private void importChunk(List<UserImportRow> rows, UserImportResult result) {
+    result.addRows(rows.size());
+
+    List<ImportCandidate> candidates = importValidator.validate(rows, result);
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    List<ImportCandidate> hashed = passwordHasher.hash(candidates, result);
+    if (hashed.isEmpty()) {
+      return;
+    }
+
+    List<ImportCandidate> saved = save(hashed, result);
+    result.addImported(saved.size());
+    if (!saved.isEmpty()) {
+      messageService.sendMessages(saved.stream()
+          .<RabbitmqMessage<?>>map(user -> new RabbitmqMessage<>(
+              profileMapper.mapToProfile(user.user()), profileCreateTopic))
+          .toList());
+    }
+  }
+
+  private List<ImportCandidate> save(List<ImportCandidate> users, UserImportResult result) {
+    try {
+      userService.createUsers(users.stream().map(ImportCandidate::toUser).toList());
+      return users;
+    } catch (DuplicateEmailException | DataValidationException e) {
+      log.warn("Import batch of {} users failed, retrying one by one: {}", users.size(), e.getMessage());
+    }
+
+    // Entities of the rolled back batch keep their ids, so each retry starts from a new one
+    List<ImportCandidate> saved = new ArrayList<>(users.size());
+    for (ImportCandidate user : users) {
+      try {
+        userService.createUser(user.toUser());
+        saved.add(user);
+      } catch (DuplicateEmailException | DataValidationException e) {
+        result.addError(user.line(), user.user().getEmail(), e.getMessage());
+      }
+    }
+    return saved;
+  }
+}
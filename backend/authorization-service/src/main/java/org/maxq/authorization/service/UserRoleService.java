@@ -0,0 +1,80 @@
+package org.maxq.authorization.service;
+
+import lombok.RequiredArgsConstructor;
+import org.maxq.authorization.domain.UserEmail;
+import org.maxq.authorization.domain.UserRolesChange;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.maxq.authorization.event.OnUserChanged;
+import org.maxq.authorization.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adds and removes roles of many users with a fixed number of set-based statements run in one
+ * transaction. Change events are published once the transaction has committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserRoleService {
+
+  private final UserRepository userRepository;
+  private final RoleService roleService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+
+  public UserRolesChange changeRoles(Set<Long> userIds, Set<Long> addRoleIds, Set<Long> removeRoleIds)
+      throws ElementNotFoundException, DataValidationException {
+    if (!Collections.disjoint(addRoleIds, removeRoleIds)) {
+      throw new DataValidationException("The same role cannot be added and removed at once");
+    }
+    for (Long roleId : addRoleIds) {
+      roleService.getRoleById(roleId);
+    }
+    for (Long roleId : removeRoleIds) {
+      roleService.getRoleById(roleId);
+    }
+
+    RoleChanges changes = transactionTemplate.execute(status ->
+        applyRoleChanges(userIds, addRoleIds, removeRoleIds));
+    Objects.requireNonNull(changes).changed()
+        .forEach(user -> eventPublisher.publishEvent(new OnUserChanged(user.getEmail())));
+    return new UserRolesChange(
+        changes.changed().stream().map(UserEmail::getId).sorted().toList(),
+        changes.notFound());
+  }
+
+  private RoleChanges applyRoleChanges(Set<Long> userIds, Set<Long> addRoleIds,
+                                       Set<Long> removeRoleIds) {
+    Map<Long, UserEmail> users = userRepository.findUserEmailsByIdIn(userIds).stream()
+        .collect(Collectors.toMap(UserEmail::getId, Function.identity()));
+    List<Long> notFound = userIds.stream().filter(id -> !users.containsKey(id)).sorted().toList();
+    if (users.isEmpty()) {
+      return new RoleChanges(List.of(), notFound);
+    }
+
+    Set<Long> changed = new HashSet<>();
+    if (!addRoleIds.isEmpty()) {
+      changed.addAll(userRepository.findIdsMissingAnyRole(users.keySet(), addRoleIds));
+      userRepository.insertRoles(users.keySet(), addRoleIds);
+    }
+    if (!removeRoleIds.isEmpty()) {
+      changed.addAll(userRepository.findIdsHavingAnyRole(users.keySet(), removeRoleIds));
+      userRepository.deleteRoles(users.keySet(), removeRoleIds);
+    }
+    return new RoleChanges(changed.stream().map(users::get).toList(), notFound);
+  }
+
+  private record RoleChanges(List<UserEmail> changed, List<Long> notFound) {
+  }
+}
@@ -3,15 +3,32 @@ package org.maxq.authorization.service;
 import lombok.RequiredArgsConstructor;
 import org.maxq.authorization.domain.Role;
 import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.EmailMatch;
+import org.maxq.authorization.domain.UserCursor;
+import org.maxq.authorization.domain.UserSearch;
+import org.maxq.authorization.domain.UserSortKey;
+import org.maxq.authorization.domain.UserWindow;
 import org.maxq.authorization.domain.exception.*;
+import org.maxq.authorization.event.OnUserChanged;
 import org.maxq.authorization.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.TransactionSystemException;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +36,7 @@ public class UserService {
 
   private final UserRepository userRepository;
   private final RoleService roleService;
+  private final ApplicationEventPublisher eventPublisher;
 
   public void createUser(User user) throws DuplicateEmailException, DataValidationException {
     try {
@@ -29,6 +47,25 @@ public class UserService {
       throw new DuplicateEmailException(
           "User with this email already exists! Email: " + user.getEmail(), e);
     }
+    eventPublisher.publishEvent(new OnUserChanged(user.getEmail()));
+  }
+
+  public void createUsers(List<User> users) throws DuplicateEmailException, DataValidationException {
+    try {
+      userRepository.saveAll(users);
+    } catch (TransactionSystemException e) {
+      throw new DataValidationException("Failed email or password validation", e);
+    } catch (DataIntegrityViolationException e) {
+      throw new DuplicateEmailException("One of " + users.size() + " users already exists", e);
+    }
+    users.forEach(user -> eventPublisher.publishEvent(new OnUserChanged(user.getEmail())));
+  }
+
+  public Set<String> getExistingEmails(Collection<String> emails) {
+    if (emails.isEmpty()) {
+      return Set.of();
+    }
+    return new HashSet<>(userRepository.findEmailsByEmailIn(emails));
   }
 
   public void updateUser(User user) throws ElementNotFoundException, DataValidationException {
@@ -42,6 +79,7 @@ public class UserService {
     } catch (TransactionSystemException e) {
       throw new DataValidationException("Failed email or password validation", e);
     }
+    eventPublisher.publishEvent(new OnUserChanged(user.getEmail()));
   }
 
   public User getUserById(Long userId) throws ElementNotFoundException {
@@ -61,6 +99,35 @@ public class UserService {
     return userRepository.findAll(page);
   }
 
+  public UserWindow getUsersAfter(UserCursor cursor, int size, boolean count)
+      throws DataValidationException {
+    if (size <= 0) {
+      throw new DataValidationException("Page size must be greater than 0");
+    }
+
+    List<Long> ids = findIdsAfter(cursor, Limit.of(size + 1));
+    Long totalElements = count ? userRepository.count() : null;
+    return toWindow(ids, cursor.getKey(), size, totalElements);
+  }
+
+  public UserWindow searchUsers(UserSearch search, UserCursor cursor, int size)
+      throws DataValidationException {
+    if (size <= 0) {
+      throw new DataValidationException("Page size must be greater than 0");
+    }
+    if (cursor.getKey() != UserSortKey.EMAIL) {
+      throw new DataValidationException("Search results are ordered by email only");
+    }
+
+    List<Long> ids = userRepository.searchIds(
+        emailPattern(search.getEmail(), search.getMatch()),
+        cursor.getValue() == null ? "" : cursor.getValue(),
+        search.getEnabled(),
+        search.getRole(),
+        Limit.of(size + 1));
+    return toWindow(ids, UserSortKey.EMAIL, size, null);
+  }
+
   public void addRole(User user, Long roleId) throws ElementNotFoundException, RoleAlreadyExistsException {
     Role role = roleService.getRoleById(roleId);
     boolean success = user.getRoles().add(role);
@@ -69,6 +136,7 @@ public class UserService {
           "Role '" + role.getName() + "' already exists on user: " + user.getId());
     }
     userRepository.save(user);
+    eventPublisher.publishEvent(new OnUserChanged(user.getEmail()));
   }
 
   public void removeRole(User user, Long roleId) throws ElementNotFoundException, RoleDoesNotExistException {
@@ -79,5 +147,35 @@ public class UserService {
           "Role '" + role.getName() + "' does not exist on user: " + user.getId());
     }
     userRepository.save(user);
+    eventPublisher.publishEvent(new OnUserChanged(user.getEmail()));
+  }
+
+  private UserWindow toWindow(List<Long> ids, UserSortKey key, int size, Long totalElements) {
+    boolean hasNext = ids.size() > size;
+    List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+    if (pageIds.isEmpty()) {
+      return new UserWindow(List.of(), key, size, false, totalElements);
+    }
+
+    Map<Long, User> users = userRepository.findAllWithRolesByIdIn(pageIds).stream()
+        .collect(Collectors.toMap(User::getId, Function.identity()));
+    List<User> content = pageIds.stream().map(users::get).filter(Objects::nonNull).toList();
+    return new UserWindow(content, key, size, hasNext, totalElements);
+  }
+
+  private static String emailPattern(String email, EmailMatch match) {
+    String escaped = email == null ? "" : email.toLowerCase(Locale.ROOT)
+        .replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_");
+    return match == EmailMatch.CONTAINS ? "%" + escaped + "%" : escaped + "%";
+  }
+
+  private List<Long> findIdsAfter(UserCursor cursor, Limit limit) {
+    String after = cursor.getValue();
+    return switch (cursor.getKey()) {
+      case ID -> userRepository.findIdsAfterId(after == null ? 0L : Long.parseLong(after), limit);
+      case EMAIL -> userRepository.findIdsAfterEmail(after == null ? "" : after, limit);
+    };
   }
 }
@@ -0,0 +1,134 @@
+package org.maxq.authorization.service.imports;
+
+import org.maxq.authorization.domain.UserImportRow;
+import org.maxq.authorization.domain.dto.ImportUserDto;
+import org.maxq.authorization.domain.exception.DataValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads a CSV body with a header row naming the columns. Values may be double-quoted, but a
+ * quoted value cannot span lines. Roles are separated with {@code |}.
+ */
+public class CsvUserImportReader implements UserImportReader {
+
+  static final String EMAIL = "email";
+  static final String PASSWORD = "password";
+  static final String FIRST_NAME = "firstname";
+  static final String MIDDLE_NAME = "middlename";
+  static final String LAST_NAME = "lastname";
+  static final String ROLES = "roles";
+
+  private static final char SEPARATOR = ',';
+  private static final char QUOTE = '"';
+  private static final String ROLE_SEPARATOR = "\\|";
+
+  private final BufferedReader reader;
+  private final Map<String, Integer> columns = new HashMap<>();
+  private long line;
+
+  public CsvUserImportReader(BufferedReader reader) throws IOException, DataValidationException {
+    this.reader = reader;
+
+    String header = reader.readLine();
+    line++;
+    if (header == null || header.isBlank()) {
+      throw new DataValidationException("CSV import requires a header row");
+    }
+    List<String> names = split(header.strip()).orElseThrow(() ->
+        new DataValidationException("CSV header contains an unterminated quoted value"));
+    for (int i = 0; i < names.size(); i++) {
+      columns.put(names.get(i).strip().toLowerCase(Locale.ROOT), i);
+    }
+    if (!columns.containsKey(EMAIL) || !columns.containsKey(PASSWORD)) {
+      throw new DataValidationException("CSV header must contain email and password columns");
+    }
+  }
+
+  @Override
+  public UserImportRow next() throws IOException {
+    String text;
+    do {
+      text = reader.readLine();
+      line++;
+    } while (text != null && text.isBlank());
+
+    if (text == null) {
+      return null;
+    }
+    Optional<List<String>> parsed = split(text);
+    if (parsed.isEmpty()) {
+      return UserImportRow.failed(line, "Unterminated quoted value");
+    }
+
+    List<String> values = parsed.get();
+    String roles = value(values, ROLES);
+    return UserImportRow.parsed(line, new ImportUserDto(
+        value(values, FIRST_NAME),
+        value(values, MIDDLE_NAME),
+        value(values, LAST_NAME),
+        value(values, EMAIL),
+        value(values, PASSWORD),
+        roles == null ? List.of() : Arrays.stream(roles.split(ROLE_SEPARATOR))
+            .map(String::strip)
+            .filter(role -> !role.isEmpty())
+            .toList()
+    ));
+  }
+
+  @Override
+  public long getLine() {
+    return line;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private String value(List<String> values, String column) {
+    Integer index = columns.get(column);
+    if (index == null || index >= values.size()) {
+      return null;
+    }
+    String value = values.get(index);
+    return value.isEmpty() ? null : value;
+  }
+
+  private static Optional<List<String>> split(String text) {
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+    int i = 0;
+    while (i < text.length()) {
+      char c = text.charAt(i++);
+      if (c == QUOTE) {
+        boolean escaped = quoted && i < text.length() && text.charAt(i) == QUOTE;
+        if (escaped) {
+          value.append(QUOTE);
+          i++;
+        } else {
+          quoted = !quoted;
+        }
+      } else if (c == SEPARATOR && !quoted) {
+        values.add(value.toString());
+        value.setLength(0);
+      } else {
+        value.append(c);
+      }
+    }
+    if (quoted) {
+      return Optional.empty();
+    }
+    values.add(value.toString());
+    return Optional.of(values);
+  }
+}
@@ -0,0 +1,28 @@
+package org.maxq.authorization.service.imports;
+
+import org.maxq.authorization.domain.Role;
+import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.dto.ImportUserDto;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public record ImportCandidate(long line, ImportUserDto user, Set<Role> roles, String passwordHash) {
+
+  public ImportCandidate(long line, ImportUserDto user, Set<Role> roles) {
+    this(line, user, roles, null);
+  }
+
+  public ImportCandidate withPasswordHash(String hash) {
+    return new ImportCandidate(line, user, roles, hash);
+  }
+
+  /**
+   * @return new enabled user, each call gives an entity without id
+   */
+  public User toUser() {
+    User created = new User(user.getEmail(), passwordHash, new HashSet<>(roles));
+    created.setEnabled(true);
+    return created;
+  }
+}
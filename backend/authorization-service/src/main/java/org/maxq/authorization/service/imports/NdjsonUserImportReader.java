@@ -0,0 +1,49 @@
+package org.maxq.authorization.service.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.maxq.authorization.domain.UserImportRow;
+import org.maxq.authorization.domain.dto.ImportUserDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public class NdjsonUserImportReader implements UserImportReader {
+
+  private final BufferedReader reader;
+  private final ObjectMapper objectMapper;
+  private long line;
+
+  public NdjsonUserImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+    this.reader = reader;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public UserImportRow next() throws IOException {
+    String text;
+    do {
+      text = reader.readLine();
+      line++;
+    } while (text != null && text.isBlank());
+
+    if (text == null) {
+      return null;
+    }
+    try {
+      return UserImportRow.parsed(line, objectMapper.readValue(text, ImportUserDto.class));
+    } catch (JsonProcessingException e) {
+      return UserImportRow.failed(line, "Malformed JSON: " + e.getOriginalMessage());
+    }
+  }
+
+  @Override
+  public long getLine() {
+    return line;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
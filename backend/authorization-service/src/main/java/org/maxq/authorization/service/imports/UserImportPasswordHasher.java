@@ -0,0 +1,62 @@
+package org.maxq.authorization.service.imports;
+
+import org.maxq.authorization.domain.UserImportResult;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Hashes passwords of imported users on a small pool of its own. The pool only submits work to
+ * the shared {@link PasswordEncoder}, so its size caps how much of the hashing capacity an import
+ * takes away from logins and registrations.
+ */
+@Component
+public class UserImportPasswordHasher implements DisposableBean {
+
+  private final PasswordEncoder passwordEncoder;
+  private final ExecutorService executor;
+
+  public UserImportPasswordHasher(PasswordEncoder passwordEncoder,
+                                  @Value("${user-import.parallelism:0}") int parallelism) {
+    this.passwordEncoder = passwordEncoder;
+    int threads = parallelism > 0
+        ? parallelism
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    this.executor = Executors.newFixedThreadPool(threads,
+        Thread.ofPlatform().name("user-import-", 1).daemon(true).factory());
+  }
+
+  public List<ImportCandidate> hash(List<ImportCandidate> candidates, UserImportResult result) {
+    List<Future<String>> hashes = new ArrayList<>(candidates.size());
+    for (ImportCandidate candidate : candidates) {
+      hashes.add(executor.submit(() -> passwordEncoder.encode(candidate.user().getPassword())));
+    }
+
+    List<ImportCandidate> hashed = new ArrayList<>(candidates.size());
+    for (int i = 0; i < candidates.size(); i++) {
+      ImportCandidate candidate = candidates.get(i);
+      try {
+        hashed.add(candidate.withPasswordHash(hashes.get(i).get()));
+      } catch (ExecutionException e) {
+        result.addError(candidate.line(), candidate.user().getEmail(), e.getCause().getMessage());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        result.addError(candidate.line(), candidate.user().getEmail(), "Import interrupted");
+      }
+    }
+    return hashed;
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
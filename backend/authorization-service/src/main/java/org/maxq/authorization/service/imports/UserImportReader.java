@@ -0,0 +1,22 @@
+package org.maxq.authorization.service.imports;
+
+import org.maxq.authorization.domain.UserImportRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an import body one line at a time, so only the current line is held in memory.
+ */
+public interface UserImportReader extends Closeable {
+
+  /**
+   * @return next row of the body, or {@code null} when the body is exhausted
+   */
+  UserImportRow next() throws IOException;
+
+  /**
+   * @return number of lines consumed so far, including skipped and header lines
+   */
+  long getLine();
+}
@@ -0,0 +1,29 @@
+package org.maxq.authorization.service.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.maxq.authorization.domain.UserImportFormat;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+@Component
+@RequiredArgsConstructor
+public class UserImportReaderFactory {
+
+  private final ObjectMapper objectMapper;
+
+  public UserImportReader open(InputStream body, UserImportFormat format, Charset charset)
+      throws IOException, DataValidationException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+    return switch (format) {
+      case CSV -> new CsvUserImportReader(reader);
+      case NDJSON -> new NdjsonUserImportReader(reader, objectMapper);
+    };
+  }
+}
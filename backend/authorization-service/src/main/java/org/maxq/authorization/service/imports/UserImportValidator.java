@@ -0,0 +1,82 @@
+package org.maxq.authorization.service.imports;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.maxq.authorization.domain.Role;
+import org.maxq.authorization.domain.UserImportResult;
+import org.maxq.authorization.domain.UserImportRow;
+import org.maxq.authorization.domain.dto.ImportUserDto;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.maxq.authorization.service.RoleService;
+import org.maxq.authorization.service.UserService;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Filters a chunk of import rows down to users that can be created, recording why the others
+ * were rejected. Existing emails of the whole chunk are checked with a single query.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserImportValidator {
+
+  private static final String DEFAULT_ROLE = "DESIGNER";
+
+  private final Validator validator;
+  private final RoleService roleService;
+  private final UserService userService;
+
+  public List<ImportCandidate> validate(List<UserImportRow> rows, UserImportResult result) {
+    Map<String, ImportCandidate> candidates = new LinkedHashMap<>();
+    for (UserImportRow row : rows) {
+      String error = row.getError() == null ? validate(row.getUser(), candidates.keySet()) : row.getError();
+      if (error != null) {
+        result.addError(row.getLine(), row.getUser() == null ? null : row.getUser().getEmail(), error);
+        continue;
+      }
+      try {
+        candidates.put(row.getUser().getEmail(),
+            new ImportCandidate(row.getLine(), row.getUser(), resolveRoles(row.getUser())));
+      } catch (ElementNotFoundException e) {
+        result.addError(row.getLine(), row.getUser().getEmail(), e.getMessage());
+      }
+    }
+
+    for (String email : userService.getExistingEmails(candidates.keySet())) {
+      ImportCandidate candidate = candidates.remove(email);
+      if (candidate != null) {
+        result.addError(candidate.line(), email, "User with this email already exists");
+      }
+    }
+    return new ArrayList<>(candidates.values());
+  }
+
+  private String validate(ImportUserDto user, Set<String> chunkEmails) {
+    Set<ConstraintViolation<ImportUserDto>> violations = validator.validate(user);
+    if (!violations.isEmpty()) {
+      return violations.iterator().next().getMessage();
+    }
+    if (chunkEmails.contains(user.getEmail())) {
+      return "Email is repeated in the import";
+    }
+    return null;
+  }
+
+  private Set<Role> resolveRoles(ImportUserDto user) throws ElementNotFoundException {
+    List<String> names = user.getRoles() == null || user.getRoles().isEmpty()
+        ? List.of(DEFAULT_ROLE)
+        : user.getRoles();
+    Set<Role> roles = new HashSet<>();
+    for (String name : names) {
+      roles.add(roleService.getRoleByName(name));
+    }
+    return roles;
+  }
+}
@@ -2,7 +2,13 @@ package org.maxq.authorization.service.message;
 
 import org.maxq.authorization.event.message.Message;
 
+import java.util.List;
+
 public interface MessageService<M extends Message<?>> {
 
   void sendMessage(M message);
+
+  default void sendMessages(List<M> messages) {
+    messages.forEach(this::sendMessage);
+  }
 }
@@ -8,6 +8,8 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @Slf4j
 @Profile("!QA")
@@ -26,4 +28,15 @@ public class RabbitmqMessageService implements MessageService<RabbitmqMessage<?>
     );
     rabbitTemplate.convertAndSend(topicExchange.getName(), message.getTopic(), message.getPayload());
   }
+
+  @Override
+  public void sendMessages(List<RabbitmqMessage<?>> messages) {
+    log.info("Sending {} messages to exchange {}", messages.size(), topicExchange.getName());
+    // One channel for the whole batch instead of a channel checkout per message
+    rabbitTemplate.invoke(operations -> {
+      messages.forEach(message -> operations.convertAndSend(
+          topicExchange.getName(), message.getTopic(), message.getPayload()));
+      return null;
+    });
+  }
 }
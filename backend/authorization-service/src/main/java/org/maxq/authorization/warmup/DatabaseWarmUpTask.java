@@ -0,0 +1,53 @@
+package org.maxq.authorization.warmup;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import lombok.RequiredArgsConstructor;
+import org.maxq.authorization.repository.RoleRepository;
+import org.maxq.authorization.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Opens the minimum idle connections of the pool up front and runs the repository lookups used by
+ * login and user management.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseWarmUpTask implements WarmUpTask {
+
+  private static final String WARM_UP_EMAIL = "warm-up@maxq.com";
+
+  private final DataSource dataSource;
+  private final UserRepository userRepository;
+  private final RoleRepository roleRepository;
+
+  @Override
+  public String getName() {
+    return "database";
+  }
+
+  @Override
+  public void run() throws SQLException {
+    openPool();
+    userRepository.findByEmail(WARM_UP_EMAIL);
+    userRepository.findAll(PageRequest.of(0, 1));
+    roleRepository.findAll();
+  }
+
+  private void openPool() throws SQLException {
+    openConnections(dataSource instanceof HikariConfigMXBean config ? config.getMinimumIdle() : 1);
+  }
+
+  private void openConnections(int remaining) throws SQLException {
+    if (remaining <= 0) {
+      return;
+    }
+    try (Connection ignored = dataSource.getConnection()) {
+      openConnections(remaining - 1);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package org.maxq.authorization.warmup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.maxq.authorization.service.TokenService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Signs a user token and runs it through the robot token decoder. The decoder rejects it (wrong
+ * issuer and key), which still exercises parsing, signature verification and validation.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtWarmUpTask implements WarmUpTask {
+
+  private static final UserDetails WARM_UP_USER = User.withUsername("warm-up@maxq.com")
+      .password("")
+      .roles("WARM_UP")
+      .build();
+
+  private final TokenService tokenService;
+  private final JwtDecoder jwtDecoder;
+
+  @Override
+  public String getName() {
+    return "jwt";
+  }
+
+  @Override
+  public void run() {
+    String token = tokenService.generateToken(WARM_UP_USER);
+    try {
+      jwtDecoder.decode(token);
+    } catch (JwtException e) {
+      log.trace("Warm-up token rejected as expected: {}", e.getMessage());
+    }
+  }
+}
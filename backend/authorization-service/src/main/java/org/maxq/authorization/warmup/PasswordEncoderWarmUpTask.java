@@ -0,0 +1,29 @@
+package org.maxq.authorization.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PasswordEncoderWarmUpTask implements WarmUpTask {
+
+  private static final String PASSWORD = "warm-up-password";
+
+  private final PasswordEncoder passwordEncoder;
+  // Encoded on the first run, so a disabled warm-up never hashes
+  private String encodedPassword;
+
+  @Override
+  public String getName() {
+    return "password-encoder";
+  }
+
+  @Override
+  public void run() {
+    if (encodedPassword == null) {
+      encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+    passwordEncoder.matches(PASSWORD, encodedPassword);
+  }
+}
@@ -0,0 +1,28 @@
+package org.maxq.authorization.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens the broker connection and caches a channel so the first published message does not pay
+ * for the handshake.
+ */
+@Component
+@Profile("!QA")
+@RequiredArgsConstructor
+public class RabbitmqWarmUpTask implements WarmUpTask {
+
+  private final RabbitTemplate rabbitTemplate;
+
+  @Override
+  public String getName() {
+    return "rabbitmq";
+  }
+
+  @Override
+  public void run() {
+    rabbitTemplate.execute(channel -> channel.isOpen());
+  }
+}
@@ -0,0 +1,107 @@
+package org.maxq.authorization.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs all {@link WarmUpTask}s once the application is ready and only then switches the Eureka
+ * status from {@code STARTING} (see {@code eureka.instance.initial-status}) to {@code UP}. The
+ * instance is reported UP when the budget expires even if warm-up has not finished, and failing
+ * tasks are dropped instead of blocking registration.
+ */
+@Slf4j
+@Component
+public class WarmUpRunner implements ApplicationListener<ApplicationReadyEvent> {
+
+  private final List<WarmUpTask> tasks;
+  private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+  private final boolean enabled;
+  private final Duration budget;
+  private final int iterations;
+
+  public WarmUpRunner(List<WarmUpTask> tasks,
+                      ObjectProvider<ApplicationInfoManager> applicationInfoManager,
+                      @Value("${warm-up.enabled:true}") boolean enabled,
+                      @Value("${warm-up.budget:30s}") Duration budget,
+                      @Value("${warm-up.iterations:50}") int iterations) {
+    this.tasks = tasks;
+    this.applicationInfoManager = applicationInfoManager;
+    this.enabled = enabled;
+    this.budget = budget;
+    this.iterations = iterations;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    start();
+  }
+
+  public CompletableFuture<Void> start() {
+    if (!enabled || tasks.isEmpty()) {
+      markUp();
+      return CompletableFuture.completedFuture(null);
+    }
+
+    ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "warm-up");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long startTime = System.nanoTime();
+
+    return CompletableFuture.runAsync(() -> runTasks(startTime + budget.toNanos()), executor)
+        .orTimeout(budget.toMillis(), TimeUnit.MILLISECONDS)
+        .handle((ignored, error) -> {
+          executor.shutdownNow();
+          if (error == null) {
+            log.info("Warm-up finished in {} ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+          } else {
+            log.warn("Warm-up did not finish within {}, reporting UP anyway", budget);
+          }
+          markUp();
+          return null;
+        });
+  }
+
+  private void runTasks(long deadline) {
+    List<WarmUpTask> pending = new ArrayList<>(tasks);
+    for (int i = 0; i < iterations && !pending.isEmpty(); i++) {
+      if (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      pending.removeIf(task -> !runTask(task));
+    }
+  }
+
+  private boolean runTask(WarmUpTask task) {
+    try {
+      task.run();
+      return true;
+    } catch (Exception e) {
+      log.warn("Warm-up task {} failed, skipping it", task.getName(), e);
+      return false;
+    }
+  }
+
+  private void markUp() {
+    applicationInfoManager.ifAvailable(manager -> {
+      log.info("Reporting instance UP to Eureka");
+      manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+    });
+  }
+}
@@ -8,7 +8,9 @@ import org.maxq.authorization.domain.User;
 import org.maxq.authorization.domain.dto.MeDto;
 import org.maxq.authorization.domain.dto.RoleDto;
 import org.maxq.authorization.mapper.UserMapper;
+import org.maxq.authorization.security.CachedUser;
 import org.maxq.authorization.security.UserDetailsDbService;
+import org.maxq.authorization.security.crypto.PasswordHashingRejectedException;
 import org.maxq.authorization.service.TokenService;
 import org.maxq.authorization.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -114,6 +116,23 @@ class LoginControllerTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$.type", Matchers.is("Bearer")));
   }
 
+  @Test
+  void shouldReturn503_When_PasswordHashingIsSaturated() throws Exception {
+    // Given
+    User user = new User(userEmail, password, true);
+    when(passwordEncoder.matches(password, user.getPassword()))
+        .thenThrow(new PasswordHashingRejectedException("Too many concurrent password operations, try again later"));
+    when(userService.getUserByEmail(userEmail)).thenReturn(user);
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .post(URL)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-Basic-Authorization", basicToken))
+        .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "1"));
+  }
+
   @Test
   void shouldReturn401_WhenDisabled() throws Exception {
     // Given
@@ -197,7 +216,7 @@ class LoginControllerTest {
     MeDto me = new MeDto(userEmail, List.of(roleDto));
 
     when(userService.getUserByEmail(userEmail)).thenReturn(user);
-    when(userMapper.mapToMeDto(any(User.class))).thenReturn(me);
+    when(userMapper.mapToMeDto(any(CachedUser.class))).thenReturn(me);
 
     // When + Then
     mockMvc.perform(MockMvcRequestBuilders.get(URL + "/me")
@@ -222,7 +241,7 @@ class LoginControllerTest {
     MeDto me = new MeDto(userEmail, List.of(roleDto));
 
     when(userService.getUserByEmail(userEmail)).thenReturn(user);
-    when(userMapper.mapToMeDto(any(User.class))).thenReturn(me);
+    when(userMapper.mapToMeDto(any(CachedUser.class))).thenReturn(me);
 
     // When + Then
     mockMvc.perform(MockMvcRequestBuilders.get(URL + "/me")
@@ -243,4 +262,4 @@ class LoginControllerTest {
         .andDo(print())
         .andExpect(MockMvcResultMatchers.status().isForbidden());
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -22,6 +22,7 @@ import org.maxq.authorization.event.OnRegisterVerificationFail;
 import org.maxq.authorization.event.OnRegistrationComplete;
 import org.maxq.authorization.mapper.ProfileMapper;
 import org.maxq.authorization.mapper.UserMapper;
+import org.maxq.authorization.security.crypto.PasswordHashingRejectedException;
 import org.maxq.authorization.service.RoleService;
 import org.maxq.authorization.service.UserService;
 import org.maxq.authorization.service.VerificationTokenService;
@@ -122,6 +123,24 @@ class RegisterControllerTest {
         .andExpect(MockMvcResultMatchers.status().isCreated());
   }
 
+  @Test
+  void shouldReturn503_When_PasswordHashingIsSaturated() throws Exception {
+    // Given
+    UserDto userDto = new UserDto("Test", null, "User", "test@test.com", "test");
+    when(userMapper.mapToUser(any(UserDto.class)))
+        .thenThrow(new PasswordHashingRejectedException("Too many concurrent password operations, try again later"));
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .post(URL)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(new Gson().toJson(userDto)))
+        .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "1"));
+    verify(userService, never()).createUser(any());
+  }
+
   @Test
   void shouldPublishRegistrationEvent() throws Exception {
     // Given
@@ -437,4 +456,4 @@ class RegisterControllerTest {
         .andExpect(MockMvcResultMatchers.status().isUnauthorized())
         .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.is("Unauthorized to access this resource, login please")));
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
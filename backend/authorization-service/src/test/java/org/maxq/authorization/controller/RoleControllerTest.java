@@ -88,6 +88,7 @@ class RoleControllerTest {
             .header("X-User", "test@test.com")
             .header("X-User-Roles", "ROLE_ADMIN"))
         .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, private"))
         .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
         .andExpect(MockMvcResultMatchers.jsonPath(
             "$[0].id", Matchers.is(role1.getId().intValue())))
@@ -136,4 +137,4 @@ class RoleControllerTest {
         .andExpect(MockMvcResultMatchers.status().isUnauthorized())
         .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.is("Unauthorized to access this resource, login please")));
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -3,15 +3,27 @@ package org.maxq.authorization.controller;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.maxq.authorization.domain.EmailMatch;
 import org.maxq.authorization.domain.Role;
 import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserCursor;
+import org.maxq.authorization.domain.UserImportFormat;
+import org.maxq.authorization.domain.UserImportResult;
+import org.maxq.authorization.domain.UserSearch;
+import org.maxq.authorization.domain.UserSortKey;
+import org.maxq.authorization.domain.UserWindow;
+import org.maxq.authorization.domain.dto.CursorPageDto;
 import org.maxq.authorization.domain.dto.GetUserDto;
 import org.maxq.authorization.domain.dto.PageDto;
 import org.maxq.authorization.domain.dto.RoleDto;
+import org.maxq.authorization.domain.dto.UserImportReportDto;
+import org.maxq.authorization.domain.exception.DataValidationException;
 import org.maxq.authorization.domain.exception.ElementNotFoundException;
 import org.maxq.authorization.domain.exception.RoleAlreadyExistsException;
 import org.maxq.authorization.domain.exception.RoleDoesNotExistException;
+import org.maxq.authorization.mapper.UserImportMapper;
 import org.maxq.authorization.mapper.UserMapper;
+import org.maxq.authorization.service.UserImportService;
 import org.maxq.authorization.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -19,6 +31,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -29,6 +42,8 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
@@ -52,6 +67,10 @@ class UserControllerTest {
   @MockitoBean
   private UserMapper userMapper;
   @MockitoBean
+  private UserImportService userImportService;
+  @MockitoBean
+  private UserImportMapper userImportMapper;
+  @MockitoBean
   private JwtDecoder jwtDecoder;
 
   private Role role;
@@ -123,6 +142,98 @@ class UserControllerTest {
             "$.totalPages", Matchers.is(1)));
   }
 
+  @Test
+  void shouldGetUsersByCursor() throws Exception {
+    // Given
+    RoleDto roleDto = new RoleDto(role.getId(), role.getName());
+    UserWindow window = new UserWindow(users, UserSortKey.EMAIL, 2, true, null);
+    CursorPageDto<GetUserDto> usersDtoPage = CursorPageDto.<GetUserDto>builder()
+        .content(List.of(
+            new GetUserDto(user1.getId(), user1.getEmail(), user1.isEnabled(), List.of(roleDto)),
+            new GetUserDto(user2.getId(), user2.getEmail(), user2.isEnabled(), List.of(roleDto))))
+        .size(2)
+        .numberOfElements(2)
+        .last(false)
+        .nextCursor("next")
+        .build();
+    when(userService.getUsersAfter(
+        argThat((UserCursor cursor) -> cursor.getKey() == UserSortKey.EMAIL && cursor.getValue() == null),
+        eq(2), eq(false)))
+        .thenReturn(window);
+    when(userMapper.mapToGetUserDtoCursorPage(window)).thenReturn(usersDtoPage);
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .get(URL + "/cursor")
+            .param("sort", "EMAIL")
+            .param("size", "2")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-User", "test@test.com")
+            .header("X-User-Roles", "ROLE_ADMIN"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(2)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", Matchers.is("next")))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.last", Matchers.is(false)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements", Matchers.nullValue()));
+  }
+
+  @Test
+  void shouldReturnBadRequest_When_CursorPageSizeInvalid() throws Exception {
+    // Given
+    String message = "Page size must be greater than 0";
+    when(userService.getUsersAfter(any(), eq(0), anyBoolean()))
+        .thenThrow(new DataValidationException(message));
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .get(URL + "/cursor")
+            .param("size", "0")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-User", "test@test.com")
+            .header("X-User-Roles", "ROLE_ADMIN"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.is(message)));
+  }
+
+  @Test
+  void shouldSearchUsers() throws Exception {
+    // Given
+    RoleDto roleDto = new RoleDto(role.getId(), role.getName());
+    UserWindow window = new UserWindow(List.of(user1), UserSortKey.EMAIL, 10, false, null);
+    CursorPageDto<GetUserDto> usersDtoPage = CursorPageDto.<GetUserDto>builder()
+        .content(List.of(
+            new GetUserDto(user1.getId(), user1.getEmail(), user1.isEnabled(), List.of(roleDto))))
+        .size(10)
+        .numberOfElements(1)
+        .last(true)
+        .build();
+    when(userService.searchUsers(
+        argThat((UserSearch search) -> "test1".equals(search.getEmail())
+            && search.getMatch() == EmailMatch.CONTAINS
+            && "ADMIN".equals(search.getRole())
+            && Boolean.TRUE.equals(search.getEnabled())),
+        argThat((UserCursor cursor) -> cursor.getKey() == UserSortKey.EMAIL),
+        eq(10)))
+        .thenReturn(window);
+    when(userMapper.mapToGetUserDtoCursorPage(window)).thenReturn(usersDtoPage);
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .get(URL + "/search")
+            .param("email", "test1")
+            .param("match", "CONTAINS")
+            .param("role", "ADMIN")
+            .param("enabled", "true")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-User", "test@test.com")
+            .header("X-User-Roles", "ROLE_ADMIN"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+        .andExpect(MockMvcResultMatchers.jsonPath(
+            "$.content[0].email", Matchers.is(user1.getEmail())))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.last", Matchers.is(true)));
+  }
+
   @Test
   void shouldThrow_When_UserIsNotAdmin() throws Exception {
     // Given
@@ -150,6 +261,66 @@ class UserControllerTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.is("Unauthorized to access this resource, login please")));
   }
 
+  @Test
+  void shouldImportUsers() throws Exception {
+    // Given
+    String csv = "email,password,firstName,lastName\ntest@test.com,test,Test,Test\n";
+    UserImportReportDto report = UserImportReportDto.builder()
+        .rows(1)
+        .imported(1)
+        .durationMillis(10)
+        .usersPerSecond(100)
+        .errors(List.of())
+        .build();
+    when(userImportService.importUsers(any(InputStream.class), eq(UserImportFormat.CSV),
+        eq(StandardCharsets.ISO_8859_1))).thenReturn(new UserImportResult(10));
+    when(userImportMapper.mapToUserImportReportDto(any(UserImportResult.class))).thenReturn(report);
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .post(URL + "/import")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-User", "test@test.com")
+            .header("X-User-Roles", "ROLE_ADMIN")
+            .contentType("text/csv;charset=ISO-8859-1")
+            .content(csv))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.imported", Matchers.is(1)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.usersPerSecond", Matchers.is(100.0)));
+  }
+
+  @Test
+  void shouldNotImportUsers_When_ContentTypeIsNotSupported() throws Exception {
+    // Given
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .post(URL + "/import")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-User", "test@test.com")
+            .header("X-User-Roles", "ROLE_ADMIN")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[]"))
+        .andExpect(MockMvcResultMatchers.status().isUnsupportedMediaType());
+    verifyNoInteractions(userImportService);
+  }
+
+  @Test
+  void shouldNotAllowNonAdminRoles_When_ImportUsers() throws Exception {
+    // Given
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .post(URL + "/import")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-User", "test@test.com")
+            .header("X-User-Roles", "ROLE_OPERATOR")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("{}"))
+        .andExpect(MockMvcResultMatchers.status().isForbidden());
+    verifyNoInteractions(userImportService);
+  }
+
   @Test
   void shouldAddRole() throws Exception {
     // Given
@@ -373,4 +544,4 @@ class UserControllerTest {
         .andExpect(MockMvcResultMatchers.status().isUnauthorized())
         .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.is("Unauthorized to access this resource, login please")));
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
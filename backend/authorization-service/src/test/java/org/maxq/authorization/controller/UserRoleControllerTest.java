@@ -0,0 +1,123 @@
+package org.maxq.authorization.controller;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maxq.authorization.domain.UserRolesChange;
+import org.maxq.authorization.domain.dto.UserRolesChangeResultDto;
+import org.maxq.authorization.mapper.UserMapper;
+import org.maxq.authorization.service.UserRoleService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+
+@SpringBootTest
+@WebAppConfiguration
+class UserRoleControllerTest {
+
+  private static final String URL = "/users/roles";
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+  @MockitoBean
+  private UserRoleService userRoleService;
+  @MockitoBean
+  private UserMapper userMapper;
+  @MockitoBean
+  private JwtDecoder jwtDecoder;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+        .apply(springSecurity())
+        .build();
+
+    Jwt jwt = Jwt.withTokenValue("test-token")
+        .header("alg", "RS256")
+        .subject("robot")
+        .issuer("api-gateway-service")
+        .claim("type", "access_token")
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plusSeconds(3600))
+        .build();
+    when(jwtDecoder.decode("test-token")).thenReturn(jwt);
+  }
+
+  @Test
+  void shouldChangeRolesInBulk() throws Exception {
+    // Given
+    String body = "{\"userIds\": [1, 2, 3], \"addRoles\": [1]}";
+    UserRolesChange change = new UserRolesChange(List.of(1L, 2L), List.of(3L));
+    when(userRoleService.changeRoles(Set.of(1L, 2L, 3L), Set.of(1L), Set.of())).thenReturn(change);
+    when(userMapper.mapToUserRolesChangeResultDto(change))
+        .thenReturn(new UserRolesChangeResultDto(List.of(1L, 2L), List.of(3L)));
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .patch(URL)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-User", "test@test.com")
+            .header("X-User-Roles", "ROLE_ADMIN")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.changedUserIds", Matchers.contains(1, 2)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.notFoundUserIds", Matchers.contains(3)));
+  }
+
+  @Test
+  void shouldNotChangeRoles_When_NoUsersGiven() throws Exception {
+    // Given
+    String body = "{\"userIds\": [], \"addRoles\": [1]}";
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .patch(URL)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-User", "test@test.com")
+            .header("X-User-Roles", "ROLE_ADMIN")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+            Matchers.is("At least one user id is required")));
+    verify(userRoleService, never()).changeRoles(anySet(), anySet(), anySet());
+  }
+
+  @Test
+  void shouldNotAllowNonAdminRoles_When_ChangeRoles() throws Exception {
+    // Given
+    String body = "{\"userIds\": [1], \"addRoles\": [1]}";
+
+    // When + Then
+    mockMvc.perform(MockMvcRequestBuilders
+            .patch(URL)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+            .header("X-User", "test@test.com")
+            .header("X-User-Roles", "ROLE_OPERATOR")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(MockMvcResultMatchers.status().isForbidden());
+    verifyNoInteractions(userRoleService);
+  }
+}
@@ -0,0 +1,66 @@
+package org.maxq.authorization.event.listener;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maxq.authorization.event.OnUserChanged;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ChangedUsersHeaderListenerTest {
+
+  @Autowired
+  private ChangedUsersHeaderListener changedUsersHeaderListener;
+
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() {
+    response = new MockHttpServletResponse();
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest(), response));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void shouldListChangedUsers() {
+    // Given
+    List<String> emails = List.of("first@test.com", "second@test.com");
+
+    // When
+    emails.forEach(email -> changedUsersHeaderListener.onApplicationEvent(new OnUserChanged(email)));
+
+    // Then
+    assertEquals(emails, response.getHeaders(ChangedUsersHeaderListener.CHANGED_USERS_HEADER),
+        "Every changed user should be listed");
+  }
+
+  @Test
+  void shouldCollapseHeader_When_TooManyUsersChanged() {
+    // Given
+    IntStream.range(0, 50).forEach(i ->
+        changedUsersHeaderListener.onApplicationEvent(new OnUserChanged("user" + i + "@test.com")));
+
+    // When
+    changedUsersHeaderListener.onApplicationEvent(new OnUserChanged("last@test.com"));
+
+    // Then
+    assertEquals(List.of(ChangedUsersHeaderListener.ALL_USERS),
+        response.getHeaders(ChangedUsersHeaderListener.CHANGED_USERS_HEADER),
+        "Header should be collapsed to all users");
+  }
+}
@@ -0,0 +1,65 @@
+package org.maxq.authorization.event.listener;
+
+import org.junit.jupiter.api.Test;
+import org.maxq.authorization.config.AsyncConfig;
+import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.maxq.authorization.event.OnOutdatedPasswordHash;
+import org.maxq.authorization.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.HashSet;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@Import(AsyncConfig.class)
+class PasswordRehashListenerTest {
+
+  private static final String EMAIL = "test@test.com";
+
+  @Autowired
+  private PasswordRehashListener passwordRehashListener;
+
+  @MockitoBean
+  private UserService userService;
+  @MockitoBean
+  private PasswordEncoder passwordEncoder;
+
+  @Test
+  void shouldStoreNewHash_When_PasswordUnchanged()
+      throws ElementNotFoundException, DataValidationException {
+    // Given
+    User user = new User(1L, EMAIL, "old-hash", true, new HashSet<>());
+    when(passwordEncoder.encode("password")).thenReturn("new-hash");
+    when(userService.getUserByEmail(EMAIL)).thenReturn(user);
+
+    // When
+    passwordRehashListener.onApplicationEvent(new OnOutdatedPasswordHash(EMAIL, "password", "old-hash"));
+
+    // Then
+    verify(userService, times(1)).updateUser(argThat(saved -> "new-hash".equals(saved.getPassword())));
+  }
+
+  @Test
+  void shouldSkip_When_PasswordChangedSinceLogin()
+      throws ElementNotFoundException, DataValidationException {
+    // Given
+    User user = new User(1L, EMAIL, "reset-hash", true, new HashSet<>());
+    when(passwordEncoder.encode(anyString())).thenReturn("new-hash");
+    when(userService.getUserByEmail(EMAIL)).thenReturn(user);
+
+    // When
+    passwordRehashListener.onApplicationEvent(new OnOutdatedPasswordHash(EMAIL, "password", "old-hash"));
+
+    // Then
+    verify(userService, never()).updateUser(any());
+  }
+}
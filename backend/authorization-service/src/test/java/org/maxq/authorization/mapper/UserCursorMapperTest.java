@@ -0,0 +1,79 @@
+package org.maxq.authorization.mapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserCursor;
+import org.maxq.authorization.domain.UserSortKey;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class UserCursorMapperTest {
+
+  @Autowired
+  private UserCursorMapper userCursorMapper;
+
+  private final User user = new User(15L, "test@test.com", "test", true, Set.of());
+
+  @Test
+  void shouldMapIdCursorBackToUserCursor() throws DataValidationException {
+    // Given
+    String cursor = userCursorMapper.mapToCursor(UserSortKey.ID, user);
+
+    // When
+    UserCursor userCursor = userCursorMapper.mapToUserCursor(cursor);
+
+    // Then
+    assertAll(
+        () -> assertEquals(UserSortKey.ID, userCursor.getKey(), "Key should match after mapping"),
+        () -> assertEquals("15", userCursor.getValue(), "Value should match after mapping")
+    );
+  }
+
+  @Test
+  void shouldMapEmailCursorBackToUserCursor() throws DataValidationException {
+    // Given
+    String cursor = userCursorMapper.mapToCursor(UserSortKey.EMAIL, user);
+
+    // When
+    UserCursor userCursor = userCursorMapper.mapToUserCursor(cursor);
+
+    // Then
+    assertAll(
+        () -> assertEquals(UserSortKey.EMAIL, userCursor.getKey(), "Key should match after mapping"),
+        () -> assertEquals(user.getEmail(), userCursor.getValue(), "Value should match after mapping")
+    );
+  }
+
+  @Test
+  void shouldThrow_When_CursorIsNotBase64() {
+    // Given
+
+    // When
+    Executable executable = () -> userCursorMapper.mapToUserCursor("not a cursor!");
+
+    // Then
+    assertThrows(DataValidationException.class, executable);
+  }
+
+  @Test
+  void shouldThrow_When_IdCursorIsNotNumber() {
+    // Given
+    String cursor = Base64.getUrlEncoder()
+        .encodeToString("id:abc".getBytes(StandardCharsets.UTF_8));
+
+    // When
+    Executable executable = () -> userCursorMapper.mapToUserCursor(cursor);
+
+    // Then
+    assertThrows(DataValidationException.class, executable);
+  }
+}
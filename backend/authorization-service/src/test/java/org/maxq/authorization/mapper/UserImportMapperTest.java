@@ -0,0 +1,42 @@
+package org.maxq.authorization.mapper;
+
+import org.junit.jupiter.api.Test;
+import org.maxq.authorization.domain.UserImportResult;
+import org.maxq.authorization.domain.dto.UserImportErrorDto;
+import org.maxq.authorization.domain.dto.UserImportReportDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class UserImportMapperTest {
+
+  @Autowired
+  private UserImportMapper userImportMapper;
+
+  @Test
+  void shouldMapToUserImportReportDto() {
+    // Given
+    UserImportResult result = new UserImportResult(1);
+    result.addRows(4);
+    result.addImported(2);
+    result.addError(3, "first@test.com", "First error");
+    result.addError(4, "second@test.com", "Second error");
+    result.finish(Duration.ofMillis(500));
+
+    // When
+    UserImportReportDto report = userImportMapper.mapToUserImportReportDto(result);
+
+    // Then
+    assertEquals(4, report.getRows(), "Rows should be mapped");
+    assertEquals(2, report.getFailed(), "Every failed row should be counted");
+    assertEquals(4.0, report.getUsersPerSecond(), "Throughput should be users per second");
+    assertEquals(List.of(3L), report.getErrors().stream().map(UserImportErrorDto::getLine).toList(),
+        "Errors should be capped");
+    assertTrue(report.isErrorsTruncated(), "Truncation should be reported");
+  }
+}
@@ -3,22 +3,30 @@ package org.maxq.authorization.mapper;
 import org.junit.jupiter.api.Test;
 import org.maxq.authorization.domain.Role;
 import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserSortKey;
+import org.maxq.authorization.domain.UserWindow;
+import org.maxq.authorization.domain.dto.CursorPageDto;
 import org.maxq.authorization.domain.dto.GetUserDto;
 import org.maxq.authorization.domain.dto.MeDto;
 import org.maxq.authorization.domain.dto.PageDto;
 import org.maxq.authorization.domain.dto.UserDto;
+import org.maxq.authorization.security.CachedUser;
+import org.maxq.authorization.service.RoleRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest
 class UserMapperTest {
@@ -29,6 +37,9 @@ class UserMapperTest {
   @Autowired
   private PasswordEncoder passwordEncoder;
 
+  @MockitoBean
+  private RoleRegistry roleRegistry;
+
   @Test
   void shouldAddToUser() {
     // Given
@@ -71,14 +82,53 @@ class UserMapperTest {
     );
   }
 
+  @Test
+  void shouldMapToGetUserDtoCursorPage() {
+    // Given
+    Role role = new Role(1L, "TEST", Collections.emptyList());
+    User user1 = new User(1L, "test1@test.com", "test1", false, Set.of(role));
+    User user2 = new User(2L, "test2@test.com", "test2", false, Set.of(role));
+    UserWindow window = new UserWindow(List.of(user1, user2), UserSortKey.ID, 2, true, null);
+
+    // When
+    CursorPageDto<GetUserDto> getUserDtoPage = userMapper.mapToGetUserDtoCursorPage(window);
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, getUserDtoPage.getNumberOfElements(), "Sizes should match after mapping"),
+        () -> assertEquals(user2.getId(), getUserDtoPage.getContent().get(1).getId(),
+            "User IDs should match after mapping"),
+        () -> assertFalse(getUserDtoPage.isLast(), "Page should not be the last one"),
+        () -> assertNotNull(getUserDtoPage.getNextCursor(), "Next cursor should be present"),
+        () -> assertNull(getUserDtoPage.getTotalElements(), "Total elements should not be counted")
+    );
+  }
+
+  @Test
+  void shouldMapLastWindowWithoutNextCursor() {
+    // Given
+    UserWindow window = new UserWindow(List.of(), UserSortKey.EMAIL, 10, false, 0L);
+
+    // When
+    CursorPageDto<GetUserDto> getUserDtoPage = userMapper.mapToGetUserDtoCursorPage(window);
+
+    // Then
+    assertAll(
+        () -> assertTrue(getUserDtoPage.isLast(), "Page should be the last one"),
+        () -> assertNull(getUserDtoPage.getNextCursor(), "Next cursor should not be present"),
+        () -> assertEquals(0L, getUserDtoPage.getTotalElements(), "Total elements should match")
+    );
+  }
+
   @Test
   void shouldMapToMeDto() {
     // Given
     Role role = new Role(1L, "TEST", Collections.emptyList());
     User user1 = new User(1L, "test1@test.com", "test1", false, Set.of(role));
+    when(roleRegistry.findByName(role.getName())).thenReturn(Optional.of(role));
 
     // When
-    MeDto me = userMapper.mapToMeDto(user1);
+    MeDto me = userMapper.mapToMeDto(CachedUser.from(user1));
 
     // Then
     assertAll(
@@ -91,4 +141,4 @@ class UserMapperTest {
             "Role name not match after mapping")
     );
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -9,9 +9,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.maxq.authorization.domain.Role;
 import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserEmail;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.TransactionSystemException;
@@ -236,6 +238,126 @@ class UserRepositoryTest {
     userRepository.deleteById(user1.getId());
   }
 
+  @Test
+  void shouldReturnUserIdsAfterKey() {
+    // Given
+    User user1 = new User("a-test@test.com", "test1", Set.of(role));
+    userRepository.save(user);
+    userRepository.save(user1);
+
+    // When
+    List<Long> idsAfterId = userRepository.findIdsAfterId(user.getId(), Limit.of(10));
+    List<Long> idsAfterEmail = userRepository.findIdsAfterEmail("", Limit.of(1));
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(user1.getId()), idsAfterId, "Should return users after id"),
+        () -> assertEquals(List.of(user1.getId()), idsAfterEmail,
+            "Should return first user by email within limit")
+    );
+
+    // Cleanup
+    userRepository.deleteById(user1.getId());
+  }
+
+  @Test
+  void shouldSearchUserIds() {
+    // Given
+    Role operator = roleRepository.save(new Role("operator"));
+    User user1 = new User("Operator_1@test.com", "test1", Set.of(operator));
+    User user2 = new User("operator21@test.com", "test2", true);
+    userRepository.save(user);
+    userRepository.save(user1);
+    userRepository.save(user2);
+
+    // When
+    List<Long> byPrefix = userRepository.searchIds("operator%", "", null, null, Limit.of(10));
+    List<Long> byEscapedPrefix =
+        userRepository.searchIds("operator\\_%", "", null, null, Limit.of(10));
+    List<Long> byContains = userRepository.searchIds("%test%", "", null, null, Limit.of(10));
+    List<Long> byRole = userRepository.searchIds("%", "", null, "operator", Limit.of(10));
+    List<Long> byEnabled = userRepository.searchIds("%", "", true, null, Limit.of(10));
+    List<Long> afterEmail =
+        userRepository.searchIds("%", user1.getEmail(), null, null, Limit.of(10));
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(user1.getId(), user2.getId()), byPrefix,
+            "Should find users by case insensitive prefix ordered by email"),
+        () -> assertEquals(List.of(user1.getId()), byEscapedPrefix,
+            "Should treat underscore as a literal"),
+        () -> assertEquals(List.of(user1.getId(), user2.getId(), user.getId()), byContains,
+            "Should find users by substring"),
+        () -> assertEquals(List.of(user1.getId()), byRole, "Should find users by role"),
+        () -> assertEquals(List.of(user2.getId()), byEnabled, "Should find enabled users"),
+        () -> assertEquals(List.of(user2.getId(), user.getId()), afterEmail,
+            "Should find users after email")
+    );
+
+    // Cleanup
+    userRepository.deleteById(user1.getId());
+    userRepository.deleteById(user2.getId());
+    roleRepository.deleteById(operator.getId());
+  }
+
+  @Test
+  void shouldReturnOnlyStoredEmails() {
+    // Given
+    userRepository.save(user);
+
+    // When
+    List<String> emails = userRepository.findEmailsByEmailIn(List.of(EMAIL, "missing@test.com"));
+
+    // Then
+    assertEquals(List.of(EMAIL), emails, "Should return only emails of stored users");
+  }
+
+  @Test
+  void shouldAddAndRemoveRolesInBulk() {
+    // Given
+    Role operator = roleRepository.save(new Role("bulk-operator"));
+    User other = userRepository.save(new User("bulk@test.com", "test", true));
+    userRepository.save(user);
+    List<Long> userIds = List.of(user.getId(), other.getId());
+
+    // When
+    List<Long> missingRole = userRepository.findIdsMissingAnyRole(userIds, List.of(role.getId()));
+    int inserted = userRepository.insertRoles(userIds, List.of(role.getId(), operator.getId()));
+    List<Long> havingOperator =
+        userRepository.findIdsHavingAnyRole(userIds, List.of(operator.getId()));
+    int deleted = userRepository.deleteRoles(userIds, List.of(operator.getId()));
+    List<UserEmail> emails = userRepository.findUserEmailsByIdIn(userIds);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(other.getId()), missingRole,
+            "Should find only users without the role"),
+        () -> assertEquals(3, inserted, "Should insert only missing user roles"),
+        () -> assertEquals(userIds.stream().sorted().toList(),
+            havingOperator.stream().sorted().toList(), "Should find users having the role"),
+        () -> assertEquals(2, deleted, "Should delete the role of every user"),
+        () -> assertEquals(2, emails.size(), "Should return emails of both users")
+    );
+
+    // Cleanup
+    userRepository.deleteById(other.getId());
+    roleRepository.deleteById(operator.getId());
+  }
+
+  @Test
+  void shouldReturnUsersWithRoles() {
+    // Given
+    userRepository.save(user);
+
+    // When
+    List<User> foundUsers = userRepository.findAllWithRolesByIdIn(List.of(user.getId()));
+
+    // Then
+    assertEquals(1, foundUsers.size(), "Should return one user");
+    assertEquals(role.getName(), foundUsers.getFirst().getRoles().iterator().next().getName(),
+        "Should return user roles");
+  }
+
   @Test
   void shouldFindById() {
     // Given
@@ -263,4 +385,4 @@ class UserRepositoryTest {
     // Then
     assertFalse(foundUser.isPresent(), "Role was found ad should not");
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
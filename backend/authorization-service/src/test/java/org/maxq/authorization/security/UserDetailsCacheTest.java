@@ -0,0 +1,106 @@
+package org.maxq.authorization.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maxq.authorization.domain.Role;
+import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.maxq.authorization.service.UserService;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserDetailsCacheTest {
+
+  private static final String EMAIL = "test@test.com";
+
+  private UserService userService;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    userService = mock(UserService.class);
+    Role role = new Role(1L, "admin", Collections.emptyList());
+    user = new User(1L, EMAIL, "test", true, Set.of(role));
+  }
+
+  @Test
+  void shouldLoadUserOnce_When_CachedUserRequestedAgain() throws ElementNotFoundException {
+    // Given
+    when(userService.getUserByEmail(EMAIL)).thenReturn(user);
+    UserDetailsCache cache = createCache(true);
+
+    // When
+    cache.get(EMAIL);
+    Optional<CachedUser> cachedUser = cache.get(EMAIL);
+
+    // Then
+    verify(userService, times(1)).getUserByEmail(EMAIL);
+    assertTrue(cachedUser.isPresent(), "User should be found");
+    assertAll(
+        () -> assertEquals(EMAIL, cachedUser.get().getEmail(), "Email should be cached"),
+        () -> assertEquals(user.getPassword(), cachedUser.get().getPassword(),
+            "Password should be cached"),
+        () -> assertTrue(cachedUser.get().isEnabled(), "Enabled flag should be cached"),
+        () -> assertEquals(List.of("admin"), cachedUser.get().getRoles(), "Roles should be cached")
+    );
+  }
+
+  @Test
+  void shouldCacheMissingUser() throws ElementNotFoundException {
+    // Given
+    when(userService.getUserByEmail(EMAIL)).thenThrow(new ElementNotFoundException("not found"));
+    UserDetailsCache cache = createCache(true);
+
+    // When
+    cache.get(EMAIL);
+    Optional<CachedUser> cachedUser = cache.get(EMAIL);
+
+    // Then
+    verify(userService, times(1)).getUserByEmail(EMAIL);
+    assertTrue(cachedUser.isEmpty(), "Missing user should not be found");
+  }
+
+  @Test
+  void shouldReloadUser_When_Invalidated() throws ElementNotFoundException {
+    // Given
+    User disabledUser = new User(1L, EMAIL, "test", false, Set.of());
+    when(userService.getUserByEmail(EMAIL)).thenReturn(user, disabledUser);
+    UserDetailsCache cache = createCache(true);
+    cache.get(EMAIL);
+
+    // When
+    cache.invalidate(EMAIL);
+    Optional<CachedUser> cachedUser = cache.get(EMAIL);
+
+    // Then
+    verify(userService, times(2)).getUserByEmail(EMAIL);
+    assertFalse(cachedUser.orElseThrow().isEnabled(), "Changed user should be loaded again");
+  }
+
+  @Test
+  void shouldAlwaysLoadUser_When_Disabled() throws ElementNotFoundException {
+    // Given
+    when(userService.getUserByEmail(EMAIL)).thenReturn(user);
+    UserDetailsCache cache = createCache(false);
+
+    // When
+    cache.get(EMAIL);
+    cache.get(EMAIL);
+
+    // Then
+    verify(userService, times(2)).getUserByEmail(EMAIL);
+  }
+
+  private UserDetailsCache createCache(boolean enabled) {
+    return new UserDetailsCache(userService, new SimpleMeterRegistry(), enabled, 100,
+        Duration.ofMinutes(5), Duration.ofSeconds(30));
+  }
+}
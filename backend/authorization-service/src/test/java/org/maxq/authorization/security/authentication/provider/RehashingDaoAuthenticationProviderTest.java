@@ -0,0 +1,74 @@
+package org.maxq.authorization.security.authentication.provider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maxq.authorization.event.OnOutdatedPasswordHash;
+import org.maxq.authorization.security.crypto.CostAwareBCryptPasswordEncoder;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RehashingDaoAuthenticationProviderTest {
+
+  private static final String EMAIL = "test@test.com";
+  private static final String PASSWORD = "Password123";
+
+  private UserDetailsService userDetailsService;
+  private ApplicationEventPublisher eventPublisher;
+  private RehashingDaoAuthenticationProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    userDetailsService = mock(UserDetailsService.class);
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    provider = new RehashingDaoAuthenticationProvider(userDetailsService, eventPublisher);
+    provider.setPasswordEncoder(new CostAwareBCryptPasswordEncoder(5));
+  }
+
+  @Test
+  void shouldPublishRehash_When_HashCostIsOutdated() {
+    // Given
+    String outdatedHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+    when(userDetailsService.loadUserByUsername(EMAIL))
+        .thenReturn(User.withUsername(EMAIL).password(outdatedHash).roles("ADMIN").build());
+
+    // When
+    provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+
+    // Then
+    ArgumentCaptor<OnOutdatedPasswordHash> captor = ArgumentCaptor.forClass(OnOutdatedPasswordHash.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertAll(
+        () -> assertEquals(EMAIL, captor.getValue().getEmail(), "Event should carry the user"),
+        () -> assertEquals(PASSWORD, captor.getValue().getRawPassword().toString(),
+            "Event should carry the verified password"),
+        () -> assertEquals(outdatedHash, captor.getValue().getEncodedPassword(),
+            "Event should carry the verified hash")
+    );
+  }
+
+  @Test
+  void shouldNotPublishRehash_When_HashCostIsCurrent() {
+    // Given
+    String currentHash = new BCryptPasswordEncoder(5).encode(PASSWORD);
+    when(userDetailsService.loadUserByUsername(EMAIL))
+        .thenReturn(User.withUsername(EMAIL).password(currentHash).roles("ADMIN").build());
+
+    // When
+    provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+
+    // Then
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+}
@@ -0,0 +1,54 @@
+package org.maxq.authorization.security.crypto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BcryptCostCalibratorTest {
+
+  private final BcryptCostCalibrator calibrator =
+      new BcryptCostCalibrator(10, 14, Duration.ofMillis(250));
+
+  @Test
+  void shouldChooseHighestStrengthWithinTarget() {
+    // Given
+    Duration measured = Duration.ofMillis(50);
+
+    // When
+    int strength = calibrator.chooseStrength(measured);
+
+    // Then
+    assertEquals(12, strength, "Cost 12 (200 ms) fits the target, cost 13 (400 ms) does not");
+  }
+
+  @Test
+  void shouldClampToConfiguredRange() {
+    // Given
+
+    // When
+    int slowHost = calibrator.chooseStrength(Duration.ofMillis(400));
+    int fastHost = calibrator.chooseStrength(Duration.ofNanos(1));
+
+    // Then
+    assertAll(
+        () -> assertEquals(10, slowHost, "Strength should not go below the minimum"),
+        () -> assertEquals(14, fastHost, "Strength should not go above the maximum")
+    );
+  }
+
+  @Test
+  void shouldCalibrateOnThisHost() {
+    // Given
+    BcryptCostCalibrator fastCalibrator = new BcryptCostCalibrator(4, 6, Duration.ofSeconds(10));
+
+    // When
+    int strength = fastCalibrator.calibrate();
+
+    // Then
+    assertTrue(strength >= 4 && strength <= 6, "Calibrated strength should be within range");
+  }
+}
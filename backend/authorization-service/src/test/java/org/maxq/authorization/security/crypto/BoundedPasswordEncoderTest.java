@@ -0,0 +1,150 @@
+package org.maxq.authorization.security.crypto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+  private static final String PASSWORD = "Password123";
+
+  private SimpleMeterRegistry meterRegistry;
+  private CountDownLatch release;
+  private BoundedPasswordEncoder encoder;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    release = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    if (encoder != null) {
+      encoder.destroy();
+    }
+  }
+
+  @Test
+  void shouldEncodeAndMatch_OnHashingPool() {
+    // Given
+    encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4,
+        Duration.ofSeconds(5), meterRegistry);
+
+    // When
+    String encoded = encoder.encode(PASSWORD);
+
+    // Then
+    assertAll(
+        () -> assertTrue(encoder.matches(PASSWORD, encoded), "Password should match its hash"),
+        () -> assertFalse(encoder.matches("other", encoded), "Other password should not match"),
+        () -> assertEquals(1, meterRegistry.get("password.hashing.duration")
+            .tag("operation", "encode").timer().count(), "Encode should be timed"),
+        () -> assertEquals(2, meterRegistry.get("password.hashing.duration")
+            .tag("operation", "matches").timer().count(), "Matches should be timed")
+    );
+  }
+
+  @Test
+  void shouldRejectImmediately_When_QueueIsFull() throws InterruptedException {
+    // Given
+    encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofSeconds(30),
+        meterRegistry);
+    CompletableFuture.runAsync(() -> encoder.matches(PASSWORD, "hash"));
+    CompletableFuture.runAsync(() -> encoder.matches(PASSWORD, "hash"));
+    awaitQueued(1);
+
+    // When
+    long start = System.nanoTime();
+    PasswordHashingRejectedException exception = assertThrows(
+        PasswordHashingRejectedException.class, () -> encoder.matches(PASSWORD, "hash"));
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    // Then
+    assertAll(
+        () -> assertTrue(elapsed < 1000, "Rejection should not wait for the pool, took " + elapsed),
+        () -> assertTrue(exception.getMessage().contains("try again later"), "Message should ask to retry"),
+        () -> assertEquals(1, meterRegistry.get("password.hashing.rejected")
+            .tag("operation", "matches").tag("reason", "queue_full").counter().count(),
+            "Rejection should be counted"),
+        () -> assertEquals(1, meterRegistry.get("password.hashing.queue.size").gauge().value(),
+            "Queue depth should be exported")
+    );
+  }
+
+  @Test
+  void shouldReject_When_HashingTakesLongerThanTimeout() {
+    // Given
+    encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofMillis(100),
+        meterRegistry);
+
+    // When
+    assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode(PASSWORD));
+
+    // Then
+    assertEquals(1, meterRegistry.get("password.hashing.rejected")
+        .tag("operation", "encode").tag("reason", "timeout").counter().count(),
+        "Timeout should be counted");
+  }
+
+  @Test
+  void shouldPropagateDelegateException() {
+    // Given
+    PasswordEncoder delegate = mock(PasswordEncoder.class);
+    when(delegate.encode(any())).thenThrow(new IllegalArgumentException("Test error"));
+    encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+    // When + Then
+    assertThrows(IllegalArgumentException.class, () -> encoder.encode(PASSWORD));
+  }
+
+  private PasswordEncoder blockingEncoder() {
+    return new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        await();
+        return rawPassword.toString();
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        await();
+        return true;
+      }
+    };
+  }
+
+  private void await() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void awaitQueued(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get("password.hashing.queue.size").gauge().value() < expected
+        && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package org.maxq.authorization.security.crypto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CostAwareBCryptPasswordEncoderTest {
+
+  private static final String PASSWORD = "Password123";
+
+  private final CostAwareBCryptPasswordEncoder encoder = new CostAwareBCryptPasswordEncoder(5);
+
+  @Test
+  void shouldUpgrade_When_CostIsLower() {
+    // Given
+    String weaker = new BCryptPasswordEncoder(4).encode(PASSWORD);
+    String stronger = new BCryptPasswordEncoder(6).encode(PASSWORD);
+    String current = encoder.encode(PASSWORD);
+
+    // When + Then
+    assertAll(
+        () -> assertTrue(encoder.upgradeEncoding(weaker), "Lower cost should be upgraded"),
+        () -> assertFalse(encoder.upgradeEncoding(stronger), "Higher cost should be kept"),
+        () -> assertFalse(encoder.upgradeEncoding(current), "Current cost should be kept"),
+        () -> assertTrue(encoder.matches(PASSWORD, weaker), "Old hashes should still match")
+    );
+  }
+
+  @Test
+  void shouldNotUpgrade_When_HashIsNotBcrypt() {
+    // Given
+
+    // When + Then
+    assertAll(
+        () -> assertFalse(encoder.upgradeEncoding(null), "Missing hash should not be upgraded"),
+        () -> assertFalse(encoder.upgradeEncoding(""), "Empty hash should not be upgraded"),
+        () -> assertFalse(encoder.upgradeEncoding("plain"), "Unknown hash should not be upgraded")
+    );
+  }
+}
@@ -0,0 +1,107 @@
+package org.maxq.authorization.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maxq.authorization.domain.Role;
+import org.maxq.authorization.repository.RoleRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RoleRegistryTest {
+
+  private RoleRepository roleRepository;
+  private RoleRegistry roleRegistry;
+
+  private final Role admin = new Role(1L, "ADMIN", List.of());
+  private final Role designer = new Role(2L, "DESIGNER", List.of());
+
+  @BeforeEach
+  void setUp() {
+    roleRepository = mock(RoleRepository.class);
+    roleRegistry = new RoleRegistry(roleRepository);
+  }
+
+  @Test
+  void shouldServeLookupsFromMemory() {
+    // Given
+    when(roleRepository.findAll()).thenReturn(List.of(admin, designer));
+
+    // When
+    Optional<Role> byId = roleRegistry.findById(1L);
+    Optional<Role> byName = roleRegistry.findByName("DESIGNER");
+    List<Role> all = roleRegistry.findAll();
+
+    // Then
+    assertAll(
+        () -> assertEquals(Optional.of(admin), byId, "Role should be found by id"),
+        () -> assertEquals(Optional.of(designer), byName, "Role should be found by name"),
+        () -> assertEquals(List.of(admin, designer), all, "All roles should be returned")
+    );
+    verify(roleRepository, times(1)).findAll();
+  }
+
+  @Test
+  void shouldReload_When_RoleIsUnknown() {
+    // Given
+    Role operator = new Role(3L, "OPERATOR", List.of());
+    when(roleRepository.findAll()).thenReturn(List.of(admin)).thenReturn(List.of(admin, operator));
+    roleRegistry.refresh();
+
+    // When
+    Optional<Role> found = roleRegistry.findByName("OPERATOR");
+
+    // Then
+    assertEquals(Optional.of(operator), found, "New role should be found after reload");
+    verify(roleRepository, times(2)).findAll();
+  }
+
+  @Test
+  void shouldNotReloadAgain_When_UnknownRoleIsRequestedWithinInterval() {
+    // Given
+    when(roleRepository.findAll()).thenReturn(List.of(admin));
+    roleRegistry.refresh();
+
+    // When
+    roleRegistry.findByName("OPERATOR");
+    Optional<Role> found = roleRegistry.findById(5L);
+
+    // Then
+    assertTrue(found.isEmpty(), "Missing role should not be found");
+    verify(roleRepository, times(2)).findAll();
+  }
+
+  @Test
+  void shouldReturnEmpty_When_RoleDoesNotExist() {
+    // Given
+    when(roleRepository.findAll()).thenReturn(List.of(admin));
+
+    // When
+    Optional<Role> found = roleRegistry.findById(5L);
+
+    // Then
+    assertTrue(found.isEmpty(), "Missing role should not be found");
+  }
+
+  @Test
+  void shouldReplaceRoles_When_Refreshed() {
+    // Given
+    when(roleRepository.findAll()).thenReturn(List.of(admin)).thenReturn(List.of(admin, designer));
+    List<Role> before = roleRegistry.findAll();
+
+    // When
+    roleRegistry.refresh();
+    List<Role> after = roleRegistry.findAll();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, before.size(), "Previous roles should not change"),
+        () -> assertEquals(2, after.size(), "Refreshed roles should be returned"),
+        () -> assertThrows(UnsupportedOperationException.class, () -> after.add(admin),
+            "Roles should be immutable")
+    );
+  }
+}
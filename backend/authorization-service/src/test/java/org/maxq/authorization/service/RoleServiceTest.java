@@ -29,6 +29,8 @@ class RoleServiceTest {
 
   @MockitoBean
   private RoleRepository roleRepository;
+  @MockitoBean
+  private RoleRegistry roleRegistry;
 
   private Role role;
 
@@ -49,6 +51,7 @@ class RoleServiceTest {
     assertDoesNotThrow(executable, "Creating new role should not throw any exception");
     verify(roleRepository, atLeast(1))
         .save(argThat(authority -> ROLE_NAME.equals(authority.getName())));
+    verify(roleRegistry, times(1)).refresh();
   }
 
   @Test
@@ -63,12 +66,13 @@ class RoleServiceTest {
     // Then
     assertThrows(DuplicateRoleException.class, executable,
         "Creating duplicated role should throw DuplicateRoleException");
+    verify(roleRegistry, never()).refresh();
   }
 
   @Test
   void shouldFindRoleByName() throws ElementNotFoundException {
     // Given
-    when(roleRepository.findByName(ROLE_NAME)).thenReturn(Optional.of(role));
+    when(roleRegistry.findByName(ROLE_NAME)).thenReturn(Optional.of(role));
 
     // When
     Role foundRole = roleService.getRoleByName(ROLE_NAME);
@@ -80,7 +84,7 @@ class RoleServiceTest {
   @Test
   void shouldThrow_When_RoleNotFound() {
     // Given
-    when(roleRepository.findByName(anyString())).thenReturn(Optional.empty());
+    when(roleRegistry.findByName(anyString())).thenReturn(Optional.empty());
 
     // When
     Executable executable = () -> roleService.getRoleByName("TEST");
@@ -93,7 +97,7 @@ class RoleServiceTest {
   void shouldReturnAllRoles() {
     // Given
     Role role1 = new Role("ROLE1");
-    when(roleRepository.findAll()).thenReturn(List.of(role, role1));
+    when(roleRegistry.findAll()).thenReturn(List.of(role, role1));
 
     // When
     List<Role> foundRoles = roleService.getAllRoles();
@@ -105,7 +109,7 @@ class RoleServiceTest {
   @Test
   void shouldReturnRoleById() throws ElementNotFoundException {
     // Given
-    when(roleRepository.findById(anyLong())).thenReturn(Optional.of(role));
+    when(roleRegistry.findById(anyLong())).thenReturn(Optional.of(role));
 
     // When
     Role foundRole = roleService.getRoleById(1L);
@@ -117,7 +121,7 @@ class RoleServiceTest {
   @Test
   void shouldThrow_When_RoleIdNotFound() {
     // Given
-    when(roleRepository.findById(anyLong())).thenReturn(Optional.empty());
+    when(roleRegistry.findById(anyLong())).thenReturn(Optional.empty());
 
     // When
     Executable executable = () -> roleService.getRoleById(1L);
@@ -125,4 +129,4 @@ class RoleServiceTest {
     // Then
     assertThrows(ElementNotFoundException.class, executable, "Role not found should throw ElementNotFoundException");
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
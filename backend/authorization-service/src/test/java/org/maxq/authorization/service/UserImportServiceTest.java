@@ -0,0 +1,182 @@
+package org.maxq.authorization.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.maxq.authorization.domain.Role;
+import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserImportFormat;
+import org.maxq.authorization.domain.UserImportResult;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.maxq.authorization.domain.exception.DuplicateEmailException;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.maxq.authorization.event.message.RabbitmqMessage;
+import org.maxq.authorization.service.message.MessageService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class UserImportServiceTest {
+
+  @Autowired
+  private UserImportService userImportService;
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @MockitoBean
+  private UserService userService;
+  @MockitoBean
+  private RoleService roleService;
+  @MockitoBean
+  private MessageService<RabbitmqMessage<?>> messageService;
+
+  private Role designer;
+
+  private static InputStream body(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @BeforeEach
+  void setUp() throws ElementNotFoundException {
+    designer = new Role(1L, "DESIGNER", Collections.emptyList());
+    when(roleService.getRoleByName("DESIGNER")).thenReturn(designer);
+    when(roleService.getRoleByName("UNKNOWN")).thenThrow(new ElementNotFoundException("Role missing"));
+    when(userService.getExistingEmails(anyCollection())).thenReturn(Set.of());
+  }
+
+  @Test
+  void shouldImportUsersInBatches_WithHashedPasswords()
+      throws DataValidationException, DuplicateEmailException {
+    // Given
+    String csv = """
+        email,password,firstName,lastName
+        user1@test.com,pass1,User,One
+        user2@test.com,pass2,User,Two
+        user3@test.com,pass3,User,Three
+        """;
+
+    // When
+    UserImportResult result = userImportService.importUsers(body(csv), UserImportFormat.CSV,
+        StandardCharsets.UTF_8);
+
+    // Then
+    assertEquals(3, result.getRows(), "All rows should be counted");
+    assertEquals(3, result.getImported(), "All users should be imported");
+    assertTrue(result.getErrors().isEmpty(), "No errors should be reported");
+    verify(userService, times(2)).createUsers(argThat(users -> users.stream().allMatch(user ->
+        user.isEnabled()
+            && user.getRoles().contains(designer)
+            && passwordEncoder.matches("pass" + user.getEmail().charAt(4), user.getPassword()))));
+    verify(messageService, times(2)).sendMessages(argThat(messages -> messages.stream()
+        .allMatch(message -> "profile.create".equals(message.getTopic()))));
+  }
+
+  @Test
+  void shouldReportRowErrors_AndImportRemainingRows()
+      throws DataValidationException, DuplicateEmailException {
+    // Given
+    String ndjson = """
+        {"email":"ok@test.com","password":"pass","firstName":"Ok","lastName":"Ok"}
+        {"email":"short@test.com","password":"p","firstName":"Short","lastName":"Short"}
+        {"email":"role@test.com","password":"pass","firstName":"R","lastName":"R","roles":["UNKNOWN"]}
+        {"email":"exists@test.com","password":"pass","firstName":"E","lastName":"E"}
+        not json
+        """;
+    when(userService.getExistingEmails(anyCollection())).thenReturn(Set.of("exists@test.com"));
+
+    // When
+    UserImportResult result = userImportService.importUsers(body(ndjson), UserImportFormat.NDJSON,
+        StandardCharsets.UTF_8);
+
+    // Then
+    assertEquals(5, result.getRows(), "All rows should be counted");
+    assertEquals(1, result.getImported(), "Only the valid user should be imported");
+    assertEquals(4, result.getFailed(), "Invalid rows should be counted as failed");
+    assertEquals(List.of(2L, 3L, 4L, 5L),
+        result.getErrors().stream().map(UserImportResult.UserImportError::line).sorted().toList(),
+        "Errors should point at the failing lines");
+    verify(userService, times(1)).createUsers(argThat(users -> users.size() == 1
+        && "ok@test.com".equals(users.getFirst().getEmail())));
+  }
+
+  @Test
+  void shouldRetryOneByOne_When_BatchFails()
+      throws DataValidationException, DuplicateEmailException {
+    // Given
+    String csv = """
+        email,password,firstName,lastName
+        user1@test.com,pass1,User,One
+        taken@test.com,pass2,User,Two
+        """;
+    doThrow(new DuplicateEmailException("Duplicate", null)).when(userService).createUsers(anyList());
+    doThrow(new DuplicateEmailException("Duplicate", null)).when(userService)
+        .createUser(argThat((User user) -> "taken@test.com".equals(user.getEmail())));
+
+    // When
+    UserImportResult result = userImportService.importUsers(body(csv), UserImportFormat.CSV,
+        StandardCharsets.UTF_8);
+
+    // Then
+    assertEquals(1, result.getImported(), "Users not conflicting should still be imported");
+    assertEquals("taken@test.com", result.getErrors().getFirst().email(),
+        "Conflicting user should be reported");
+    verify(userService, times(2)).createUser(any(User.class));
+    verify(messageService, times(1)).sendMessages(argThat(messages -> messages.size() == 1));
+  }
+
+  @Test
+  void shouldReturnPartialResult_When_BodyBreaksMidway() throws DataValidationException, IOException {
+    // Given
+    String csv = """
+        email,password,firstName,lastName
+        user1@test.com,pass1,User,One
+        user2@test.com,pass2,User,Two
+        user3@test.com,pass3,User,Three
+        """;
+    InputStream broken = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new IOException("Connection reset");
+      }
+    };
+
+    // When
+    UserImportResult result;
+    try (InputStream body = new SequenceInputStream(body(csv), broken)) {
+      result = userImportService.importUsers(body, UserImportFormat.CSV, StandardCharsets.UTF_8);
+    }
+
+    // Then
+    assertEquals(3, result.getImported(), "Rows read before the failure should be imported");
+    assertEquals(5L, result.getErrors().getFirst().line(),
+        "Error should point at the line where the body broke");
+  }
+
+  @Test
+  void shouldThrow_When_CsvHeaderIsInvalid() {
+    // Given
+    String csv = "firstName,lastName\nUser,One\n";
+
+    // When
+    Executable executable = () -> userImportService.importUsers(body(csv), UserImportFormat.CSV,
+        StandardCharsets.UTF_8);
+
+    // Then
+    assertThrows(DataValidationException.class, executable);
+  }
+}
@@ -0,0 +1,106 @@
+package org.maxq.authorization.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.maxq.authorization.config.MockitoPublisherConfiguration;
+import org.maxq.authorization.domain.UserEmail;
+import org.maxq.authorization.domain.UserRolesChange;
+import org.maxq.authorization.domain.exception.DataValidationException;
+import org.maxq.authorization.domain.exception.ElementNotFoundException;
+import org.maxq.authorization.event.OnUserChanged;
+import org.maxq.authorization.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@Import(MockitoPublisherConfiguration.class)
+class UserRoleServiceTest {
+
+  @Autowired
+  private UserRoleService userRoleService;
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @MockitoBean
+  private UserRepository userRepository;
+  @MockitoBean
+  private RoleService roleService;
+
+  @BeforeEach
+  void setUp() {
+    clearInvocations(eventPublisher);
+  }
+
+  @Test
+  void shouldChangeRolesInBulk_AndReportChangedUsers()
+      throws ElementNotFoundException, DataValidationException {
+    // Given
+    Set<Long> userIds = Set.of(1L, 2L, 3L);
+    when(userRepository.findUserEmailsByIdIn(userIds)).thenReturn(List.of(
+        new UserEmail(1L, "first@test.com"), new UserEmail(2L, "second@test.com")));
+    when(userRepository.findIdsMissingAnyRole(Set.of(1L, 2L), Set.of(10L))).thenReturn(List.of(2L));
+    when(userRepository.findIdsHavingAnyRole(Set.of(1L, 2L), Set.of(20L))).thenReturn(List.of());
+
+    // When
+    UserRolesChange change = userRoleService.changeRoles(userIds, Set.of(10L), Set.of(20L));
+
+    // Then
+    assertEquals(List.of(2L), change.getChangedUserIds(), "Only user missing the role changed");
+    assertEquals(List.of(3L), change.getNotFoundUserIds(), "Unknown user should be reported");
+    verify(userRepository, times(1)).insertRoles(Set.of(1L, 2L), Set.of(10L));
+    verify(userRepository, times(1)).deleteRoles(Set.of(1L, 2L), Set.of(20L));
+    verify(eventPublisher, times(1)).publishEvent(
+        argThat((OnUserChanged event) -> "second@test.com".equals(event.getEmail())));
+  }
+
+  @Test
+  void shouldNotChangeRoles_When_NoUserExists()
+      throws ElementNotFoundException, DataValidationException {
+    // Given
+    when(userRepository.findUserEmailsByIdIn(Set.of(1L))).thenReturn(List.of());
+
+    // When
+    UserRolesChange change = userRoleService.changeRoles(Set.of(1L), Set.of(10L), Set.of());
+
+    // Then
+    assertEquals(List.of(1L), change.getNotFoundUserIds(), "Unknown user should be reported");
+    verify(userRepository, never()).insertRoles(anyCollection(), anyCollection());
+    verify(eventPublisher, never()).publishEvent(any(OnUserChanged.class));
+  }
+
+  @Test
+  void shouldThrow_When_RoleIsAddedAndRemovedAtOnce() {
+    // Given
+    Set<Long> roleIds = Set.of(10L);
+
+    // When
+    Executable executable = () -> userRoleService.changeRoles(Set.of(1L), roleIds, roleIds);
+
+    // Then
+    assertThrows(DataValidationException.class, executable);
+    verify(userRepository, never()).insertRoles(anyCollection(), anyCollection());
+  }
+
+  @Test
+  void shouldThrow_When_ChangedRoleDoesNotExist() throws ElementNotFoundException {
+    // Given
+    when(roleService.getRoleById(10L)).thenThrow(new ElementNotFoundException("Role missing"));
+
+    // When
+    Executable executable = () -> userRoleService.changeRoles(Set.of(1L), Set.of(10L), Set.of());
+
+    // Then
+    assertThrows(ElementNotFoundException.class, executable);
+    verify(userRepository, never()).findUserEmailsByIdIn(anyCollection());
+  }
+}
@@ -3,13 +3,23 @@ package org.maxq.authorization.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.maxq.authorization.config.MockitoPublisherConfiguration;
+import org.maxq.authorization.domain.EmailMatch;
 import org.maxq.authorization.domain.Role;
 import org.maxq.authorization.domain.User;
+import org.maxq.authorization.domain.UserCursor;
+import org.maxq.authorization.domain.UserSearch;
+import org.maxq.authorization.domain.UserSortKey;
+import org.maxq.authorization.domain.UserWindow;
 import org.maxq.authorization.domain.exception.*;
+import org.maxq.authorization.event.OnUserChanged;
 import org.maxq.authorization.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -22,10 +32,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
+@Import(MockitoPublisherConfiguration.class)
 class UserServiceTest {
 
   @Autowired
   private UserService userService;
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
 
   @MockitoBean
   private UserRepository userRepository;
@@ -39,6 +52,7 @@ class UserServiceTest {
   void createUser() {
     role = new Role(1L, "admin", Collections.emptyList());
     user = new User(1L, "test@test.com", "test", false, Set.of(role));
+    clearInvocations(eventPublisher);
   }
 
 
@@ -81,6 +95,52 @@ class UserServiceTest {
         "Service should throw DataValidationException when Transaction error detected");
   }
 
+  @Test
+  void shouldCreateUsers_AndPublishChangePerUser() {
+    // Given
+    User other = new User(2L, "other@test.com", "test", true, Set.of(role));
+    List<User> users = List.of(user, other);
+
+    // When
+    Executable executable = () -> userService.createUsers(users);
+
+    // Then
+    assertDoesNotThrow(executable, "Service should not throw when correctly saving users");
+    verify(userRepository, times(1)).saveAll(users);
+    verify(eventPublisher, times(2)).publishEvent(any(OnUserChanged.class));
+  }
+
+  @Test
+  void shouldThrowDuplicateException_When_BatchIntegrityException() {
+    // Given
+    List<User> users = List.of(user);
+    when(userRepository.saveAll(users)).thenThrow(DataIntegrityViolationException.class);
+
+    // When
+    Executable executable = () -> userService.createUsers(users);
+
+    // Then
+    assertThrows(DuplicateEmailException.class, executable,
+        "Service should throw DuplicateException when Integrity error detected");
+    verify(eventPublisher, never()).publishEvent(any(OnUserChanged.class));
+  }
+
+  @Test
+  void shouldReturnExistingEmails() {
+    // Given
+    List<String> emails = List.of("test@test.com", "new@test.com");
+    when(userRepository.findEmailsByEmailIn(emails)).thenReturn(List.of("test@test.com"));
+
+    // When
+    Set<String> existing = userService.getExistingEmails(emails);
+
+    // Then
+    assertEquals(Set.of("test@test.com"), existing, "Only stored emails should be returned");
+    assertTrue(userService.getExistingEmails(List.of()).isEmpty(),
+        "No emails should be looked up for an empty list");
+    verify(userRepository, times(1)).findEmailsByEmailIn(anyCollection());
+  }
+
   @Test
   void shouldUpdateUser_When_ValidDataProvided() {
     // Given
@@ -93,6 +153,8 @@ class UserServiceTest {
     // Then
     assertDoesNotThrow(executable, "Service should not throw when correctly saving user");
     verify(userRepository, times(1)).save(user);
+    verify(eventPublisher, times(1)).publishEvent(
+        argThat((OnUserChanged event) -> user.getEmail().equals(event.getEmail())));
   }
 
   @Test
@@ -176,6 +238,110 @@ class UserServiceTest {
     );
   }
 
+  @Test
+  void shouldReturnUsersAfterCursor_InKeyOrder() throws DataValidationException {
+    // Given
+    User user2 = new User(2L, "a@test.com", "test", true, Set.of(role));
+    User user3 = new User(3L, "b@test.com", "test", true, Set.of(role));
+    UserCursor cursor = new UserCursor(UserSortKey.EMAIL, "0@test.com");
+    when(userRepository.findIdsAfterEmail("0@test.com", Limit.of(3)))
+        .thenReturn(List.of(2L, 3L, 1L));
+    when(userRepository.findAllWithRolesByIdIn(List.of(2L, 3L)))
+        .thenReturn(List.of(user3, user2));
+
+    // When
+    UserWindow window = userService.getUsersAfter(cursor, 2, false);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(user2, user3), window.getContent(),
+            "Users should keep the order of the key"),
+        () -> assertTrue(window.isHasNext(), "Window should have next users"),
+        () -> assertNull(window.getTotalElements(), "Users should not be counted")
+    );
+    verify(userRepository, never()).count();
+  }
+
+  @Test
+  void shouldCountUsers_When_FirstPageRequested() throws DataValidationException {
+    // Given
+    when(userRepository.findIdsAfterId(0L, Limit.of(11))).thenReturn(List.of(1L));
+    when(userRepository.findAllWithRolesByIdIn(List.of(1L))).thenReturn(List.of(user));
+    when(userRepository.count()).thenReturn(1L);
+
+    // When
+    UserWindow window = userService.getUsersAfter(UserCursor.first(UserSortKey.ID), 10, true);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(user), window.getContent(), "User should be returned"),
+        () -> assertFalse(window.isHasNext(), "Window should be the last one"),
+        () -> assertEquals(1L, window.getTotalElements(), "Users should be counted")
+    );
+  }
+
+  @Test
+  void shouldThrow_When_CursorPageSizeIsNotPositive() {
+    // Given
+    UserCursor cursor = UserCursor.first(UserSortKey.ID);
+
+    // When
+    Executable executable = () -> userService.getUsersAfter(cursor, 0, false);
+
+    // Then
+    assertThrows(DataValidationException.class, executable);
+    verifyNoInteractions(userRepository);
+  }
+
+  @Test
+  void shouldSearchUsers_WithEscapedEmailPattern() throws DataValidationException {
+    // Given
+    UserSearch search = new UserSearch("Te_st%", EmailMatch.CONTAINS, "admin", true);
+    when(userRepository.searchIds("%te\\_st\\%%", "", true, "admin", Limit.of(11)))
+        .thenReturn(List.of(1L));
+    when(userRepository.findAllWithRolesByIdIn(List.of(1L))).thenReturn(List.of(user));
+
+    // When
+    UserWindow window = userService.searchUsers(search, UserCursor.first(UserSortKey.EMAIL), 10);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(user), window.getContent(), "User should be found"),
+        () -> assertEquals(UserSortKey.EMAIL, window.getKey(), "Users should be ordered by email"),
+        () -> assertFalse(window.isHasNext(), "Window should be the last one")
+    );
+  }
+
+  @Test
+  void shouldSearchAllUsersByPrefix_When_NoFiltersGiven() throws DataValidationException {
+    // Given
+    UserSearch search = new UserSearch(null, EmailMatch.PREFIX, null, null);
+    UserCursor cursor = new UserCursor(UserSortKey.EMAIL, "a@test.com");
+    when(userRepository.searchIds("%", "a@test.com", null, null, Limit.of(3)))
+        .thenReturn(List.of());
+
+    // When
+    UserWindow window = userService.searchUsers(search, cursor, 2);
+
+    // Then
+    assertTrue(window.getContent().isEmpty(), "No users should be found");
+    verify(userRepository, never()).findAllWithRolesByIdIn(any());
+  }
+
+  @Test
+  void shouldThrow_When_SearchCursorIsNotOrderedByEmail() {
+    // Given
+    UserSearch search = new UserSearch(null, EmailMatch.PREFIX, null, null);
+    UserCursor cursor = new UserCursor(UserSortKey.ID, "1");
+
+    // When
+    Executable executable = () -> userService.searchUsers(search, cursor, 10);
+
+    // Then
+    assertThrows(DataValidationException.class, executable);
+    verifyNoInteractions(userRepository);
+  }
+
   @Test
   void shouldReturnUserById() throws ElementNotFoundException {
     // Given
@@ -219,6 +385,7 @@ class UserServiceTest {
     verify(userRepository, times(1))
         .save(argThat(updatedUser -> updatedUser.getRoles().contains(newRole)));
     assertTrue(userToUpdate.getRoles().contains(newRole), "Role should be added to user");
+    verify(eventPublisher, times(1)).publishEvent(any(OnUserChanged.class));
   }
 
   @Test
@@ -234,6 +401,7 @@ class UserServiceTest {
 
     // Then
     assertThrows(RoleAlreadyExistsException.class, executable);
+    verify(eventPublisher, never()).publishEvent(any(OnUserChanged.class));
   }
 
   @Test
@@ -251,6 +419,7 @@ class UserServiceTest {
     verify(userRepository, times(1))
         .save(argThat(updatedUser -> !updatedUser.getRoles().contains(deleteRole)));
     assertFalse(userToUpdate.getRoles().contains(deleteRole), "Role should be removed from user");
+    verify(eventPublisher, times(1)).publishEvent(any(OnUserChanged.class));
   }
 
   @Test
@@ -267,4 +436,4 @@ class UserServiceTest {
     // Then
     assertThrows(RoleDoesNotExistException.class, executable);
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package org.maxq.authorization.service.imports;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.maxq.authorization.domain.UserImportRow;
+import org.maxq.authorization.domain.dto.ImportUserDto;
+import org.maxq.authorization.domain.exception.DataValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvUserImportReaderTest {
+
+  private static CsvUserImportReader reader(String body) throws IOException, DataValidationException {
+    return new CsvUserImportReader(new BufferedReader(new StringReader(body)));
+  }
+
+  @Test
+  void shouldReadRow_ByHeaderColumns() throws IOException, DataValidationException {
+    // Given
+    String body = """
+        Email,Password,FirstName,LastName,Roles
+        test@test.com,pass1,"Smith, Jr.",Doe,ADMIN|DESIGNER
+        """;
+
+    // When
+    UserImportRow row;
+    try (CsvUserImportReader reader = reader(body)) {
+      row = reader.next();
+      assertNull(reader.next(), "Reader should return null at the end of the body");
+    }
+
+    // Then
+    ImportUserDto user = row.getUser();
+    assertEquals("test@test.com", user.getEmail(), "Email should be read");
+    assertEquals("Smith, Jr.", user.getFirstName(), "Quoted value should keep separator");
+    assertNull(user.getMiddleName(), "Missing column should be null");
+    assertEquals(List.of("ADMIN", "DESIGNER"), user.getRoles(), "Roles should be split");
+  }
+
+  @Test
+  void shouldSkipBlankLines_AndUnescapeQuotes() throws IOException, DataValidationException {
+    // Given
+    String body = """
+        email,password,firstName,lastName,roles
+
+        other@test.com,"a""b",Anna,Nowak,
+        """;
+
+    // When
+    UserImportRow row;
+    try (CsvUserImportReader reader = reader(body)) {
+      row = reader.next();
+    }
+
+    // Then
+    assertEquals(3, row.getLine(), "Blank line should be skipped but counted");
+    assertEquals("a\"b", row.getUser().getPassword(), "Escaped quote should be unescaped");
+    assertEquals(List.of(), row.getUser().getRoles(), "Empty roles should give an empty list");
+  }
+
+  @Test
+  void shouldReportUnterminatedQuote() throws IOException, DataValidationException {
+    // Given
+    String body = "email,password\n\"test@test.com,pass\n";
+
+    // When
+    UserImportRow row;
+    try (CsvUserImportReader reader = reader(body)) {
+      row = reader.next();
+    }
+
+    // Then
+    assertNull(row.getUser(), "Row should not be parsed");
+    assertNotNull(row.getError(), "Row should carry the parse error");
+  }
+
+  @Test
+  void shouldThrow_When_HeaderMissesRequiredColumns() {
+    // Given
+    String body = "email,firstName\ntest@test.com,Test\n";
+
+    // When
+    Executable executable = () -> reader(body);
+
+    // Then
+    assertThrows(DataValidationException.class, executable);
+  }
+}
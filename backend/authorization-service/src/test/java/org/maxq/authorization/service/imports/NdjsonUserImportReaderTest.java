@@ -0,0 +1,40 @@
+package org.maxq.authorization.service.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.maxq.authorization.domain.UserImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonUserImportReaderTest {
+
+  @Test
+  void shouldReadRows_AndReportMalformedLines() throws IOException {
+    // Given
+    String body = """
+        {"email":"test@test.com","password":"pass","firstName":"Test","lastName":"Test","roles":["ADMIN"]}
+        {"email":
+
+        {"email":"other@test.com","password":"pass"}
+        """;
+
+    // When
+    List<UserImportRow> rows;
+    try (NdjsonUserImportReader reader =
+             new NdjsonUserImportReader(new BufferedReader(new StringReader(body)), new ObjectMapper())) {
+      rows = List.of(reader.next(), reader.next(), reader.next());
+      assertNull(reader.next(), "Reader should return null at the end of the body");
+    }
+
+    // Then
+    assertEquals("test@test.com", rows.getFirst().getUser().getEmail(), "Email should be read");
+    assertNull(rows.get(1).getUser(), "Malformed line should not be parsed");
+    assertEquals(2, rows.get(1).getLine(), "Malformed line number should be reported");
+    assertEquals(4, rows.get(2).getLine(), "Blank line should be skipped but counted");
+  }
+}
@@ -0,0 +1,147 @@
+package org.maxq.authorization.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class WarmUpRunnerTest {
+
+  private ApplicationInfoManager applicationInfoManager;
+  private ObjectProvider<ApplicationInfoManager> applicationInfoManagerProvider;
+
+  @BeforeEach
+  void setUp() {
+    applicationInfoManager = mock(ApplicationInfoManager.class);
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("applicationInfoManager", applicationInfoManager);
+    applicationInfoManagerProvider = beanFactory.getBeanProvider(ApplicationInfoManager.class);
+  }
+
+  @Test
+  void shouldRunTasksForAllIterations_BeforeReportingUp() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+    WarmUpRunner runner = runner(List.of(task("counting", calls::incrementAndGet)),
+        Duration.ofSeconds(10), 5);
+
+    // When
+    runner.start().join();
+
+    // Then
+    assertEquals(5, calls.get(), "Task should run once per iteration");
+    verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+  }
+
+  @Test
+  void shouldSkipFailingTask_And_KeepRunningOthers() {
+    // Given
+    AtomicInteger failingCalls = new AtomicInteger();
+    AtomicInteger workingCalls = new AtomicInteger();
+    WarmUpRunner runner = runner(List.of(
+        task("failing", () -> {
+          failingCalls.incrementAndGet();
+          throw new IllegalStateException("Test error");
+        }),
+        task("working", workingCalls::incrementAndGet)
+    ), Duration.ofSeconds(10), 3);
+
+    // When
+    runner.start().join();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, failingCalls.get(), "Failing task should not be retried"),
+        () -> assertEquals(3, workingCalls.get(), "Other tasks should keep running")
+    );
+    verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+  }
+
+  @Test
+  void shouldReportUp_When_BudgetExpires() throws InterruptedException {
+    // Given
+    CountDownLatch release = new CountDownLatch(1);
+    WarmUpRunner runner = runner(List.of(task("hanging", release::await)),
+        Duration.ofMillis(200), 5);
+
+    // When
+    long start = System.nanoTime();
+    runner.start().join();
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    release.countDown();
+
+    // Then
+    assertTrue(elapsed < 5000, "Warm-up should be cut at the budget, took " + elapsed + " ms");
+    verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+  }
+
+  @Test
+  void shouldReportUpImmediately_When_Disabled() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+    WarmUpRunner runner = new WarmUpRunner(List.of(task("counting", calls::incrementAndGet)),
+        applicationInfoManagerProvider, false, Duration.ofSeconds(10), 5);
+
+    // When
+    runner.start().join();
+
+    // Then
+    assertEquals(0, calls.get(), "Tasks should not run when warm-up is disabled");
+    verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+  }
+
+  @Test
+  void shouldNotReportUp_BeforeWarmUpFinishes() throws InterruptedException {
+    // Given
+    CountDownLatch release = new CountDownLatch(1);
+    WarmUpRunner runner = runner(List.of(task("waiting", release::await)),
+        Duration.ofSeconds(10), 1);
+
+    // When
+    var result = runner.start();
+
+    // Then
+    verify(applicationInfoManager, never()).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+    release.countDown();
+    result.join();
+    verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+  }
+
+  private WarmUpRunner runner(List<WarmUpTask> tasks, Duration budget, int iterations) {
+    return new WarmUpRunner(tasks, applicationInfoManagerProvider, true, budget, iterations);
+  }
+
+  private static WarmUpTask task(String name, ThrowingRunnable action) {
+    return new WarmUpTask() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public void run() throws Exception {
+        action.run();
+      }
+    };
+  }
+
+  @FunctionalInterface
+  private interface ThrowingRunnable {
+    void run() throws Exception;
+  }
+}
@@ -6,6 +6,8 @@ import org.maxq.profileservice.config.controller.CustomAccessDeniedHandler;
 import org.maxq.profileservice.config.controller.CustomAuthenticationFailureHandler;
 import org.maxq.profileservice.security.authentication.converter.JwtHeadersAuthenticationConverter;
 import org.maxq.profileservice.security.validator.RobotJwtValidator;
+import org.maxq.profileservice.security.validator.UserHeadersJwtValidator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -16,6 +18,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtValidators;
@@ -28,6 +31,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import javax.crypto.SecretKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.List;
 
@@ -38,13 +42,18 @@ import java.util.List;
 @Slf4j
 public class WebSecurityConfig {
 
+  private static final String HMAC_MODE = "hmac";
+
   @Value("${frontend.url}")
   private String frontendUrl;
 
+  @Value("${jwt.internal-auth.mode:rsa}")
+  private String internalAuthMode;
+
   @Bean
   public SecurityFilterChain filterChainHeaders(
       HttpSecurity http,
-      @Qualifier("robot") RSAPublicKey publicKey,
+      JwtDecoder jwtDecoder,
       JwtHeadersAuthenticationConverter jwtHeadersAuthenticationConverter) throws Exception {
     http.securityMatcher("/**")
         .authorizeHttpRequests(
@@ -54,7 +63,7 @@ public class WebSecurityConfig {
         .oauth2ResourceServer(oauth2 ->
             oauth2.jwt(jwtConfigurer ->
                     jwtConfigurer
-                        .decoder(nimbusJwtDecoder(publicKey))
+                        .decoder(jwtDecoder)
                         .jwtAuthenticationConverter(jwtHeadersAuthenticationConverter))
                 .authenticationEntryPoint(authenticationFailureHandler()))
         .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -72,13 +81,24 @@ public class WebSecurityConfig {
 
 
   @Bean
-  public JwtDecoder nimbusJwtDecoder(@Qualifier("robot") RSAPublicKey publicKey) {
+  public JwtDecoder nimbusJwtDecoder(
+      @Qualifier("robot") RSAPublicKey publicKey,
+      @Qualifier("internal") ObjectProvider<SecretKey> internalSecretKey) {
     OAuth2TokenValidator<Jwt> withIssuer
         = JwtValidators.createDefaultWithIssuer("api-gateway-service");
     OAuth2TokenValidator<Jwt> customValidator = new RobotJwtValidator();
     OAuth2TokenValidator<Jwt> combinedValidator = new DelegatingOAuth2TokenValidator<>(withIssuer,
         customValidator);
 
+    if (HMAC_MODE.equals(internalAuthMode)) {
+      NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(internalSecretKey.getObject())
+          .macAlgorithm(MacAlgorithm.HS256)
+          .build();
+      decoder.setJwtValidator(
+          new DelegatingOAuth2TokenValidator<>(combinedValidator, new UserHeadersJwtValidator()));
+      return decoder;
+    }
+
     NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
     decoder.setJwtValidator(combinedValidator);
     return decoder;
@@ -21,6 +21,7 @@ import org.maxq.profileservice.service.ProfileService;
 import org.maxq.profileservice.service.message.publisher.MessageService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @Slf4j
 @RestController
@@ -36,6 +38,10 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class ProfileController implements ProfileApi {
 
+  // Each upload stores the image under a new name, which therefore serves as its ETag
+  private static final CacheControl IMAGE_CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofSeconds(30)).cachePrivate();
+
   private final ProfileService profileService;
   private final ProfileImageService profileImageService;
   private final ProfileMapper profileMapper;
@@ -94,6 +100,8 @@ public class ProfileController implements ProfileApi {
 
     Resource imageResource = profileImageService.getProfileImageFromStorage(profileImage);
     return ResponseEntity.ok()
+        .cacheControl(IMAGE_CACHE_CONTROL)
+        .eTag(profileImage.getName())
         .contentType(MediaType.IMAGE_JPEG)
         .contentLength(imageResource.contentLength())
         .body(imageResource);
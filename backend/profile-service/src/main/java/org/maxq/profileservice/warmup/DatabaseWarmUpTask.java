@@ -0,0 +1,48 @@
+package org.maxq.profileservice.warmup;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import lombok.RequiredArgsConstructor;
+import org.maxq.profileservice.repository.ProfileRepository;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Opens the minimum idle connections of the pool up front and runs the profile lookup used by
+ * every profile request.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseWarmUpTask implements WarmUpTask {
+
+  private static final String WARM_UP_EMAIL = "warm-up@maxq.com";
+
+  private final DataSource dataSource;
+  private final ProfileRepository profileRepository;
+
+  @Override
+  public String getName() {
+    return "database";
+  }
+
+  @Override
+  public void run() throws SQLException {
+    openPool();
+    profileRepository.findByEmail(WARM_UP_EMAIL);
+  }
+
+  private void openPool() throws SQLException {
+    openConnections(dataSource instanceof HikariConfigMXBean config ? config.getMinimumIdle() : 1);
+  }
+
+  private void openConnections(int remaining) throws SQLException {
+    if (remaining <= 0) {
+      return;
+    }
+    try (Connection ignored = dataSource.getConnection()) {
+      openConnections(remaining - 1);
+    }
+  }
+}
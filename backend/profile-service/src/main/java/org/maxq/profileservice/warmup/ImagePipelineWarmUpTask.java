@@ -0,0 +1,62 @@
+package org.maxq.profileservice.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.maxq.profileservice.domain.InMemoryFile;
+import org.maxq.profileservice.domain.exception.FileValidationException;
+import org.maxq.profileservice.domain.exception.ImageProcessingException;
+import org.maxq.profileservice.service.image.ImageService;
+import org.maxq.profileservice.service.message.handler.ProfileImageUploadHandler;
+import org.maxq.profileservice.service.validation.ValidationServiceFactory;
+import org.springframework.stereotype.Component;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * Sends a generated JPEG through content validation and the processing pipeline of uploaded
+ * images, without storing it.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImagePipelineWarmUpTask implements WarmUpTask {
+
+  private static final int WIDTH = 1600;
+  private static final int HEIGHT = 1200;
+
+  private final ImageService imageService;
+  private final ValidationServiceFactory validationFactory;
+  private final ProfileImageUploadHandler profileImageUploadHandler;
+  // Drawn on the first run, so a disabled warm-up never allocates it
+  private BufferedImage sourceImage;
+
+  @Override
+  public String getName() {
+    return "image-pipeline";
+  }
+
+  @Override
+  public void run() throws IOException, ImageProcessingException, FileValidationException {
+    if (sourceImage == null) {
+      sourceImage = createSourceImage();
+    }
+    InMemoryFile file = imageService.writeToJpeg(sourceImage);
+
+    validationFactory.createImageContentValidationService(file)
+        .validateSignature()
+        .validateRealContent()
+        .validateMetadata()
+        .validate();
+
+    profileImageUploadHandler.processImage(file);
+  }
+
+  private static BufferedImage createSourceImage() {
+    BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setPaint(new GradientPaint(0, 0, Color.BLUE, WIDTH, HEIGHT, Color.ORANGE));
+    graphics.fillRect(0, 0, WIDTH, HEIGHT);
+    graphics.dispose();
+    return image;
+  }
+}
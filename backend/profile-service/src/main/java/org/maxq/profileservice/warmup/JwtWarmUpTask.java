@@ -0,0 +1,72 @@
+package org.maxq.profileservice.warmup;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+
+/**
+ * Runs a token signed with a throwaway key through the request decoder. The decoder rejects it,
+ * which still exercises parsing and signature verification.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtWarmUpTask implements WarmUpTask {
+
+  private static final int KEY_SIZE = 2048;
+
+  private final JwtDecoder jwtDecoder;
+  // Signed on the first run, so a disabled warm-up never generates a key
+  private String token;
+
+  @Override
+  public String getName() {
+    return "jwt";
+  }
+
+  @Override
+  public void run() throws NoSuchAlgorithmException {
+    if (token == null) {
+      token = signWithThrowawayKey();
+    }
+    try {
+      jwtDecoder.decode(token);
+    } catch (JwtException e) {
+      log.trace("Warm-up token rejected as expected: {}", e.getMessage());
+    }
+  }
+
+  private static String signWithThrowawayKey() throws NoSuchAlgorithmException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(KEY_SIZE);
+    KeyPair keyPair = generator.generateKeyPair();
+    RSAKey rsaKey = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+        .privateKey((RSAPrivateKey) keyPair.getPrivate())
+        .build();
+
+    JwtClaimsSet claimsSet = JwtClaimsSet.builder()
+        .issuer("api-gateway-service")
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plusSeconds(3600))
+        .subject("warm-up")
+        .build();
+    return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(rsaKey)))
+        .encode(JwtEncoderParameters.from(claimsSet))
+        .getTokenValue();
+  }
+}
@@ -0,0 +1,42 @@
+package org.maxq.profileservice.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Opens the TLS connection pool of the image bucket client. Any response from S3, including an
+ * error status, means the connection is established.
+ */
+@Slf4j
+@Component
+@Profile("!QA & !SIT")
+public class S3WarmUpTask implements WarmUpTask {
+
+  private final S3Client profileImageUploadClient;
+  private final HeadBucketRequest request;
+
+  public S3WarmUpTask(S3Client profileImageUploadClient,
+                      @Value("${aws.s3.profile-images.bucket}") String bucket) {
+    this.profileImageUploadClient = profileImageUploadClient;
+    this.request = HeadBucketRequest.builder().bucket(bucket).build();
+  }
+
+  @Override
+  public String getName() {
+    return "s3";
+  }
+
+  @Override
+  public void run() {
+    try {
+      profileImageUploadClient.headBucket(request);
+    } catch (S3Exception e) {
+      log.debug("Warm-up bucket check returned status {}", e.statusCode());
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package org.maxq.profileservice.warmup;
+
+/**
+ * Synthetic call through a hot path, repeated by {@link WarmUpRunner} before the instance is
+ * reported UP to Eureka.
+ */
+public interface WarmUpTask {
+
+  String getName();
+
+  void run() throws Exception;
+}
@@ -363,6 +363,8 @@ class ProfileControllerTest {
             .header("X-User", EMAIL)
             .header("X-User-Roles", ROLES))
         .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, private"))
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"test.jpeg\""))
         .andExpect(MockMvcResultMatchers.content().contentType(MediaType.IMAGE_JPEG))
         .andExpect(MockMvcResultMatchers.content().bytes(mockMultipartFile.getBytes()));
   }
@@ -430,4 +432,4 @@ class ProfileControllerTest {
         .andExpect(MockMvcResultMatchers.status().isInternalServerError())
         .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.is(error)));
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
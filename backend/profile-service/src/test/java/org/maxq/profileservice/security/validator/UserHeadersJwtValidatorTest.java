@@ -0,0 +1,151 @@
+package org.maxq.profileservice.security.validator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserHeadersJwtValidatorTest {
+
+  private final OAuth2TokenValidator<Jwt> validator = new UserHeadersJwtValidator();
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void shouldValidate_When_HeadersMatchToken() {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-User", "test@test.com");
+    request.addHeader("X-User-Roles", "ROLE_USER");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    Jwt jwt = buildJwt("test@test.com", "ROLE_USER");
+
+    // When
+    OAuth2TokenValidatorResult result = validator.validate(jwt);
+
+    // Then
+    assertFalse(result.hasErrors(), "Result should not have errors");
+  }
+
+  @Test
+  void shouldValidate_When_NoHeadersAndNoUserClaims() {
+    // Given
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    Jwt jwt = buildJwt(null, null);
+
+    // When
+    OAuth2TokenValidatorResult result = validator.validate(jwt);
+
+    // Then
+    assertFalse(result.hasErrors(), "Result should not have errors");
+  }
+
+  @Test
+  void shouldValidate_When_UserHeaderReplaced() {
+    // Given
+    OAuth2Error error = new OAuth2Error("invalid_user", "X-User header does not match the token", null);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-User", "admin@test.com");
+    request.addHeader("X-User-Roles", "ROLE_USER");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    Jwt jwt = buildJwt("test@test.com", "ROLE_USER");
+
+    // When
+    OAuth2TokenValidatorResult result = validator.validate(jwt);
+
+    // Then
+    assertTrue(result.hasErrors(), "Result should have errors");
+    assertEquals(1, result.getErrors().size(), "Result should contain only one error");
+    OAuth2Error actualError = result.getErrors().stream().toList().getFirst();
+    assertAll(
+        () -> assertEquals(error.getErrorCode(), actualError.getErrorCode(),
+            "Error code should be equal"),
+        () -> assertEquals(error.getDescription(), actualError.getDescription(),
+            "Error description should be equal")
+    );
+  }
+
+  @Test
+  void shouldValidate_When_RolesHeaderAddedWithoutClaim() {
+    // Given
+    OAuth2Error error =
+        new OAuth2Error("invalid_user_roles", "X-User-Roles header does not match the token", null);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-User-Roles", "ROLE_ADMIN");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    Jwt jwt = buildJwt(null, null);
+
+    // When
+    OAuth2TokenValidatorResult result = validator.validate(jwt);
+
+    // Then
+    assertTrue(result.hasErrors(), "Result should have errors");
+    assertEquals(1, result.getErrors().size(), "Result should contain only one error");
+    OAuth2Error actualError = result.getErrors().stream().toList().getFirst();
+    assertAll(
+        () -> assertEquals(error.getErrorCode(), actualError.getErrorCode(),
+            "Error code should be equal"),
+        () -> assertEquals(error.getDescription(), actualError.getDescription(),
+            "Error description should be equal")
+    );
+  }
+
+  @Test
+  void shouldValidate_When_UserHeaderDuplicated() {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-User", "test@test.com");
+    request.addHeader("X-User", "admin@test.com");
+    request.addHeader("X-User-Roles", "ROLE_USER");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    Jwt jwt = buildJwt("test@test.com", "ROLE_USER");
+
+    // When
+    OAuth2TokenValidatorResult result = validator.validate(jwt);
+
+    // Then
+    assertTrue(result.hasErrors(), "Result should have errors");
+  }
+
+  @Test
+  void shouldValidate_When_NoRequest() {
+    // Given
+    Jwt jwt = buildJwt("test@test.com", "ROLE_USER");
+
+    // When
+    OAuth2TokenValidatorResult result = validator.validate(jwt);
+
+    // Then
+    assertTrue(result.hasErrors(), "Result should have errors");
+  }
+
+  private Jwt buildJwt(String user, String userRoles) {
+    Jwt.Builder builder = Jwt.withTokenValue("test-token")
+        .header("alg", "HS256")
+        .subject("robot")
+        .issuer("api-gateway-service")
+        .claim("type", "access_token")
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plusSeconds(60));
+    if (user != null) {
+      builder.claim("x_user", user);
+    }
+    if (userRoles != null) {
+      builder.claim("x_user_roles", userRoles);
+    }
+    return builder.build();
+  }
+}
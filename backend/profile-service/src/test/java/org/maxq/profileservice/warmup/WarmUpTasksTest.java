@@ -0,0 +1,35 @@
+package org.maxq.profileservice.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+@SpringBootTest
+class WarmUpTasksTest {
+
+  @Autowired
+  private JwtWarmUpTask jwtWarmUpTask;
+
+  @Autowired
+  private DatabaseWarmUpTask databaseWarmUpTask;
+
+  @Autowired
+  private ImagePipelineWarmUpTask imagePipelineWarmUpTask;
+
+  @Test
+  void shouldRunWarmUpTasks() {
+    // Given
+
+    // When
+
+    // Then
+    assertAll(
+        () -> assertDoesNotThrow(jwtWarmUpTask::run, "JWT warm-up should not fail"),
+        () -> assertDoesNotThrow(databaseWarmUpTask::run, "Database warm-up should not fail"),
+        () -> assertDoesNotThrow(imagePipelineWarmUpTask::run, "Image pipeline warm-up should not fail")
+    );
+  }
+}
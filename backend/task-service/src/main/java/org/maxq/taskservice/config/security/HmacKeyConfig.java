@@ -0,0 +1,37 @@
+package org.maxq.taskservice.config.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.util.Base64;
+
+@Configuration
+@ConditionalOnProperty(name = "jwt.internal-auth.mode", havingValue = "hmac")
+public class HmacKeyConfig {
+
+  private static final int MIN_SECRET_BYTES = 32;
+
+  @Value("${jwt.internal-auth.secret-path}")
+  private String internalSecretPath;
+
+  @Bean(name = "internal")
+  public SecretKey internalHopSecretKey(ResourceLoader resourceLoader) throws IOException {
+    Resource resource = resourceLoader.getResource(internalSecretPath);
+    String secretContent = new String(resource.getInputStream().readAllBytes())
+        .replaceAll("\\s", "");
+
+    byte[] decodedSecret = Base64.getDecoder().decode(secretContent);
+    if (decodedSecret.length < MIN_SECRET_BYTES) {
+      throw new IllegalStateException("Internal hop secret must be at least 256 bits long");
+    }
+
+    return new SecretKeySpec(decodedSecret, "HmacSHA256");
+  }
+}
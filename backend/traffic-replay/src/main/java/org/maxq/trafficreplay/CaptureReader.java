@@ -0,0 +1,66 @@
+package org.maxq.trafficreplay;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads a gateway traffic capture log. A record cut short at the end of the log, as left by a
+ * gateway that was killed while writing, ends the capture instead of failing it.
+ */
+public class CaptureReader implements Closeable {
+
+  static final int MAGIC = 0x47575443;
+  static final int VERSION = 1;
+
+  private final DataInputStream input;
+
+  public CaptureReader(InputStream input) throws IOException {
+    this.input = new DataInputStream(new BufferedInputStream(input));
+    if (this.input.readInt() != MAGIC) {
+      throw new IOException("Not a gateway traffic capture");
+    }
+    int version = this.input.readShort();
+    if (version != VERSION) {
+      throw new IOException("Unsupported traffic capture version " + version);
+    }
+  }
+
+  /**
+   * @return requests of the capture ordered by the time they reached the gateway
+   */
+  public static List<CapturedRequest> readAll(Path file) throws IOException {
+    List<CapturedRequest> requests = new ArrayList<>();
+    try (CaptureReader reader = new CaptureReader(Files.newInputStream(file))) {
+      Optional<CapturedRequest> request = reader.next();
+      while (request.isPresent()) {
+        requests.add(request.get());
+        request = reader.next();
+      }
+    }
+    requests.sort(Comparator.comparingLong(CapturedRequest::getStartEpochMillis));
+    return requests;
+  }
+
+  public Optional<CapturedRequest> next() throws IOException {
+    try {
+      return Optional.of(CapturedRequest.readFrom(input));
+    } catch (EOFException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    input.close();
+  }
+}
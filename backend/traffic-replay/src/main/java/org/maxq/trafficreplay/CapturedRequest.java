@@ -0,0 +1,53 @@
+package org.maxq.trafficreplay;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * A request recorded by the gateway traffic capture. Mirrors {@code CapturedRequest} of the
+ * api-gateway-service, which defines the record layout.
+ */
+@AllArgsConstructor
+@Getter
+public class CapturedRequest {
+
+  private static final int NO_BODY = -1;
+
+  private final long startEpochMillis;
+  private final long durationMicros;
+  private final String routeId;
+  private final String method;
+  private final String pathTemplate;
+  private final String contentType;
+  private final int status;
+  private final long requestBytes;
+  private final long responseBytes;
+  private final long userHash;
+  private final byte[] body;
+
+  public static CapturedRequest readFrom(DataInput input) throws IOException {
+    long startEpochMillis = input.readLong();
+    long durationMicros = input.readLong();
+    String routeId = input.readUTF();
+    String method = input.readUTF();
+    String pathTemplate = input.readUTF();
+    String contentType = input.readUTF();
+    int status = input.readShort();
+    long requestBytes = input.readLong();
+    long responseBytes = input.readLong();
+    long userHash = input.readLong();
+
+    byte[] body = null;
+    int bodyLength = input.readInt();
+    if (bodyLength != NO_BODY) {
+      body = new byte[bodyLength];
+      input.readFully(body);
+    }
+
+    return new CapturedRequest(startEpochMillis, durationMicros, routeId, method, pathTemplate,
+        contentType, status, requestBytes, responseBytes, userHash, body);
+  }
+}
@@ -0,0 +1,92 @@
+package org.maxq.trafficreplay;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies of replayed requests per route. Requests failing with a server error or without a
+ * response are counted as errors and left out of the percentiles.
+ */
+public class LatencyReport {
+
+  static final String ALL_ROUTES = "all";
+
+  private static final int SERVER_ERROR = 500;
+  private static final double[] PERCENTILES = {50, 90, 99};
+
+  private final Map<String, Queue<Long>> latencies = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> errorCounts = new ConcurrentHashMap<>();
+
+  public void record(String routeId, int status, long nanos) {
+    if (status >= SERVER_ERROR) {
+      recordError(routeId);
+      return;
+    }
+    latencies.computeIfAbsent(routeId, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+    latencies.computeIfAbsent(ALL_ROUTES, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+  }
+
+  public void recordError(String routeId) {
+    errorCounts.computeIfAbsent(routeId, key -> new AtomicLong()).incrementAndGet();
+    errorCounts.computeIfAbsent(ALL_ROUTES, key -> new AtomicLong()).incrementAndGet();
+  }
+
+  public long count(String routeId) {
+    return latencies.getOrDefault(routeId, new ConcurrentLinkedQueue<>()).size();
+  }
+
+  public long errors(String routeId) {
+    return errorCounts.getOrDefault(routeId, new AtomicLong()).get();
+  }
+
+  /**
+   * @return nearest-rank percentile of the route latencies in nanoseconds, 0 without samples
+   */
+  public long percentile(String routeId, double percentile) {
+    long[] sorted = sorted(routeId);
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  public void print(PrintStream out) {
+    Map<String, Boolean> routes = new TreeMap<>();
+    latencies.keySet().forEach(route -> routes.put(route, true));
+    errorCounts.keySet().forEach(route -> routes.put(route, true));
+    routes.remove(ALL_ROUTES);
+
+    out.printf("%-40s %8s %8s %10s %10s %10s %10s%n",
+        "route", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms");
+    routes.keySet().forEach(route -> printRow(out, route));
+    printRow(out, ALL_ROUTES);
+  }
+
+  private void printRow(PrintStream out, String routeId) {
+    out.printf("%-40s %8d %8d", routeId, count(routeId), errors(routeId));
+    for (double percentile : PERCENTILES) {
+      out.printf(" %10.1f", millis(percentile(routeId, percentile)));
+    }
+    out.printf(" %10.1f%n", millis(percentile(routeId, 100)));
+  }
+
+  private long[] sorted(String routeId) {
+    long[] values = latencies.getOrDefault(routeId, new ConcurrentLinkedQueue<>()).stream()
+        .mapToLong(Long::longValue)
+        .toArray();
+    Arrays.sort(values);
+    return values;
+  }
+
+  private static double millis(long nanos) {
+    return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
@@ -0,0 +1,83 @@
+package org.maxq.trafficreplay;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+public class ReplaySettings {
+
+  static final String USAGE = """
+      Usage: traffic-replay --capture=<file> [options]
+        --target=<url>          gateway to replay against, default http://localhost:8080
+        --speed=<factor>        replay speed, 1 keeps the captured pacing, default 1
+        --id=<value>            value substituted for anonymized path segments, default 1
+        --header=<name:value>   header added to every request, may be repeated
+        --timeout=<seconds>     timeout of a single request, default 30""";
+
+  private Path capture;
+  private URI target;
+  private double speed;
+  private String idValue;
+  private Map<String, String> headers;
+  private Duration timeout;
+
+  public static ReplaySettings parse(String... args) {
+    Map<String, List<String>> options = parseOptions(args);
+    String capture = single(options, "capture", null);
+    if (capture == null) {
+      throw new IllegalArgumentException("Missing --capture");
+    }
+    double speed = Double.parseDouble(single(options, "speed", "1"));
+    if (speed <= 0) {
+      throw new IllegalArgumentException("Speed must be positive");
+    }
+
+    return new ReplaySettings(
+        Path.of(capture),
+        URI.create(single(options, "target", "http://localhost:8080")),
+        speed,
+        single(options, "id", "1"),
+        parseHeaders(options.getOrDefault("header", List.of())),
+        Duration.ofSeconds(Long.parseLong(single(options, "timeout", "30")))
+    );
+  }
+
+  private static Map<String, List<String>> parseOptions(String... args) {
+    Map<String, List<String>> options = new LinkedHashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Unexpected argument " + arg);
+      }
+      options.computeIfAbsent(arg.substring(2, separator), key -> new ArrayList<>())
+          .add(arg.substring(separator + 1));
+    }
+    return options;
+  }
+
+  private static Map<String, String> parseHeaders(List<String> values) {
+    Map<String, String> headers = new LinkedHashMap<>();
+    for (String header : values) {
+      int separator = header.indexOf(':');
+      if (separator <= 0) {
+        throw new IllegalArgumentException("Header must be given as name:value, got " + header);
+      }
+      headers.put(header.substring(0, separator).trim(), header.substring(separator + 1).trim());
+    }
+    return headers;
+  }
+
+  private static String single(Map<String, List<String>> options, String name, String defaultValue) {
+    List<String> values = options.getOrDefault(name, List.of());
+    return values.isEmpty() ? defaultValue : values.getLast();
+  }
+}
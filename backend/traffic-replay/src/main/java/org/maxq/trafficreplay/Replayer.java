@@ -0,0 +1,99 @@
+package org.maxq.trafficreplay;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends captured requests to a running stack keeping their original pacing, divided by the
+ * replay speed. Requests are fired on schedule regardless of earlier responses, so a slow stack
+ * sees the same arrival rate as production did instead of backing the load off.
+ */
+public class Replayer {
+
+  private static final String ID_PLACEHOLDER = "{id}";
+
+  private final ReplaySettings settings;
+  private final HttpClient httpClient;
+
+  public Replayer(ReplaySettings settings) {
+    this.settings = settings;
+    this.httpClient = HttpClient.newBuilder()
+        .connectTimeout(settings.getTimeout())
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+  }
+
+  public LatencyReport replay(List<CapturedRequest> requests) {
+    LatencyReport report = new LatencyReport();
+    if (requests.isEmpty()) {
+      return report;
+    }
+
+    long firstStart = requests.getFirst().getStartEpochMillis();
+    try (ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor()) {
+      CompletableFuture<?>[] responses = requests.stream()
+          .map(request -> {
+            long delayMicros = (long) ((request.getStartEpochMillis() - firstStart)
+                * TimeUnit.MILLISECONDS.toMicros(1) / settings.getSpeed());
+            CompletableFuture<Void> response = new CompletableFuture<>();
+            scheduler.schedule(() -> send(request, report).whenComplete((ignored, error) ->
+                response.complete(null)), delayMicros, TimeUnit.MICROSECONDS);
+            return response;
+          })
+          .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(responses).join();
+    }
+    return report;
+  }
+
+  HttpRequest toHttpRequest(CapturedRequest request) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder()
+        .uri(uri(request))
+        .timeout(settings.getTimeout())
+        .method(request.getMethod(), body(request));
+    if (!request.getContentType().isEmpty()) {
+      builder.header("Content-Type", request.getContentType());
+    }
+    settings.getHeaders().forEach(builder::header);
+    return builder.build();
+  }
+
+  private CompletableFuture<Void> send(CapturedRequest request, LatencyReport report) {
+    long start = System.nanoTime();
+    return httpClient.sendAsync(toHttpRequest(request), HttpResponse.BodyHandlers.discarding())
+        .handle((response, error) -> {
+          if (error == null) {
+            report.record(request.getRouteId(), response.statusCode(), System.nanoTime() - start);
+          } else {
+            report.recordError(request.getRouteId());
+          }
+          return null;
+        });
+  }
+
+  private URI uri(CapturedRequest request) {
+    String path = request.getPathTemplate().replace(ID_PLACEHOLDER, settings.getIdValue());
+    return settings.getTarget().resolve(path);
+  }
+
+  /**
+   * Captured bodies are sent as they were, others are replaced with a zero filled body of the
+   * recorded size, which keeps the transferred volume but will not pass validation upstream.
+   */
+  private static HttpRequest.BodyPublisher body(CapturedRequest request) {
+    if (request.getBody() != null) {
+      return HttpRequest.BodyPublishers.ofByteArray(request.getBody());
+    }
+    if (request.getRequestBytes() > 0) {
+      return HttpRequest.BodyPublishers.ofByteArray(new byte[(int) request.getRequestBytes()]);
+    }
+    return HttpRequest.BodyPublishers.noBody();
+  }
+}
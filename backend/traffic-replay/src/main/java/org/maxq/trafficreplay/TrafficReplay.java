@@ -0,0 +1,43 @@
+package org.maxq.trafficreplay;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Replays a traffic capture recorded by the api-gateway-service against a local stack and
+ * prints latency percentiles per route.
+ */
+public final class TrafficReplay {
+
+  private TrafficReplay() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    ReplaySettings settings;
+    try {
+      settings = ReplaySettings.parse(args);
+    } catch (IllegalArgumentException e) {
+      printUsage(System.err, e.getMessage());
+      System.exit(1);
+      return;
+    }
+    run(settings, System.out);
+  }
+
+  static void run(ReplaySettings settings, PrintStream out) throws IOException {
+    List<CapturedRequest> requests = CaptureReader.readAll(settings.getCapture());
+    out.printf("Replaying %d requests against %s at %sx speed%n",
+        requests.size(), settings.getTarget(), settings.getSpeed());
+
+    long start = System.nanoTime();
+    LatencyReport report = new Replayer(settings).replay(requests);
+    out.printf("Finished in %.1f s%n%n", (System.nanoTime() - start) / 1e9);
+    report.print(out);
+  }
+
+  private static void printUsage(PrintStream out, String error) {
+    out.println(error);
+    out.println(ReplaySettings.USAGE);
+  }
+}
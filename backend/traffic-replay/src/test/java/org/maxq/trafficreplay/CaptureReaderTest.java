@@ -0,0 +1,108 @@
+package org.maxq.trafficreplay;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CaptureReaderTest {
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  void shouldReadRequestsOrderedByStart() throws IOException {
+    // Given
+    ByteArrayOutputStream capture = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(capture)) {
+      writeHeader(output);
+      writeRecord(output, 2000, "/api/profile/profiles/me", null);
+      writeRecord(output, 1000, "/api/auth/users/{id}", "{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+    }
+    Path file = directory.resolve("traffic.bin");
+    Files.write(file, capture.toByteArray());
+
+    // When
+    List<CapturedRequest> requests = CaptureReader.readAll(file);
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, requests.size(), "Both records should be read"),
+        () -> assertEquals("/api/auth/users/{id}", requests.getFirst().getPathTemplate(),
+            "Earlier request should come first"),
+        () -> assertArrayEquals("{\"a\":1}".getBytes(StandardCharsets.UTF_8),
+            requests.getFirst().getBody(), "Captured body should be read"),
+        () -> assertNull(requests.getLast().getBody(), "Missing body should be read as null"),
+        () -> assertEquals("GET", requests.getLast().getMethod(), "Method should be read"),
+        () -> assertEquals(200, requests.getLast().getStatus(), "Status should be read")
+    );
+  }
+
+  @Test
+  void shouldStopAtTruncatedRecord() throws IOException {
+    // Given
+    ByteArrayOutputStream capture = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(capture)) {
+      writeHeader(output);
+      writeRecord(output, 1000, "/api/profile/profiles/me", null);
+      writeRecord(output, 2000, "/api/profile/profiles/me", null);
+    }
+    byte[] truncated = Arrays.copyOf(capture.toByteArray(), capture.size() - 5);
+    Path file = directory.resolve("truncated.bin");
+    Files.write(file, truncated);
+
+    // When
+    List<CapturedRequest> requests = CaptureReader.readAll(file);
+
+    // Then
+    assertEquals(1, requests.size(), "Only the complete record should be read");
+  }
+
+  @Test
+  void shouldRejectOtherFiles() {
+    // Given
+    byte[] content = "not a capture".getBytes(StandardCharsets.UTF_8);
+
+    // When + Then
+    assertThrows(IOException.class, () -> new CaptureReader(new ByteArrayInputStream(content)));
+  }
+
+  private static void writeHeader(DataOutputStream output) throws IOException {
+    output.writeInt(CaptureReader.MAGIC);
+    output.writeShort(CaptureReader.VERSION);
+  }
+
+  private static void writeRecord(DataOutputStream output, long start, String path, byte[] body)
+      throws IOException {
+    output.writeLong(start);
+    output.writeLong(1500);
+    output.writeUTF("route");
+    output.writeUTF(body == null ? "GET" : "POST");
+    output.writeUTF(path);
+    output.writeUTF(body == null ? "" : "application/json");
+    output.writeShort(200);
+    output.writeLong(body == null ? 0 : body.length);
+    output.writeLong(42);
+    output.writeLong(7);
+    if (body == null) {
+      output.writeInt(-1);
+    } else {
+      output.writeInt(body.length);
+      output.write(body);
+    }
+  }
+}
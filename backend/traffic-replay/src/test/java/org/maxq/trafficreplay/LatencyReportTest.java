@@ -0,0 +1,72 @@
+package org.maxq.trafficreplay;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyReportTest {
+
+  @Test
+  void shouldComputeNearestRankPercentiles() {
+    // Given
+    LatencyReport report = new LatencyReport();
+    for (long latency = 1; latency <= 100; latency++) {
+      report.record("route", 200, latency);
+    }
+
+    // When + Then
+    assertAll(
+        () -> assertEquals(50, report.percentile("route", 50), "p50 should be the 50th sample"),
+        () -> assertEquals(99, report.percentile("route", 99), "p99 should be the 99th sample"),
+        () -> assertEquals(100, report.percentile("route", 100), "p100 should be the maximum"),
+        () -> assertEquals(0, report.percentile("other", 50), "Unknown route should have no latency")
+    );
+  }
+
+  @Test
+  void shouldCountServerErrorsSeparately() {
+    // Given
+    LatencyReport report = new LatencyReport();
+
+    // When
+    report.record("route", 200, 10);
+    report.record("route", 404, 20);
+    report.record("route", 503, 1000);
+    report.recordError("other");
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, report.count("route"), "Responses below 500 should be measured"),
+        () -> assertEquals(1, report.errors("route"), "Server errors should be counted as errors"),
+        () -> assertEquals(2, report.errors(LatencyReport.ALL_ROUTES),
+            "Errors of all routes should be summed"),
+        () -> assertEquals(20, report.percentile("route", 100), "Errors should not skew latency")
+    );
+  }
+
+  @Test
+  void shouldPrintRowPerRoute() {
+    // Given
+    LatencyReport report = new LatencyReport();
+    report.record("profile-service", 200, 2_000_000);
+    report.record("authorization-service", 200, 1_000_000);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // When
+    report.print(new PrintStream(output, true, StandardCharsets.UTF_8));
+
+    // Then
+    String printed = output.toString(StandardCharsets.UTF_8);
+    assertAll(
+        () -> assertTrue(printed.contains("authorization-service"), "Route should be printed"),
+        () -> assertTrue(printed.contains("profile-service"), "Route should be printed"),
+        () -> assertTrue(printed.contains(LatencyReport.ALL_ROUTES), "Total should be printed")
+    );
+  }
+}
@@ -0,0 +1,81 @@
+package org.maxq.trafficreplay;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayerTest {
+
+  private final Queue<String> received = new ConcurrentLinkedQueue<>();
+  private HttpServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", exchange -> {
+      String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+      received.add(exchange.getRequestMethod() + " " + exchange.getRequestURI() + " "
+          + exchange.getRequestHeaders().getFirst("Authorization") + " " + body);
+      int status = exchange.getRequestURI().getPath().endsWith("fail") ? 503 : 200;
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void shouldReplayRequestsWithCapturedPacing() {
+    // Given
+    ReplaySettings settings = new ReplaySettings(null,
+        URI.create("http://localhost:" + server.getAddress().getPort()), 2, "7",
+        Map.of("Authorization", "Bearer token"), Duration.ofSeconds(5));
+    List<CapturedRequest> requests = List.of(
+        request(0, "GET", "/api/profile/profiles/me", null),
+        request(400, "POST", "/api/auth/users/{id}", "{\"a\":1}"),
+        request(800, "GET", "/api/profile/fail", null)
+    );
+
+    // When
+    long start = System.nanoTime();
+    LatencyReport report = new Replayer(settings).replay(requests);
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    // Then
+    assertAll(
+        () -> assertTrue(received.contains("GET /api/profile/profiles/me Bearer token "),
+            "Request should be sent with configured headers"),
+        () -> assertTrue(received.contains("POST /api/auth/users/7 Bearer token {\"a\":1}"),
+            "Anonymized id should be substituted and body sent"),
+        () -> assertEquals(2, report.count(LatencyReport.ALL_ROUTES), "Responses should be measured"),
+        () -> assertEquals(1, report.errors(LatencyReport.ALL_ROUTES), "Server error should be counted"),
+        () -> assertTrue(elapsed.compareTo(Duration.ofMillis(400)) >= 0,
+            "Pacing should be kept at double speed, took " + elapsed)
+    );
+  }
+
+  private static CapturedRequest request(long start, String method, String path, String body) {
+    return new CapturedRequest(start, 1000, "route", method, path,
+        body == null ? "" : "application/json", 200, body == null ? 0 : body.length(), 0, 0,
+        body == null ? null : body.getBytes(StandardCharsets.UTF_8));
+  }
+}